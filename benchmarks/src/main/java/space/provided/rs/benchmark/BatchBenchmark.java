@@ -0,0 +1,89 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.option.Option;
+import space.provided.rs.option.OptionLongArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of lookup results as a list of {@link Option}s, compared with the columnar {@link OptionLongArray}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"0.99", "0.5"})
+    public double hitRatio;
+
+    private List<Option<Long>> options;
+    private OptionLongArray array;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        options = new ArrayList<>(size);
+        array = new OptionLongArray(size);
+        final Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            if (random.nextDouble() < hitRatio) {
+                options.add(Option.some((long) i));
+                array.set(i, i);
+            } else {
+                options.add(Option.none());
+            }
+        }
+    }
+
+    @Benchmark
+    public int listCount() {
+        int count = 0;
+        for (Option<Long> option : options) {
+            if (option.isSome()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int arrayCount() {
+        return array.count();
+    }
+
+    @Benchmark
+    public long listSum() {
+        long sum = 0;
+        for (Option<Long> option : options) {
+            sum += option.unwrapOr(0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arraySum() {
+        final long[] sum = new long[1];
+        array.forEachSome(value -> sum[0] += value);
+        return sum[0];
+    }
+}
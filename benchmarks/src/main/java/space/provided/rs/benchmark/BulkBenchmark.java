@@ -0,0 +1,105 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.option.Option;
+import space.provided.rs.option.Options;
+import space.provided.rs.result.Partition;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.Results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Results} and {@link Options} on a validated batch, compared with the hand-written loop they replace.
+ * The collector variants show how {@link Results#sequencing()} scales over the common fork-join pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BulkBenchmark {
+
+    @Param({"10000"})
+    public int size;
+
+    private List<Result<Integer, String>> results;
+    private List<Option<Integer>> options;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        results = new ArrayList<>(size);
+        options = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(Result.ok(i));
+            options.add(i % 3 == 0 ? Option.none() : Option.some(i));
+        }
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> handWrittenSequence() {
+        final List<Integer> values = new ArrayList<>();
+        for (Result<Integer, String> result : results) {
+            if (result.isError()) {
+                return Result.error(result.unwrapError());
+            }
+            values.add(result.unwrap());
+        }
+        return Result.ok(values);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequence() {
+        return Results.sequence(results);
+    }
+
+    @Benchmark
+    public Partition<Integer, String> partition() {
+        return Results.partition(results);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequencingCollector() {
+        return results.stream().collect(Results.sequencing());
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> parallelSequencingCollector() {
+        return results.parallelStream().collect(Results.sequencing());
+    }
+
+    @Benchmark
+    public Partition<Integer, String> parallelPartitioningCollector() {
+        return results.parallelStream().collect(Results.partitioning());
+    }
+
+    @Benchmark
+    public List<Integer> handWrittenFlatten() {
+        final List<Integer> values = new ArrayList<>();
+        for (Option<Integer> option : options) {
+            if (option.isSome()) {
+                values.add(option.unwrap());
+            }
+        }
+        return values;
+    }
+
+    @Benchmark
+    public List<Integer> flatten() {
+        return Options.flatten(options);
+    }
+}
@@ -0,0 +1,14 @@
+package space.provided.rs.benchmark;
+
+/**
+ * Shape of the type profile at the invokable call sites inside the combinators.
+ * <p>
+ * Every combinator calls {@code invokable.invoke(...)} from a single bytecode, which is shared by all callers of the
+ * library. Benchmarking with only one lambda per call site shows the best case (monomorphic, fully inlined), whereas
+ * real services pass dozens of different lambdas through the same combinator. {@link #MEGAMORPHIC} feeds several lambda
+ * classes through every call site before the measurement starts, so the JIT has to fall back to virtual dispatch.
+ */
+public enum CallSite {
+    MONOMORPHIC,
+    MEGAMORPHIC,
+}
@@ -0,0 +1,94 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+import space.provided.rs.sync.Channel;
+import space.provided.rs.sync.Receiver;
+import space.provided.rs.sync.SendError;
+import space.provided.rs.sync.Sender;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a bounded {@link Channel} compared with {@link ArrayBlockingQueue}, with non-blocking operations on one
+ * thread and with two producers and two consumers passing values through the same instance.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Group)
+public class ChannelBenchmark {
+
+    private static final Integer VALUE = 42;
+    private static final int CAPACITY = 1024;
+
+    private Sender<Integer> sender;
+    private Receiver<Integer> receiver;
+    private ArrayBlockingQueue<Integer> queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final Channel<Integer> channel = Channel.bounded(CAPACITY);
+        sender = channel.sender();
+        receiver = channel.receiver();
+        queue = new ArrayBlockingQueue<>(CAPACITY);
+    }
+
+    @Benchmark
+    @Group("channelSingleThread")
+    public Option<Integer> channelSingleThread() {
+        sender.trySend(VALUE);
+        return receiver.tryRecv();
+    }
+
+    @Benchmark
+    @Group("queueSingleThread")
+    public Integer queueSingleThread() {
+        queue.offer(VALUE);
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("channelContended")
+    @GroupThreads(2)
+    public Result<Void, SendError<Integer>> channelSend() {
+        return sender.trySend(VALUE);
+    }
+
+    @Benchmark
+    @Group("channelContended")
+    @GroupThreads(2)
+    public Option<Integer> channelReceive() {
+        return receiver.tryRecv();
+    }
+
+    @Benchmark
+    @Group("queueContended")
+    @GroupThreads(2)
+    public boolean queueOffer() {
+        return queue.offer(VALUE);
+    }
+
+    @Benchmark
+    @Group("queueContended")
+    @GroupThreads(2)
+    public Integer queuePoll() {
+        return queue.poll();
+    }
+}
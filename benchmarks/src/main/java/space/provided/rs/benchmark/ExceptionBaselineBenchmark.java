@@ -0,0 +1,105 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.ResultType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error handling through exceptions, as it is done without {@link Result}. The same operation (parse and map a value,
+ * fall back on failure) is implemented with a {@code Result} chain, a try/catch with a regular exception and a
+ * try/catch with a stackless exception. The producing methods are never inlined, so the exception has to cross a real
+ * call boundary like it would in a service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ExceptionBaselineBenchmark {
+
+    @Param({"OK", "ERROR"})
+    public ResultType type;
+
+    private String input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = type == ResultType.OK ? "42" : "";
+    }
+
+    @Benchmark
+    public int result() {
+        return parseResult(input).map(i -> i * 2).unwrapOrElse(e -> -1);
+    }
+
+    @Benchmark
+    public int exception() {
+        try {
+            return parseThrowing(input) * 2;
+        } catch (ParseException exception) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int stacklessException() {
+        try {
+            return parseThrowingStackless(input) * 2;
+        } catch (StacklessParseException exception) {
+            return -1;
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static Result<Integer, String> parseResult(String input) {
+        if (input.isEmpty()) {
+            return Result.error("Empty input.");
+        }
+        return Result.ok(input.length());
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static int parseThrowing(String input) throws ParseException {
+        if (input.isEmpty()) {
+            throw new ParseException("Empty input.");
+        }
+        return input.length();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static int parseThrowingStackless(String input) throws StacklessParseException {
+        if (input.isEmpty()) {
+            throw new StacklessParseException("Empty input.");
+        }
+        return input.length();
+    }
+
+    private static final class ParseException extends Exception {
+
+        private ParseException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class StacklessParseException extends Exception {
+
+        private StacklessParseException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.option.Option;
+import space.provided.rs.option.OptionInt;
+import space.provided.rs.option.OptionType;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Conversions between {@link Option} and nullable values, {@link Optional} and the functional interfaces of the JDK.
+ * Run with {@code -prof gc}: with NONE and for {@link PlainInvokable#of}, {@code gc.alloc.rate.norm} should be zero,
+ * with SOME only the target wrapper is allocated. {@link ArgInvokable} isn't a {@link Function}, so converting it
+ * allocates the view.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InteropBenchmark {
+
+    @Param({"SOME", "NONE"})
+    public OptionType type;
+
+    private String nullable;
+    private Option<String> option;
+    private Optional<String> optional;
+    private OptionInt optionInt;
+    private OptionalInt optionalInt;
+    private PlainInvokable<String> plainInvokable;
+    private Function<String, Integer> function;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        nullable = type == OptionType.SOME ? "Foo" : null;
+        option = Option.ofNullable(nullable);
+        optional = Optional.ofNullable(nullable);
+        optionInt = type == OptionType.SOME ? OptionInt.some(42) : OptionInt.none();
+        optionalInt = type == OptionType.SOME ? OptionalInt.of(42) : OptionalInt.empty();
+        plainInvokable = () -> "Foo";
+        function = String::length;
+    }
+
+    @Benchmark
+    public Option<String> ofNullable() {
+        return Option.ofNullable(nullable);
+    }
+
+    @Benchmark
+    public String toNullable() {
+        return option.toNullable();
+    }
+
+    @Benchmark
+    public Optional<String> toOptional() {
+        return option.toOptional();
+    }
+
+    @Benchmark
+    public Option<String> fromOptional() {
+        return Option.fromOptional(optional);
+    }
+
+    @Benchmark
+    public OptionalInt optionIntToOptional() {
+        return optionInt.toOptional();
+    }
+
+    @Benchmark
+    public OptionInt optionIntFromOptional() {
+        return OptionInt.fromOptional(optionalInt);
+    }
+
+    @Benchmark
+    public PlainInvokable<String> invokableFromSupplier() {
+        return PlainInvokable.of(plainInvokable);
+    }
+
+    @Benchmark
+    public ArgInvokable<String, Integer> invokableFromFunction() {
+        return ArgInvokable.of(function);
+    }
+}
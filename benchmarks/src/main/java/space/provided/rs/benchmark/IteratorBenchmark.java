@@ -0,0 +1,80 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.iter.RsIterator;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums the present values of a list of strings until one of them is negative, with {@link RsIterator#filterMap} and
+ * {@link RsIterator#tryFold} compared with the same logic written as a {@link java.util.Iterator} loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class IteratorBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean failing;
+
+    private List<String> values;
+
+    @Setup
+    public void setUp() {
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i % 4 == 0 ? "" : String.valueOf(failing && i == size / 2 + 1 ? -i : i));
+        }
+    }
+
+    @Benchmark
+    public Result<Long, String> rsIterator() {
+        return RsIterator.of(values)
+                .filterMap(IteratorBenchmark::parse)
+                .tryFold(0L, (sum, value) -> value >= 0 ? Result.ok(sum + value) : Result.error("Negative"));
+    }
+
+    @Benchmark
+    public Result<Long, String> javaIterator() {
+        Result<Long, String> result = Result.ok(0L);
+        final Iterator<String> iterator = values.iterator();
+        while (iterator.hasNext()) {
+            final Option<Integer> value = parse(iterator.next());
+            if (value.isNone()) {
+                continue;
+            }
+            final int parsed = value.unwrap();
+            final long sum = result.unwrap();
+            result = parsed >= 0 ? Result.ok(sum + parsed) : Result.error("Negative");
+            if (result.isError()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static Option<Integer> parse(String value) {
+        return value.isEmpty() ? Option.none() : Option.some(Integer.parseInt(value));
+    }
+}
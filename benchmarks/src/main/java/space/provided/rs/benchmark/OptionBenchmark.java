@@ -0,0 +1,213 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.option.Option;
+import space.provided.rs.option.OptionType;
+import space.provided.rs.result.Result;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every public method of {@link Option}, measured on both states and with both call site shapes.
+ * Compare with {@link OptionalBaselineBenchmark} for the {@code java.util.Optional} and null check equivalents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionBenchmark {
+
+    private static final int POLLUTION_ROUNDS = 20_000;
+
+    @Param({"SOME", "NONE"})
+    public OptionType type;
+
+    @Param({"MONOMORPHIC", "MEGAMORPHIC"})
+    public CallSite callSite;
+
+    private String value;
+    private Option<String> option;
+    private Option<String> other;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        value = "Foo";
+        option = type == OptionType.SOME ? Option.some(value) : Option.none();
+        other = Option.some("Bar");
+        if (callSite == CallSite.MEGAMORPHIC) {
+            polluteProfiles(blackhole);
+        }
+    }
+
+    @Benchmark
+    public Option<String> some() {
+        return Option.some(value);
+    }
+
+    @Benchmark
+    public Option<String> none() {
+        return Option.none();
+    }
+
+    @Benchmark
+    public boolean isSome() {
+        return option.isSome();
+    }
+
+    @Benchmark
+    public boolean isNone() {
+        return option.isNone();
+    }
+
+    @Benchmark
+    public boolean isSomeAnd() {
+        return option.isSomeAnd(s -> s.length() == 3);
+    }
+
+    @Benchmark
+    public String unwrap() {
+        try {
+            return option.unwrap();
+        } catch (ValueAccessError error) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String unwrapOr() {
+        return option.unwrapOr("Bar");
+    }
+
+    @Benchmark
+    public Option<Integer> map() {
+        return option.map(String::length);
+    }
+
+    @Benchmark
+    public Integer mapOr() {
+        return option.mapOr(0, String::length);
+    }
+
+    @Benchmark
+    public Integer mapOrElse() {
+        return option.mapOrElse(() -> 0, String::length);
+    }
+
+    @Benchmark
+    public Result<String, String> okOr() {
+        return option.okOr("Missing");
+    }
+
+    @Benchmark
+    public Result<String, String> okOrElse() {
+        return option.okOrElse(() -> "Missing");
+    }
+
+    @Benchmark
+    public Option<String> andThen() {
+        return option.andThen(s -> other);
+    }
+
+    @Benchmark
+    public Option<String> andThenContinue(Blackhole blackhole) {
+        return option.andThenContinue(blackhole::consume);
+    }
+
+    @Benchmark
+    public Option<String> and() {
+        return option.and(other);
+    }
+
+    @Benchmark
+    public Option<String> filter() {
+        return option.filter(s -> s.length() == 3);
+    }
+
+    @Benchmark
+    public Option<String> or() {
+        return option.or(other);
+    }
+
+    @Benchmark
+    public Option<String> orElse() {
+        return option.orElse(() -> other);
+    }
+
+    @Benchmark
+    public Option<String> orElseContinue(Blackhole blackhole) {
+        return option.orElseContinue(() -> blackhole.consume(1));
+    }
+
+    private void polluteProfiles(Blackhole blackhole) {
+        final Option<String> some = Option.some("Foo");
+        final Option<String> none = Option.none();
+        for (int i = 0; i < POLLUTION_ROUNDS; i++) {
+            final Option<String> current = (i & 1) == 0 ? some : none;
+
+            blackhole.consume(current.isSomeAnd(String::isEmpty));
+            blackhole.consume(current.isSomeAnd(s -> s.startsWith("F")));
+            blackhole.consume(current.isSomeAnd(s -> s.endsWith("o")));
+            blackhole.consume(current.isSomeAnd(s -> s.contains("x")));
+
+            blackhole.consume(current.map(String::trim));
+            blackhole.consume(current.map(String::hashCode));
+            blackhole.consume(current.map(s -> s.charAt(0)));
+            blackhole.consume(current.map(s -> s + s));
+
+            blackhole.consume(current.mapOr(-1, String::hashCode));
+            blackhole.consume(current.mapOr(-1, s -> s.indexOf('o')));
+            blackhole.consume(current.mapOr(-1, s -> s.lastIndexOf('o')));
+            blackhole.consume(current.mapOr(-1, s -> (int) s.charAt(0)));
+
+            blackhole.consume(current.mapOrElse(() -> -1, String::hashCode));
+            blackhole.consume(current.mapOrElse(() -> -2, s -> s.indexOf('o')));
+            blackhole.consume(current.mapOrElse(() -> -3, s -> s.lastIndexOf('o')));
+            blackhole.consume(current.mapOrElse(() -> -4, s -> (int) s.charAt(0)));
+
+            blackhole.consume(current.okOrElse(() -> "A"));
+            blackhole.consume(current.okOrElse(() -> "B"));
+            blackhole.consume(current.okOrElse(String::new));
+            blackhole.consume(current.okOrElse(() -> value));
+
+            blackhole.consume(current.andThen(Option::some));
+            blackhole.consume(current.andThen(s -> Option.none()));
+            blackhole.consume(current.andThen(s -> some));
+            blackhole.consume(current.andThen(s -> Option.some(s.trim())));
+
+            blackhole.consume(current.andThenContinue(blackhole::consume));
+            blackhole.consume(current.andThenContinue(s -> blackhole.consume(s.length())));
+            blackhole.consume(current.andThenContinue(s -> blackhole.consume(s.isEmpty())));
+            blackhole.consume(current.andThenContinue(s -> blackhole.consume(s.hashCode())));
+
+            blackhole.consume(current.filter(String::isEmpty));
+            blackhole.consume(current.filter(s -> s.startsWith("F")));
+            blackhole.consume(current.filter(s -> s.endsWith("o")));
+            blackhole.consume(current.filter(s -> s.contains("x")));
+
+            blackhole.consume(current.orElse(Option::none));
+            blackhole.consume(current.orElse(() -> some));
+            blackhole.consume(current.orElse(() -> Option.some("Bar")));
+            blackhole.consume(current.orElse(() -> none));
+
+            blackhole.consume(current.orElseContinue(() -> blackhole.consume(1)));
+            blackhole.consume(current.orElseContinue(() -> blackhole.consume(2L)));
+            blackhole.consume(current.orElseContinue(() -> blackhole.consume(true)));
+            blackhole.consume(current.orElseContinue(() -> blackhole.consume('c')));
+        }
+    }
+}
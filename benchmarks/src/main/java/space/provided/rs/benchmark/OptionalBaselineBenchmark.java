@@ -0,0 +1,128 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.provided.rs.option.OptionType;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link java.util.Optional} and plain null check counterparts of the {@link OptionBenchmark} methods.
+ * Method names match their {@code Option} equivalent, prefixed with {@code optional} or {@code nullable}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OptionalBaselineBenchmark {
+
+    @Param({"SOME", "NONE"})
+    public OptionType type;
+
+    private String value;
+    private String nullable;
+    private Optional<String> optional;
+    private Optional<String> other;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        value = "Foo";
+        nullable = type == OptionType.SOME ? value : null;
+        optional = Optional.ofNullable(nullable);
+        other = Optional.of("Bar");
+    }
+
+    @Benchmark
+    public Optional<String> optionalSome() {
+        return Optional.of(value);
+    }
+
+    @Benchmark
+    public Optional<String> optionalNone() {
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public boolean optionalIsSome() {
+        return optional.isPresent();
+    }
+
+    @Benchmark
+    public String optionalUnwrap() {
+        try {
+            return optional.get();
+        } catch (NoSuchElementException exception) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String optionalUnwrapOr() {
+        return optional.orElse("Bar");
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMap() {
+        return optional.map(String::length);
+    }
+
+    @Benchmark
+    public Integer optionalMapOrElse() {
+        return optional.map(String::length).orElseGet(() -> 0);
+    }
+
+    @Benchmark
+    public Optional<String> optionalAndThen() {
+        return optional.flatMap(s -> other);
+    }
+
+    @Benchmark
+    public void optionalAndThenContinue(Blackhole blackhole) {
+        optional.ifPresent(blackhole::consume);
+    }
+
+    @Benchmark
+    public Optional<String> optionalFilter() {
+        return optional.filter(s -> s.length() == 3);
+    }
+
+    @Benchmark
+    public boolean nullableIsSome() {
+        return nullable != null;
+    }
+
+    @Benchmark
+    public String nullableUnwrapOr() {
+        return nullable != null ? nullable : "Bar";
+    }
+
+    @Benchmark
+    public Integer nullableMap() {
+        return nullable != null ? nullable.length() : null;
+    }
+
+    @Benchmark
+    public String nullableFilter() {
+        return nullable != null && nullable.length() == 3 ? nullable : null;
+    }
+
+    @Benchmark
+    public String nullableOr() {
+        return nullable != null ? nullable : "Bar";
+    }
+}
@@ -0,0 +1,108 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.ResultPipeline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A validation chain written with {@link Result} combinators on every call, compared with the same chain compiled
+ * once by {@link ResultPipeline}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    private static final ArgInvokable<String, Result<Integer, String>> PIPELINE = ResultPipeline.<String, String>start()
+            .map(String::trim)
+            .filter(value -> !value.isEmpty(), "Empty")
+            .filter(value -> value.length() < 10, "Too long")
+            .map(Integer::parseInt)
+            .filter(value -> value >= 0, "Negative")
+            .andThen(value -> value % 2 == 0 ? Result.ok(value) : Result.error("Odd"))
+            .map(value -> value / 2)
+            .orElse(error -> Result.ok(-1))
+            .build();
+
+    private static final int POLLUTION_ROUNDS = 20_000;
+
+    @Param({"42", "-42"})
+    public String input;
+
+    @Param({"MONOMORPHIC", "MEGAMORPHIC"})
+    public CallSite callSite;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        if (callSite == CallSite.MEGAMORPHIC) {
+            polluteProfiles(blackhole);
+        }
+    }
+
+    @Benchmark
+    public Result<Integer, String> combinators() {
+        return Result.<String, String>ok(input)
+                .map(String::trim)
+                .andThen(value -> !value.isEmpty() ? Result.ok(value) : Result.error("Empty"))
+                .andThen(value -> value.length() < 10 ? Result.ok(value) : Result.error("Too long"))
+                .map(Integer::parseInt)
+                .andThen(value -> value >= 0 ? Result.ok(value) : Result.error("Negative"))
+                .andThen(value -> value % 2 == 0 ? Result.ok(value) : Result.error("Odd"))
+                .map(value -> value / 2)
+                .orElse(error -> Result.ok(-1));
+    }
+
+    @Benchmark
+    public Result<Integer, String> pipeline() {
+        return PIPELINE.invoke(input);
+    }
+
+    private static void polluteProfiles(Blackhole blackhole) {
+        final ArgInvokable<String, Result<Integer, String>> other = ResultPipeline.<String, String>start()
+                .map(String::toLowerCase)
+                .filter(value -> value.startsWith("F"), value -> value)
+                .andThen(value -> Result.<Integer, String>ok(value.length()))
+                .map(value -> value + 1)
+                .orElse(error -> Result.error(error + error))
+                .build();
+        final Result<String, String> ok = Result.ok("Foo");
+        final Result<String, String> error = Result.error("Failure");
+        for (int i = 0; i < POLLUTION_ROUNDS; i++) {
+            final Result<String, String> current = (i & 1) == 0 ? ok : error;
+
+            blackhole.consume(current.map(String::trim));
+            blackhole.consume(current.map(String::hashCode));
+            blackhole.consume(current.map(s -> s.charAt(0)));
+            blackhole.consume(current.map(s -> s + s));
+
+            blackhole.consume(current.andThen(s -> Result.ok(s.trim())));
+            blackhole.consume(current.andThen(s -> Result.error(s)));
+            blackhole.consume(current.andThen(s -> Result.ok(s + s)));
+
+            blackhole.consume(current.orElse(e -> Result.ok(e)));
+            blackhole.consume(current.orElse(e -> Result.error(e.trim())));
+            blackhole.consume(current.orElse(e -> Result.ok(e + e)));
+
+            blackhole.consume(other.invoke((i & 1) == 0 ? "Foo" : "Bar"));
+            blackhole.consume(PIPELINE.invoke((i & 1) == 0 ? "42" : "-42"));
+        }
+    }
+}
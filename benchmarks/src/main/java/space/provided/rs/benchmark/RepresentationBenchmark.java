@@ -0,0 +1,92 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the base classes of the multi-release jar with the sealed ones from {@code META-INF/versions/17}, running
+ * the same workload on a random mix of both states. The {@code base} variants disable multi-release lookups, so the
+ * JVM loads the Java 8 classes. Requires a JDK 17+ build of rs4j and a JDK 17+ runtime.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class RepresentationBenchmark {
+
+    private static final String BASE_CLASSES = "-Djdk.util.jar.enableMultiRelease=false";
+
+    @Param({"1024"})
+    public int size;
+
+    private Option<Integer>[] options;
+    private Result<Integer, String>[] results;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final Random random = new Random(42);
+        options = new Option[size];
+        results = new Result[size];
+        for (int i = 0; i < size; i++) {
+            options[i] = random.nextBoolean() ? Option.some(i) : Option.none();
+            results[i] = random.nextBoolean() ? Result.ok(i) : Result.error("Failure");
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = BASE_CLASSES)
+    public long baseOption() {
+        return optionWorkload();
+    }
+
+    @Benchmark
+    @Fork(2)
+    public long sealedOption() {
+        return optionWorkload();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = BASE_CLASSES)
+    public long baseResult() {
+        return resultWorkload();
+    }
+
+    @Benchmark
+    @Fork(2)
+    public long sealedResult() {
+        return resultWorkload();
+    }
+
+    private long optionWorkload() {
+        long sum = 0;
+        for (Option<Integer> option : options) {
+            sum += option.filter(i -> (i & 1) == 0).mapOr(0, i -> i * 2);
+        }
+        return sum;
+    }
+
+    private long resultWorkload() {
+        long sum = 0;
+        for (Result<Integer, String> result : results) {
+            sum += result.andThen(i -> i > 512 ? Result.error("Too large") : Result.ok(i)).mapOrElse(String::length, i -> i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,223 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.ResultType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every public method of {@link Result}, measured on both states and with both call site shapes.
+ * Compare with {@link ExceptionBaselineBenchmark} for the equivalent try/catch based control flow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    private static final int POLLUTION_ROUNDS = 20_000;
+
+    @Param({"OK", "ERROR"})
+    public ResultType type;
+
+    @Param({"MONOMORPHIC", "MEGAMORPHIC"})
+    public CallSite callSite;
+
+    private String value;
+    private String failure;
+    private Result<String, String> result;
+    private Result<String, String> other;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        value = "Foo";
+        failure = "Failure";
+        result = type == ResultType.OK ? Result.ok(value) : Result.error(failure);
+        other = Result.ok("Bar");
+        if (callSite == CallSite.MEGAMORPHIC) {
+            polluteProfiles(blackhole);
+        }
+    }
+
+    @Benchmark
+    public Result<String, String> okEmpty() {
+        return Result.ok();
+    }
+
+    @Benchmark
+    public Result<String, String> ok() {
+        return Result.ok(value);
+    }
+
+    @Benchmark
+    public Result<String, String> errorEmpty() {
+        return Result.error();
+    }
+
+    @Benchmark
+    public Result<String, String> error() {
+        return Result.error(failure);
+    }
+
+    @Benchmark
+    public String unwrap() {
+        try {
+            return result.unwrap();
+        } catch (ValueAccessError error) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String unwrapError() {
+        try {
+            return result.unwrapError();
+        } catch (ValueAccessError error) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public boolean isOk() {
+        return result.isOk();
+    }
+
+    @Benchmark
+    public boolean isOkAnd() {
+        return result.isOkAnd(s -> s.length() == 3);
+    }
+
+    @Benchmark
+    public boolean isError() {
+        return result.isError();
+    }
+
+    @Benchmark
+    public boolean isErrorAnd() {
+        return result.isErrorAnd(s -> s.length() == 7);
+    }
+
+    @Benchmark
+    public Result<Integer, String> map() {
+        return result.map(String::length);
+    }
+
+    @Benchmark
+    public Integer mapOr() {
+        return result.mapOr(0, String::length);
+    }
+
+    @Benchmark
+    public Integer mapOrElse() {
+        return result.mapOrElse(String::length, String::length);
+    }
+
+    @Benchmark
+    public Result<String, String> and() {
+        return result.and(other);
+    }
+
+    @Benchmark
+    public Result<String, String> andThen() {
+        return result.andThen(s -> other);
+    }
+
+    @Benchmark
+    public Result<String, String> andThenContinue(Blackhole blackhole) {
+        return result.andThenContinue(blackhole::consume);
+    }
+
+    @Benchmark
+    public Result<String, String> or() {
+        return result.or(other);
+    }
+
+    @Benchmark
+    public Result<String, String> orElse() {
+        return result.orElse(e -> other);
+    }
+
+    @Benchmark
+    public Result<String, String> orElseContinue(Blackhole blackhole) {
+        return result.orElseContinue(blackhole::consume);
+    }
+
+    @Benchmark
+    public String unwrapOrElse() {
+        return result.unwrapOrElse(e -> "Bar");
+    }
+
+    private void polluteProfiles(Blackhole blackhole) {
+        final Result<String, String> ok = Result.ok("Foo");
+        final Result<String, String> error = Result.error("Failure");
+        for (int i = 0; i < POLLUTION_ROUNDS; i++) {
+            final Result<String, String> current = (i & 1) == 0 ? ok : error;
+
+            blackhole.consume(current.isOkAnd(String::isEmpty));
+            blackhole.consume(current.isOkAnd(s -> s.startsWith("F")));
+            blackhole.consume(current.isOkAnd(s -> s.endsWith("o")));
+            blackhole.consume(current.isOkAnd(s -> s.contains("x")));
+
+            blackhole.consume(current.isErrorAnd(String::isEmpty));
+            blackhole.consume(current.isErrorAnd(s -> s.startsWith("F")));
+            blackhole.consume(current.isErrorAnd(s -> s.endsWith("e")));
+            blackhole.consume(current.isErrorAnd(s -> s.contains("x")));
+
+            blackhole.consume(current.map(String::trim));
+            blackhole.consume(current.map(String::hashCode));
+            blackhole.consume(current.map(s -> s.charAt(0)));
+            blackhole.consume(current.map(s -> s + s));
+
+            blackhole.consume(current.mapOr(-1, String::hashCode));
+            blackhole.consume(current.mapOr(-1, s -> s.indexOf('o')));
+            blackhole.consume(current.mapOr(-1, s -> s.lastIndexOf('o')));
+            blackhole.consume(current.mapOr(-1, s -> (int) s.charAt(0)));
+
+            blackhole.consume(current.mapOrElse(String::hashCode, String::hashCode));
+            blackhole.consume(current.mapOrElse(e -> -2, s -> s.indexOf('o')));
+            blackhole.consume(current.mapOrElse(e -> -3, s -> s.lastIndexOf('o')));
+            blackhole.consume(current.mapOrElse(e -> e.indexOf('e'), s -> (int) s.charAt(0)));
+
+            blackhole.consume(current.andThen(Result::ok));
+            blackhole.consume(current.andThen(s -> Result.error(s)));
+            blackhole.consume(current.andThen(s -> ok));
+            blackhole.consume(current.andThen(s -> Result.ok(s.trim())));
+
+            blackhole.consume(current.andThenContinue(blackhole::consume));
+            blackhole.consume(current.andThenContinue(s -> blackhole.consume(s.length())));
+            blackhole.consume(current.andThenContinue(s -> blackhole.consume(s.isEmpty())));
+            blackhole.consume(current.andThenContinue(s -> blackhole.consume(s.hashCode())));
+
+            blackhole.consume(current.orElse(Result::error));
+            blackhole.consume(current.orElse(e -> ok));
+            blackhole.consume(current.orElse(e -> Result.ok(e.trim())));
+            blackhole.consume(current.orElse(e -> error));
+
+            blackhole.consume(current.orElseContinue(blackhole::consume));
+            blackhole.consume(current.orElseContinue(e -> blackhole.consume(e.length())));
+            blackhole.consume(current.orElseContinue(e -> blackhole.consume(e.isEmpty())));
+            blackhole.consume(current.orElseContinue(e -> blackhole.consume(e.hashCode())));
+
+            blackhole.consume(current.unwrapOrElse(String::trim));
+            blackhole.consume(current.unwrapOrElse(e -> "A"));
+            blackhole.consume(current.unwrapOrElse(e -> e + e));
+            blackhole.consume(current.unwrapOrElse(String::toUpperCase));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package space.provided.rs.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.Results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fan-out of CPU-bound calls with {@link Results#traverseParallel} on pools of 1 to N threads, compared with the
+ * sequential {@link Results#traverse} and a hand-written {@link CompletableFuture#allOf}. The failing variant returns
+ * an error from the first call, where {@code allOf} still waits for all others.
+ * <p>
+ * The scaling of the ok variant only shows with at least as many cores as the largest {@code parallelism}; on fewer
+ * cores the pool threads share them and all thread counts take about as long as {@code sequential}. Pass
+ * {@code -p parallelism=1,2,4,...} up to the core count of the machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TraverseParallelBenchmark {
+
+    private static final long WORK = 2_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"256"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean failing;
+
+    private ForkJoinPool pool;
+    private List<Integer> values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> sequential() {
+        return Results.traverse(values, this::call);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> traverseParallel() throws InterruptedException {
+        return Results.traverseParallel(values, this::call, pool);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> allOf() {
+        final List<CompletableFuture<Result<Integer, String>>> futures = new ArrayList<>(size);
+        for (Integer value : values) {
+            futures.add(CompletableFuture.supplyAsync(() -> call(value), pool));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        final List<Integer> oks = new ArrayList<>(size);
+        for (CompletableFuture<Result<Integer, String>> future : futures) {
+            final Result<Integer, String> result = future.join();
+            if (result.isError()) {
+                return Result.error(result.unwrapError());
+            }
+            oks.add(result.unwrap());
+        }
+        return Result.ok(oks);
+    }
+
+    private Result<Integer, String> call(Integer value) {
+        if (failing && value == 0) {
+            return Result.error("Failed");
+        }
+        Blackhole.consumeCPU(WORK);
+        return Result.ok(value);
+    }
+}
@@ -0,0 +1,112 @@
+package space.provided.rs.cache;
+
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.option.Option;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes a lookup which returns an {@link Option}. SOME and NONE are cached with separate time to live, so repeated
+ * lookups of missing keys don't reach the loader either. The cache is bounded and evicts with the CLOCK algorithm,
+ * concurrent misses on the same key invoke the loader only once.
+ * <pre>{@code
+ * final CachedLookup<Long, User> users = CachedLookup.builder(repository::findUser)
+ *         .maximumSize(10_000)
+ *         .noneTtl(Duration.ofSeconds(30))
+ *         .build();
+ * }</pre>
+ */
+public final class CachedLookup<Key, Value> implements ArgInvokable<Key, Option<Value>> {
+
+    private final ClockCache<Key, Option<Value>> cache;
+
+    private CachedLookup(Builder<Key, Value> builder) {
+        final long someTtl = builder.someTtl;
+        final long noneTtl = builder.noneTtl;
+        this.cache = new ClockCache<>(builder.maximumSize, builder.loader, option -> option.isSome() ? someTtl : noneTtl, builder.ticker);
+    }
+
+    public static <Key, Value> Builder<Key, Value> builder(ArgInvokable<Key, Option<Value>> loader) {
+        return new Builder<>(loader);
+    }
+
+    public Option<Value> get(Key key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public Option<Value> invoke(Key key) {
+        return cache.get(key);
+    }
+
+    public void invalidate(Key key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    /**
+     * By default up to 1024 entries are kept and neither SOME nor NONE expire.
+     */
+    public static final class Builder<Key, Value> {
+
+        private final ArgInvokable<Key, Option<Value>> loader;
+        private int maximumSize = 1024;
+        private long someTtl = Long.MAX_VALUE;
+        private long noneTtl = Long.MAX_VALUE;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(ArgInvokable<Key, Option<Value>> loader) {
+            this.loader = loader;
+        }
+
+        public Builder<Key, Value> maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<Key, Value> someTtl(Duration ttl) {
+            this.someTtl = Ttl.nanos(ttl);
+            return this;
+        }
+
+        /**
+         * {@link Duration#ZERO} turns off negative caching.
+         */
+        public Builder<Key, Value> noneTtl(Duration ttl) {
+            this.noneTtl = Ttl.nanos(ttl);
+            return this;
+        }
+
+        /**
+         * The time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder<Key, Value> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CachedLookup<Key, Value> build() {
+            return new CachedLookup<>(this);
+        }
+    }
+}
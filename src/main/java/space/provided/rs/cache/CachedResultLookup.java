@@ -0,0 +1,102 @@
+package space.provided.rs.cache;
+
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.result.Result;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Memoizes a lookup which returns a {@link Result}, like {@link CachedLookup}. Ok values and errors have separate time
+ * to live; errors aren't cached unless {@link Builder#errorTtl} is set, so a failed lookup is retried by the next call.
+ */
+public final class CachedResultLookup<Key, Value, Error> implements ArgInvokable<Key, Result<Value, Error>> {
+
+    private final ClockCache<Key, Result<Value, Error>> cache;
+
+    private CachedResultLookup(Builder<Key, Value, Error> builder) {
+        final long okTtl = builder.okTtl;
+        final long errorTtl = builder.errorTtl;
+        this.cache = new ClockCache<>(builder.maximumSize, builder.loader, result -> result.isOk() ? okTtl : errorTtl, builder.ticker);
+    }
+
+    public static <Key, Value, Error> Builder<Key, Value, Error> builder(ArgInvokable<Key, Result<Value, Error>> loader) {
+        return new Builder<>(loader);
+    }
+
+    public Result<Value, Error> get(Key key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public Result<Value, Error> invoke(Key key) {
+        return cache.get(key);
+    }
+
+    public void invalidate(Key key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    /**
+     * By default up to 1024 entries are kept, ok values don't expire and errors aren't cached.
+     */
+    public static final class Builder<Key, Value, Error> {
+
+        private final ArgInvokable<Key, Result<Value, Error>> loader;
+        private int maximumSize = 1024;
+        private long okTtl = Long.MAX_VALUE;
+        private long errorTtl = 0;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(ArgInvokable<Key, Result<Value, Error>> loader) {
+            this.loader = loader;
+        }
+
+        public Builder<Key, Value, Error> maximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<Key, Value, Error> okTtl(Duration ttl) {
+            this.okTtl = Ttl.nanos(ttl);
+            return this;
+        }
+
+        public Builder<Key, Value, Error> errorTtl(Duration ttl) {
+            this.errorTtl = Ttl.nanos(ttl);
+            return this;
+        }
+
+        /**
+         * The time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder<Key, Value, Error> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CachedResultLookup<Key, Value, Error> build() {
+            return new CachedResultLookup<>(this);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package space.provided.rs.cache;
+
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ToLongArgInvokable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The bounded, loading cache behind {@link CachedLookup} and {@link CachedResultLookup}.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap} and in a ring of {@code maximumSize} slots. A hit only sets the
+ * referenced flag of its entry, so reads don't contend. When a new entry is admitted into a full ring, the clock hand
+ * clears referenced flags until it finds an entry which wasn't read since the last pass and evicts that one. The first
+ * miss on a key inserts a loading entry which later callers wait for, so the loader runs once per key at a time.
+ */
+final class ClockCache<Key, Value> {
+
+    private static final int LOADING = 0;
+    private static final int LOADED = 1;
+    private static final int FAILED = 2;
+
+    private final ConcurrentHashMap<Key, Node<Key, Value>> map;
+    private final ArgInvokable<Key, Value> loader;
+    private final ToLongArgInvokable<Value> ttl;
+    private final LongSupplier ticker;
+    private final Node<?, ?>[] ring;
+    private int hand;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param ttl the time to live of a loaded value in nanoseconds, {@code 0} doesn't cache it at all
+     */
+    ClockCache(int maximumSize, ArgInvokable<Key, Value> loader, ToLongArgInvokable<Value> ttl, LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.map = new ConcurrentHashMap<>();
+        this.loader = loader;
+        this.ttl = ttl;
+        this.ticker = ticker;
+        this.ring = new Node<?, ?>[maximumSize];
+    }
+
+    Value get(Key key) {
+        while (true) {
+            final Node<Key, Value> node = map.get(key);
+            if (node != null) {
+                // Callers which waited for a load take its value even if it isn't cached.
+                final boolean inFlight = node.state == LOADING;
+                if (node.await() == LOADED && (inFlight || ticker.getAsLong() - node.expiresAt < 0)) {
+                    node.referenced = true;
+                    hits.increment();
+                    return node.value;
+                }
+                remove(key, node);
+                continue;
+            }
+            final Node<Key, Value> loading = new Node<>(key);
+            if (map.putIfAbsent(key, loading) == null) {
+                misses.increment();
+                return load(loading);
+            }
+        }
+    }
+
+    void invalidate(Key key) {
+        final Node<Key, Value> node = map.get(key);
+        if (node != null) {
+            remove(key, node);
+        }
+    }
+
+    void invalidateAll() {
+        for (Node<Key, Value> node : map.values()) {
+            remove(node.key, node);
+        }
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Anything that throws before the node is completed fails it, otherwise callers waiting for it would hang.
+     */
+    private Value load(Node<Key, Value> node) {
+        final Value value;
+        final long now;
+        final long timeToLive;
+        try {
+            value = loader.invoke(node.key);
+            if (value == null) {
+                throw new NullPointerException("The loader returned null instead of a value.");
+            }
+            now = ticker.getAsLong();
+            timeToLive = ttl.invoke(value);
+        } catch (RuntimeException | Error exception) {
+            map.remove(node.key, node);
+            node.complete(null, 0, FAILED);
+            throw exception;
+        }
+        if (timeToLive <= 0) {
+            map.remove(node.key, node);
+            node.complete(value, now, LOADED);
+            return value;
+        }
+        node.complete(value, now + timeToLive, LOADED);
+        admit(node);
+        return value;
+    }
+
+    private void remove(Key key, Node<Key, Value> node) {
+        if (map.remove(key, node)) {
+            node.removed = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void admit(Node<Key, Value> node) {
+        synchronized (ring) {
+            if (node.removed) {
+                return;
+            }
+            while (true) {
+                final Node<Key, Value> current = (Node<Key, Value>) ring[hand];
+                if (current != null && !current.removed) {
+                    if (current.referenced) {
+                        current.referenced = false;
+                        advance();
+                        continue;
+                    }
+                    if (map.remove(current.key, current)) {
+                        evictions.increment();
+                    }
+                    current.removed = true;
+                }
+                ring[hand] = node;
+                advance();
+                return;
+            }
+        }
+    }
+
+    private void advance() {
+        if (++hand == ring.length) {
+            hand = 0;
+        }
+    }
+
+    private static final class Node<Key, Value> {
+
+        private final Key key;
+        private Value value;
+        private long expiresAt;
+        private volatile int state = LOADING;
+        private volatile boolean referenced;
+        private volatile boolean removed;
+
+        private Node(Key key) {
+            this.key = key;
+        }
+
+        private synchronized void complete(Value value, long expiresAt, int state) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.state = state;
+            notifyAll();
+        }
+
+        private int await() {
+            int state = this.state;
+            if (state != LOADING) {
+                return state;
+            }
+            boolean interrupted = false;
+            synchronized (this) {
+                while ((state = this.state) == LOADING) {
+                    try {
+                        wait();
+                    } catch (InterruptedException exception) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return state;
+        }
+    }
+}
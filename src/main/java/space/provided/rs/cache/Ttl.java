@@ -0,0 +1,23 @@
+package space.provided.rs.cache;
+
+import java.time.Duration;
+
+final class Ttl {
+
+    private Ttl() {
+    }
+
+    /**
+     * Converts to nanoseconds, saturating at {@link Long#MAX_VALUE} which never expires.
+     */
+    static long nanos(Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Negative time to live: " + ttl);
+        }
+        try {
+            return ttl.toNanos();
+        } catch (ArithmeticException exception) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
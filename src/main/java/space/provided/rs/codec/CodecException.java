@@ -0,0 +1,13 @@
+package space.provided.rs.codec;
+
+/**
+ * Thrown when decoding input which was not written by the matching codec.
+ */
+public final class CodecException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CodecException(String message) {
+        super(message);
+    }
+}
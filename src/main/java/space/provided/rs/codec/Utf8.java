@@ -0,0 +1,118 @@
+package space.provided.rs.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 directly from and to a buffer, without going through an intermediate {@code byte[]}. Like the JDK, unpaired
+ * surrogates are written as {@code '?'} and malformed input is read as U+FFFD.
+ */
+final class Utf8 {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private Utf8() {
+    }
+
+    static int encodedLength(CharSequence value) {
+        final int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    // Written as '?'.
+                } else {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    static void encode(CharSequence value, ByteBuffer buffer) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >>> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >>> 18));
+                buffer.put((byte) (0x80 | codePoint >>> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >>> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >>> 12));
+                buffer.put((byte) (0x80 | c >>> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    static String decode(ByteBuffer buffer, int bytes) {
+        if (buffer.hasArray()) {
+            final int position = buffer.position();
+            final String value = new String(buffer.array(), buffer.arrayOffset() + position, bytes, StandardCharsets.UTF_8);
+            buffer.position(position + bytes);
+            return value;
+        }
+        final char[] chars = new char[bytes];
+        final int end = buffer.position() + bytes;
+        int count = 0;
+        while (buffer.position() < end) {
+            final int b = buffer.get() & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if (b >= 0xC2 && b < 0xE0) {
+                final int b1 = continuation(buffer, end);
+                chars[count++] = b1 < 0 ? REPLACEMENT : (char) ((b & 0x1F) << 6 | b1);
+            } else if (b >= 0xE0 && b < 0xF0) {
+                final int b1 = continuation(buffer, end);
+                final int b2 = b1 < 0 ? -1 : continuation(buffer, end);
+                final int c = (b & 0x0F) << 12 | b1 << 6 | b2;
+                chars[count++] = b2 < 0 || c < 0x800 || Character.isSurrogate((char) c) ? REPLACEMENT : (char) c;
+            } else if (b >= 0xF0 && b < 0xF5) {
+                final int b1 = continuation(buffer, end);
+                final int b2 = b1 < 0 ? -1 : continuation(buffer, end);
+                final int b3 = b2 < 0 ? -1 : continuation(buffer, end);
+                final int codePoint = (b & 0x07) << 18 | b1 << 12 | b2 << 6 | b3;
+                if (b3 < 0 || codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT) {
+                    chars[count++] = REPLACEMENT;
+                } else {
+                    chars[count++] = Character.highSurrogate(codePoint);
+                    chars[count++] = Character.lowSurrogate(codePoint);
+                }
+            } else {
+                chars[count++] = REPLACEMENT;
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Consumes the next byte if it is a continuation byte and returns its payload, otherwise returns -1 and leaves it.
+     */
+    private static int continuation(ByteBuffer buffer, int end) {
+        final int position = buffer.position();
+        if (position >= end) {
+            return -1;
+        }
+        final int b = buffer.get(position) & 0xFF;
+        if ((b & 0xC0) != 0x80) {
+            return -1;
+        }
+        buffer.position(position + 1);
+        return b & 0x3F;
+    }
+}
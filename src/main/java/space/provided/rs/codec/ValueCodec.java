@@ -0,0 +1,17 @@
+package space.provided.rs.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values to and reads them from a {@link ByteBuffer}, starting at its position and advancing it. Heap and
+ * direct buffers are treated alike, so values can be written straight into mapped or socket buffers.
+ * <p>
+ * Running out of space or input surfaces as {@link java.nio.BufferOverflowException} and
+ * {@link java.nio.BufferUnderflowException}, invalid input as {@link CodecException}.
+ */
+public interface ValueCodec<Value> {
+
+    void encode(Value value, ByteBuffer buffer);
+
+    Value decode(ByteBuffer buffer) throws CodecException;
+}
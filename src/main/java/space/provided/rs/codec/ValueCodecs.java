@@ -0,0 +1,306 @@
+package space.provided.rs.codec;
+
+import space.provided.rs.option.Option;
+import space.provided.rs.option.OptionDouble;
+import space.provided.rs.option.OptionInt;
+import space.provided.rs.option.OptionLong;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.ResultDouble;
+import space.provided.rs.result.ResultInt;
+import space.provided.rs.result.ResultLong;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Codecs for common values and for {@link Option} and {@link Result}, which are written as a one-byte tag followed by
+ * the payload of the present value, if any. The primitive specializations write their value without boxing.
+ * <p>
+ * Strings and byte arrays are prefixed with their length in bytes, {@code -1} marks {@code null}. Multi-byte numbers
+ * use the byte order of the buffer.
+ */
+public final class ValueCodecs {
+
+    public static final byte NONE = 0;
+    public static final byte SOME = 1;
+    public static final byte OK = 0;
+    public static final byte ERROR = 1;
+
+    public static final ValueCodec<Integer> INT = new ValueCodec<Integer>() {
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    public static final ValueCodec<Long> LONG = new ValueCodec<Long>() {
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    public static final ValueCodec<Double> DOUBLE = new ValueCodec<Double>() {
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    public static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<Boolean>() {
+        @Override
+        public void encode(Boolean value, ByteBuffer buffer) {
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Boolean decode(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    };
+
+    /**
+     * UTF-8, encoded straight into the buffer.
+     */
+    public static final ValueCodec<String> STRING = new ValueCodec<String>() {
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            if (value == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            final int length = Utf8.encodedLength(value);
+            if (buffer.remaining() < Integer.BYTES + length) {
+                throw new BufferOverflowException();
+            }
+            buffer.putInt(length);
+            Utf8.encode(value, buffer);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            final int length = length(buffer);
+            return length < 0 ? null : Utf8.decode(buffer, length);
+        }
+    };
+
+    public static final ValueCodec<byte[]> BYTES = new ValueCodec<byte[]>() {
+        @Override
+        public void encode(byte[] value, ByteBuffer buffer) {
+            if (value == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            if (buffer.remaining() < Integer.BYTES + value.length) {
+                throw new BufferOverflowException();
+            }
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer buffer) {
+            final int length = length(buffer);
+            if (length < 0) {
+                return null;
+            }
+            final byte[] value = new byte[length];
+            buffer.get(value);
+            return value;
+        }
+    };
+
+    public static final ValueCodec<OptionInt> OPTION_INT = new ValueCodec<OptionInt>() {
+        @Override
+        public void encode(OptionInt option, ByteBuffer buffer) {
+            if (option.isSome()) {
+                buffer.put(SOME).putInt(option.unwrap());
+            } else {
+                buffer.put(NONE);
+            }
+        }
+
+        @Override
+        public OptionInt decode(ByteBuffer buffer) {
+            return tag(buffer, NONE, SOME) == SOME ? OptionInt.some(buffer.getInt()) : OptionInt.none();
+        }
+    };
+
+    public static final ValueCodec<OptionLong> OPTION_LONG = new ValueCodec<OptionLong>() {
+        @Override
+        public void encode(OptionLong option, ByteBuffer buffer) {
+            if (option.isSome()) {
+                buffer.put(SOME).putLong(option.unwrap());
+            } else {
+                buffer.put(NONE);
+            }
+        }
+
+        @Override
+        public OptionLong decode(ByteBuffer buffer) {
+            return tag(buffer, NONE, SOME) == SOME ? OptionLong.some(buffer.getLong()) : OptionLong.none();
+        }
+    };
+
+    public static final ValueCodec<OptionDouble> OPTION_DOUBLE = new ValueCodec<OptionDouble>() {
+        @Override
+        public void encode(OptionDouble option, ByteBuffer buffer) {
+            if (option.isSome()) {
+                buffer.put(SOME).putDouble(option.unwrap());
+            } else {
+                buffer.put(NONE);
+            }
+        }
+
+        @Override
+        public OptionDouble decode(ByteBuffer buffer) {
+            return tag(buffer, NONE, SOME) == SOME ? OptionDouble.some(buffer.getDouble()) : OptionDouble.none();
+        }
+    };
+
+    private ValueCodecs() {
+    }
+
+    public static <Value> ValueCodec<Option<Value>> option(ValueCodec<Value> codec) {
+        return new ValueCodec<Option<Value>>() {
+            @Override
+            public void encode(Option<Value> option, ByteBuffer buffer) {
+                if (option.isSome()) {
+                    buffer.put(SOME);
+                    codec.encode(option.unwrap(), buffer);
+                } else {
+                    buffer.put(NONE);
+                }
+            }
+
+            @Override
+            public Option<Value> decode(ByteBuffer buffer) {
+                return tag(buffer, NONE, SOME) == SOME ? Option.some(codec.decode(buffer)) : Option.none();
+            }
+        };
+    }
+
+    public static <Ok, Err> ValueCodec<Result<Ok, Err>> result(ValueCodec<Ok> okCodec, ValueCodec<Err> errorCodec) {
+        return new ValueCodec<Result<Ok, Err>>() {
+            @Override
+            public void encode(Result<Ok, Err> result, ByteBuffer buffer) {
+                if (result.isOk()) {
+                    buffer.put(OK);
+                    okCodec.encode(result.unwrap(), buffer);
+                } else {
+                    buffer.put(ERROR);
+                    errorCodec.encode(result.unwrapError(), buffer);
+                }
+            }
+
+            @Override
+            public Result<Ok, Err> decode(ByteBuffer buffer) {
+                if (tag(buffer, OK, ERROR) == OK) {
+                    return Result.ok(okCodec.decode(buffer));
+                }
+                return Result.error(errorCodec.decode(buffer));
+            }
+        };
+    }
+
+    public static <Err> ValueCodec<ResultInt<Err>> resultInt(ValueCodec<Err> errorCodec) {
+        return new ValueCodec<ResultInt<Err>>() {
+            @Override
+            public void encode(ResultInt<Err> result, ByteBuffer buffer) {
+                if (result.isOk()) {
+                    buffer.put(OK).putInt(result.unwrap());
+                } else {
+                    buffer.put(ERROR);
+                    errorCodec.encode(result.unwrapError(), buffer);
+                }
+            }
+
+            @Override
+            public ResultInt<Err> decode(ByteBuffer buffer) {
+                if (tag(buffer, OK, ERROR) == OK) {
+                    return ResultInt.ok(buffer.getInt());
+                }
+                return ResultInt.error(errorCodec.decode(buffer));
+            }
+        };
+    }
+
+    public static <Err> ValueCodec<ResultLong<Err>> resultLong(ValueCodec<Err> errorCodec) {
+        return new ValueCodec<ResultLong<Err>>() {
+            @Override
+            public void encode(ResultLong<Err> result, ByteBuffer buffer) {
+                if (result.isOk()) {
+                    buffer.put(OK).putLong(result.unwrap());
+                } else {
+                    buffer.put(ERROR);
+                    errorCodec.encode(result.unwrapError(), buffer);
+                }
+            }
+
+            @Override
+            public ResultLong<Err> decode(ByteBuffer buffer) {
+                if (tag(buffer, OK, ERROR) == OK) {
+                    return ResultLong.ok(buffer.getLong());
+                }
+                return ResultLong.error(errorCodec.decode(buffer));
+            }
+        };
+    }
+
+    public static <Err> ValueCodec<ResultDouble<Err>> resultDouble(ValueCodec<Err> errorCodec) {
+        return new ValueCodec<ResultDouble<Err>>() {
+            @Override
+            public void encode(ResultDouble<Err> result, ByteBuffer buffer) {
+                if (result.isOk()) {
+                    buffer.put(OK).putDouble(result.unwrap());
+                } else {
+                    buffer.put(ERROR);
+                    errorCodec.encode(result.unwrapError(), buffer);
+                }
+            }
+
+            @Override
+            public ResultDouble<Err> decode(ByteBuffer buffer) {
+                if (tag(buffer, OK, ERROR) == OK) {
+                    return ResultDouble.ok(buffer.getDouble());
+                }
+                return ResultDouble.error(errorCodec.decode(buffer));
+            }
+        };
+    }
+
+    private static byte tag(ByteBuffer buffer, byte first, byte second) {
+        final byte tag = buffer.get();
+        if (tag != first && tag != second) {
+            throw new CodecException("Unknown tag " + tag + " at position " + (buffer.position() - 1) + ".");
+        }
+        return tag;
+    }
+
+    private static int length(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < -1) {
+            throw new CodecException("Invalid length " + length + " at position " + (buffer.position() - Integer.BYTES) + ".");
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+}
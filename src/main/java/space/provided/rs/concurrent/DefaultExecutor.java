@@ -0,0 +1,38 @@
+package space.provided.rs.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The executor used by the asynchronous and concurrent utilities unless one is passed explicitly.
+ * <p>
+ * On Java 21+ this is a virtual-thread-per-task executor, so blocking invokables don't tie up platform threads.
+ * Older runtimes fall back to {@link ForkJoinPool#commonPool()}. The virtual thread executor is looked up reflectively,
+ * as the library itself targets Java 8.
+ */
+public final class DefaultExecutor {
+
+    private static final Executor EXECUTOR = create();
+
+    private DefaultExecutor() {
+    }
+
+    public static Executor get() {
+        return EXECUTOR;
+    }
+
+    public static boolean usesVirtualThreads() {
+        return !(EXECUTOR instanceof ForkJoinPool);
+    }
+
+    private static Executor create() {
+        try {
+            final Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // Not available (Java 8 to 18) or still a preview feature (Java 19 and 20).
+            return ForkJoinPool.commonPool();
+        }
+    }
+}
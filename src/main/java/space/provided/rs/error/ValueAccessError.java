@@ -1,8 +1,32 @@
 package space.provided.rs.error;
 
+import space.provided.rs.jfr.Events;
+
+/**
+ * Thrown when accessing a value that is not present, e.g. calling {@code unwrap} on {@code None}.
+ * <p>
+ * The library only throws it with constant messages, so throwing doesn't format or allocate a message.
+ * Capturing the stack trace can be turned off with {@link #setStackTraceEnabled(boolean)} or by starting the JVM with
+ * {@code -Drs4j.valueAccessError.stackTrace=false}, which makes throwing cheap enough to be used as control flow.
+ */
 public final class ValueAccessError extends Error {
 
+    private static final long serialVersionUID = 1L;
+
+    public static final String STACK_TRACE_PROPERTY = "rs4j.valueAccessError.stackTrace";
+
+    private static volatile boolean stackTraceEnabled = !"false".equalsIgnoreCase(System.getProperty(STACK_TRACE_PROPERTY));
+
     public ValueAccessError(String message) {
-        super(message);
+        super(message, null, true, stackTraceEnabled);
+        Events.valueAccessError(this);
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
     }
 }
@@ -0,0 +1,57 @@
+package space.provided.rs.internal;
+
+/**
+ * Presence bitset shared by the option arrays and {@link space.provided.rs.result.ResultBatch}, one bit per slot in
+ * little-endian words.
+ * <p>
+ * Public only to be reachable from both packages, it is not meant to be used outside the library.
+ */
+public final class Presence {
+
+    private Presence() {
+    }
+
+    public static long[] words(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        return new long[(length + 63) >>> 6];
+    }
+
+    public static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    public static boolean get(long[] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] words, int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] words, int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    public static int count(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public static int firstClear(long[] words, int length) {
+        for (int i = 0; i < words.length; i++) {
+            final long word = ~words[i];
+            if (word != 0) {
+                final int index = (i << 6) + Long.numberOfTrailingZeros(word);
+                return index < length ? index : -1;
+            }
+        }
+        return -1;
+    }
+}
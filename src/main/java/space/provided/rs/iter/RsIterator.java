@@ -0,0 +1,615 @@
+package space.provided.rs.iter;
+
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.BiArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+/**
+ * A lazy iterator whose {@link #next()} returns an {@link Option}, NONE once it is exhausted and on every call after
+ * that.
+ * <p>
+ * Adapters don't do anything until a value is requested. Terminal operations such as {@link #fold} and
+ * {@link #tryFold} use internal iteration through {@link #forEachWhile}, where every adapter hands plain values to the
+ * next one, so a chain of adapters runs as one loop without an {@link Option} per element. {@code filter} and
+ * {@code takeWhile} pass the options of their source through as they are, and {@code filterMap} skips the shared NONE
+ * instance without allocating.
+ */
+public abstract class RsIterator<Value> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    protected RsIterator() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Value> RsIterator<Value> empty() {
+        return new ArraySource<>((Value[]) EMPTY);
+    }
+
+    /**
+     * Iterates over a copy of the values, so later changes to the array don't show up. The copy is never handed out,
+     * which keeps the varargs safe.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <Value> RsIterator<Value> of(Value... values) {
+        return new ArraySource<>(values.clone());
+    }
+
+    /**
+     * {@link RandomAccess} lists are walked by index.
+     */
+    public static <Value> RsIterator<Value> of(Iterable<Value> iterable) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return new ListSource<>((List<Value>) iterable);
+        }
+        return new IteratorSource<>(iterable.iterator());
+    }
+
+    public static <Value> RsIterator<Value> of(Iterator<Value> iterator) {
+        return new IteratorSource<>(iterator);
+    }
+
+    /**
+     * Counts from {@code start} (inclusive) to {@code end} (exclusive).
+     */
+    public static RsIterator<Integer> range(int start, int end) {
+        return new RangeSource(start, end);
+    }
+
+    /**
+     * Invokes {@code invokable} for every value until it returns NONE, for cursors and paged APIs.
+     */
+    public static <Value> RsIterator<Value> from(PlainInvokable<Option<Value>> invokable) {
+        return new Generator<>(invokable);
+    }
+
+    public abstract Option<Value> next();
+
+    /**
+     * Hands the remaining values to {@code consumer} until it returns {@code false}. Returns {@code false} if the
+     * consumer stopped early and {@code true} if the iterator is exhausted.
+     */
+    public boolean forEachWhile(Predicate<? super Value> consumer) {
+        Option<Value> option;
+        while ((option = next()).isSome()) {
+            if (!consumer.test(option.unwrap())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public <Mapped> RsIterator<Mapped> map(ArgInvokable<Value, Mapped> invokable) {
+        return new MapAdapter<>(this, invokable);
+    }
+
+    public RsIterator<Value> filter(Predicate<Value> predicate) {
+        return new FilterAdapter<>(this, predicate);
+    }
+
+    /**
+     * Maps and filters in one step, values for which {@code invokable} returns NONE are skipped.
+     */
+    public <Mapped> RsIterator<Mapped> filterMap(ArgInvokable<Value, Option<Mapped>> invokable) {
+        return new FilterMapAdapter<>(this, invokable);
+    }
+
+    /**
+     * Ends with the first value which doesn't match; that value is consumed from the source.
+     */
+    public RsIterator<Value> takeWhile(Predicate<Value> predicate) {
+        return new TakeWhileAdapter<>(this, predicate);
+    }
+
+    public <Mapped> RsIterator<Mapped> flatMap(ArgInvokable<Value, RsIterator<Mapped>> invokable) {
+        return new FlatMapAdapter<>(this, invokable);
+    }
+
+    /**
+     * Groups the values into lists of {@code size}, the last one may be shorter.
+     */
+    public RsIterator<List<Value>> chunks(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + size);
+        }
+        return new ChunksAdapter<>(this, size);
+    }
+
+    /**
+     * Combines the values of both iterators pairwise and ends with the shorter one. {@code other} is advanced through
+     * {@link #next()}.
+     */
+    public <Other, Mapped> RsIterator<Mapped> zip(RsIterator<Other> other, BiArgInvokable<Value, Other, Mapped> invokable) {
+        return new ZipAdapter<>(this, other, invokable);
+    }
+
+    public <Accumulated> Accumulated fold(Accumulated initial, BiArgInvokable<Accumulated, Value, Accumulated> invokable) {
+        final Holder<Accumulated> holder = new Holder<>(initial);
+        forEachWhile(value -> {
+            holder.value = invokable.invoke(holder.value, value);
+            return true;
+        });
+        return holder.value;
+    }
+
+    /**
+     * Like {@link #fold}, but stops at the first error and returns it as is.
+     */
+    public <Accumulated, Error> Result<Accumulated, Error> tryFold(Accumulated initial, BiArgInvokable<Accumulated, Value, Result<Accumulated, Error>> invokable) {
+        final Holder<Result<Accumulated, Error>> holder = new Holder<>(null);
+        final Holder<Accumulated> accumulated = new Holder<>(initial);
+        forEachWhile(value -> {
+            final Result<Accumulated, Error> result = invokable.invoke(accumulated.value, value);
+            if (result.isError()) {
+                holder.value = result;
+                return false;
+            }
+            accumulated.value = result.unwrap();
+            return true;
+        });
+        return holder.value != null ? holder.value : Result.ok(accumulated.value);
+    }
+
+    public Option<Value> find(Predicate<Value> predicate) {
+        final Holder<Option<Value>> holder = new Holder<>(Option.none());
+        forEachWhile(value -> {
+            if (predicate.test(value)) {
+                holder.value = Option.some(value);
+                return false;
+            }
+            return true;
+        });
+        return holder.value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <Container, Collected> Collected collect(Collector<? super Value, Container, Collected> collector) {
+        final Container container = collector.supplier().get();
+        final BiConsumer<Container, ? super Value> accumulator = collector.accumulator();
+        forEachWhile(value -> {
+            accumulator.accept(container, value);
+            return true;
+        });
+        if (collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (Collected) container;
+        }
+        return collector.finisher().apply(container);
+    }
+
+    public List<Value> toList() {
+        final List<Value> values = new ArrayList<>();
+        forEachWhile(values::add);
+        return values;
+    }
+
+    public long count() {
+        final long[] count = new long[1];
+        forEachWhile(value -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    public void forEach(ArgVoidInvokable<Value> invokable) {
+        forEachWhile(value -> {
+            invokable.invoke(value);
+            return true;
+        });
+    }
+
+    private static final class Holder<Held> {
+
+        private Held value;
+
+        private Holder(Held value) {
+            this.value = value;
+        }
+    }
+
+    private static final class ArraySource<Value> extends RsIterator<Value> {
+
+        private final Value[] values;
+        private int index;
+
+        private ArraySource(Value[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Option<Value> next() {
+            return index < values.length ? Option.some(values[index++]) : Option.none();
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Value> consumer) {
+            final Value[] values = this.values;
+            while (index < values.length) {
+                if (!consumer.test(values[index++])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ListSource<Value> extends RsIterator<Value> {
+
+        private final List<Value> values;
+        private int index;
+
+        private ListSource(List<Value> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Option<Value> next() {
+            return index < values.size() ? Option.some(values.get(index++)) : Option.none();
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Value> consumer) {
+            final List<Value> values = this.values;
+            final int size = values.size();
+            while (index < size) {
+                if (!consumer.test(values.get(index++))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class IteratorSource<Value> extends RsIterator<Value> {
+
+        private final Iterator<Value> iterator;
+
+        private IteratorSource(Iterator<Value> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public Option<Value> next() {
+            return iterator.hasNext() ? Option.some(iterator.next()) : Option.none();
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Value> consumer) {
+            while (iterator.hasNext()) {
+                if (!consumer.test(iterator.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class RangeSource extends RsIterator<Integer> {
+
+        private final int end;
+        private int current;
+
+        private RangeSource(int start, int end) {
+            this.current = start;
+            this.end = end;
+        }
+
+        @Override
+        public Option<Integer> next() {
+            return current < end ? Option.some(current++) : Option.none();
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Integer> consumer) {
+            while (current < end) {
+                if (!consumer.test(current++)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Generator<Value> extends RsIterator<Value> {
+
+        private PlainInvokable<Option<Value>> invokable;
+
+        private Generator(PlainInvokable<Option<Value>> invokable) {
+            this.invokable = invokable;
+        }
+
+        @Override
+        public Option<Value> next() {
+            if (invokable == null) {
+                return Option.none();
+            }
+            final Option<Value> option = Objects.requireNonNull(invokable.invoke(), "Invokable returned null instead of an Option.");
+            if (option.isNone()) {
+                invokable = null;
+            }
+            return option;
+        }
+    }
+
+    private static final class MapAdapter<Value, Mapped> extends RsIterator<Mapped> {
+
+        private final RsIterator<Value> source;
+        private final ArgInvokable<Value, Mapped> invokable;
+
+        private MapAdapter(RsIterator<Value> source, ArgInvokable<Value, Mapped> invokable) {
+            this.source = source;
+            this.invokable = invokable;
+        }
+
+        @Override
+        public Option<Mapped> next() {
+            return source.next().map(invokable);
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Mapped> consumer) {
+            return source.forEachWhile(value -> consumer.test(invokable.invoke(value)));
+        }
+    }
+
+    private static final class FilterAdapter<Value> extends RsIterator<Value> {
+
+        private final RsIterator<Value> source;
+        private final Predicate<Value> predicate;
+
+        private FilterAdapter(RsIterator<Value> source, Predicate<Value> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Option<Value> next() {
+            Option<Value> option;
+            while ((option = source.next()).isSome()) {
+                if (predicate.test(option.unwrap())) {
+                    return option;
+                }
+            }
+            return option;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Value> consumer) {
+            return source.forEachWhile(value -> !predicate.test(value) || consumer.test(value));
+        }
+    }
+
+    private static final class FilterMapAdapter<Value, Mapped> extends RsIterator<Mapped> {
+
+        private final RsIterator<Value> source;
+        private final ArgInvokable<Value, Option<Mapped>> invokable;
+
+        private FilterMapAdapter(RsIterator<Value> source, ArgInvokable<Value, Option<Mapped>> invokable) {
+            this.source = source;
+            this.invokable = invokable;
+        }
+
+        @Override
+        public Option<Mapped> next() {
+            Option<Value> option;
+            while ((option = source.next()).isSome()) {
+                final Option<Mapped> mapped = invokable.invoke(option.unwrap());
+                if (mapped.isSome()) {
+                    return mapped;
+                }
+            }
+            return Option.none();
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Mapped> consumer) {
+            return source.forEachWhile(value -> {
+                final Option<Mapped> mapped = invokable.invoke(value);
+                return mapped.isNone() || consumer.test(mapped.unwrap());
+            });
+        }
+    }
+
+    private static final class TakeWhileAdapter<Value> extends RsIterator<Value> {
+
+        private final RsIterator<Value> source;
+        private final Predicate<Value> predicate;
+        private boolean done;
+
+        private TakeWhileAdapter(RsIterator<Value> source, Predicate<Value> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Option<Value> next() {
+            if (done) {
+                return Option.none();
+            }
+            final Option<Value> option = source.next();
+            if (option.isNone() || !predicate.test(option.unwrap())) {
+                done = true;
+                return Option.none();
+            }
+            return option;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Value> consumer) {
+            if (done) {
+                return true;
+            }
+            final boolean exhausted = source.forEachWhile(value -> {
+                if (!predicate.test(value)) {
+                    done = true;
+                    return false;
+                }
+                return consumer.test(value);
+            });
+            if (exhausted) {
+                done = true;
+            }
+            return done;
+        }
+    }
+
+    private static final class FlatMapAdapter<Value, Mapped> extends RsIterator<Mapped> {
+
+        private final RsIterator<Value> source;
+        private final ArgInvokable<Value, RsIterator<Mapped>> invokable;
+        private RsIterator<Mapped> current;
+
+        private FlatMapAdapter(RsIterator<Value> source, ArgInvokable<Value, RsIterator<Mapped>> invokable) {
+            this.source = source;
+            this.invokable = invokable;
+        }
+
+        @Override
+        public Option<Mapped> next() {
+            while (true) {
+                if (current != null) {
+                    final Option<Mapped> option = current.next();
+                    if (option.isSome()) {
+                        return option;
+                    }
+                    current = null;
+                }
+                final Option<Value> option = source.next();
+                if (option.isNone()) {
+                    return Option.none();
+                }
+                current = invokable.invoke(option.unwrap());
+            }
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Mapped> consumer) {
+            if (current != null) {
+                if (!current.forEachWhile(consumer)) {
+                    return false;
+                }
+                current = null;
+            }
+            return source.forEachWhile(value -> {
+                final RsIterator<Mapped> inner = invokable.invoke(value);
+                if (!inner.forEachWhile(consumer)) {
+                    // Keep the rest of the inner iterator for the next call.
+                    current = inner;
+                    return false;
+                }
+                return true;
+            });
+        }
+    }
+
+    private static final class ChunksAdapter<Value> extends RsIterator<List<Value>> {
+
+        private final RsIterator<Value> source;
+        private final int size;
+        private List<Value> pending;
+
+        private ChunksAdapter(RsIterator<Value> source, int size) {
+            this.source = source;
+            this.size = size;
+        }
+
+        @Override
+        public Option<List<Value>> next() {
+            final List<Value> chunk = pending != null ? pending : new ArrayList<>(size);
+            pending = null;
+            while (chunk.size() < size) {
+                final Option<Value> option = source.next();
+                if (option.isNone()) {
+                    break;
+                }
+                chunk.add(option.unwrap());
+            }
+            return chunk.isEmpty() ? Option.none() : Option.some(chunk);
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super List<Value>> consumer) {
+            final boolean exhausted = source.forEachWhile(value -> {
+                if (pending == null) {
+                    pending = new ArrayList<>(size);
+                }
+                pending.add(value);
+                if (pending.size() < size) {
+                    return true;
+                }
+                final List<Value> chunk = pending;
+                pending = null;
+                return consumer.test(chunk);
+            });
+            if (!exhausted) {
+                return false;
+            }
+            if (pending != null) {
+                final List<Value> chunk = pending;
+                pending = null;
+                return consumer.test(chunk);
+            }
+            return true;
+        }
+    }
+
+    private static final class ZipAdapter<Value, Other, Mapped> extends RsIterator<Mapped> {
+
+        private final RsIterator<Value> source;
+        private final RsIterator<Other> other;
+        private final BiArgInvokable<Value, Other, Mapped> invokable;
+        private boolean done;
+
+        private ZipAdapter(RsIterator<Value> source, RsIterator<Other> other, BiArgInvokable<Value, Other, Mapped> invokable) {
+            this.source = source;
+            this.other = other;
+            this.invokable = invokable;
+        }
+
+        @Override
+        public Option<Mapped> next() {
+            if (done) {
+                return Option.none();
+            }
+            final Option<Value> value = source.next();
+            final Option<Other> otherValue = value.isSome() ? other.next() : Option.none();
+            if (otherValue.isNone()) {
+                done = true;
+                return Option.none();
+            }
+            return Option.some(invokable.invoke(value.unwrap(), otherValue.unwrap()));
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super Mapped> consumer) {
+            if (done) {
+                return true;
+            }
+            final boolean exhausted = source.forEachWhile(value -> {
+                final Option<Other> otherValue = other.next();
+                if (otherValue.isNone()) {
+                    done = true;
+                    return false;
+                }
+                return consumer.test(invokable.invoke(value, otherValue.unwrap()));
+            });
+            if (exhausted) {
+                done = true;
+            }
+            return done;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package space.provided.rs.jfr;
+
+import space.provided.rs.error.ValueAccessError;
+
+/**
+ * Java Flight Recorder events for the error paths. This is the Java 8 version, where every hook does nothing and is
+ * removed by the JIT. On Java 17+ the multi-release jar contains a version which emits {@code jdk.jfr} events, so they
+ * show up in recordings with the stack trace of the call site.
+ * <p>
+ * The hooks are called by the library itself and are not meant to be called by users.
+ */
+public final class Events {
+
+    private Events() {
+    }
+
+    public static void errorCreated(Object error) {
+    }
+
+    public static void valueAccessError(ValueAccessError error) {
+    }
+
+    /**
+     * Returns a token to pass to {@link #endInvokable(Object, String)} once the user invokable returned.
+     */
+    public static Object beginInvokable() {
+        return null;
+    }
+
+    public static void endInvokable(Object token, String combinator) {
+    }
+}
@@ -0,0 +1,14 @@
+package space.provided.rs.json;
+
+import java.io.IOException;
+
+/**
+ * Writes a value to a {@link JsonWriter} and reads it back from a {@link JsonReader}. Codecs are composed explicitly,
+ * see {@link JsonCodecs}, instead of being looked up through reflection.
+ */
+public interface JsonCodec<Value> {
+
+    void write(Value value, JsonWriter writer) throws IOException;
+
+    Value read(JsonReader reader) throws IOException;
+}
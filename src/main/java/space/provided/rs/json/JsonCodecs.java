@@ -0,0 +1,176 @@
+package space.provided.rs.json;
+
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codecs for common values and for {@link Option} and {@link Result}. An option is written as its value or
+ * {@code null}, a result as {@code {"ok":value}} or {@code {"err":error}}.
+ * <p>
+ * Codecs for own types are plain implementations of {@link JsonCodec} which delegate to these for their fields.
+ */
+public final class JsonCodecs {
+
+    public static final String OK = "ok";
+    public static final String ERROR = "err";
+
+    public static final JsonCodec<String> STRING = new JsonCodec<String>() {
+        @Override
+        public void write(String value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public String read(JsonReader reader) throws IOException {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            return reader.nextString();
+        }
+    };
+
+    public static final JsonCodec<Integer> INT = new JsonCodec<Integer>() {
+        @Override
+        public void write(Integer value, JsonWriter writer) throws IOException {
+            writer.value(value);
+        }
+
+        @Override
+        public Integer read(JsonReader reader) throws IOException {
+            return reader.nextInt();
+        }
+    };
+
+    public static final JsonCodec<Long> LONG = new JsonCodec<Long>() {
+        @Override
+        public void write(Long value, JsonWriter writer) throws IOException {
+            writer.value(value.longValue());
+        }
+
+        @Override
+        public Long read(JsonReader reader) throws IOException {
+            return reader.nextLong();
+        }
+    };
+
+    public static final JsonCodec<Double> DOUBLE = new JsonCodec<Double>() {
+        @Override
+        public void write(Double value, JsonWriter writer) throws IOException {
+            writer.value(value.doubleValue());
+        }
+
+        @Override
+        public Double read(JsonReader reader) throws IOException {
+            return reader.nextDouble();
+        }
+    };
+
+    public static final JsonCodec<Boolean> BOOLEAN = new JsonCodec<Boolean>() {
+        @Override
+        public void write(Boolean value, JsonWriter writer) throws IOException {
+            writer.value(value.booleanValue());
+        }
+
+        @Override
+        public Boolean read(JsonReader reader) throws IOException {
+            return reader.nextBoolean();
+        }
+    };
+
+    private JsonCodecs() {
+    }
+
+    /**
+     * NONE is written as {@code null}, so a SOME holding {@code null} reads back as NONE.
+     */
+    public static <Value> JsonCodec<Option<Value>> option(JsonCodec<Value> codec) {
+        return new JsonCodec<Option<Value>>() {
+            @Override
+            public void write(Option<Value> option, JsonWriter writer) throws IOException {
+                if (option.isSome()) {
+                    codec.write(option.unwrap(), writer);
+                } else {
+                    writer.nullValue();
+                }
+            }
+
+            @Override
+            public Option<Value> read(JsonReader reader) throws IOException {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    return Option.none();
+                }
+                return Option.some(codec.read(reader));
+            }
+        };
+    }
+
+    public static <Ok, Err> JsonCodec<Result<Ok, Err>> result(JsonCodec<Ok> okCodec, JsonCodec<Err> errorCodec) {
+        return new JsonCodec<Result<Ok, Err>>() {
+            @Override
+            public void write(Result<Ok, Err> result, JsonWriter writer) throws IOException {
+                writer.beginObject();
+                if (result.isOk()) {
+                    okCodec.write(result.unwrap(), writer.name(OK));
+                } else {
+                    errorCodec.write(result.unwrapError(), writer.name(ERROR));
+                }
+                writer.endObject();
+            }
+
+            @Override
+            public Result<Ok, Err> read(JsonReader reader) throws IOException {
+                reader.beginObject();
+                final String name = reader.nextName();
+                final Result<Ok, Err> result;
+                if (OK.equals(name)) {
+                    result = Result.ok(okCodec.read(reader));
+                } else if (ERROR.equals(name)) {
+                    result = Result.error(errorCodec.read(reader));
+                } else {
+                    throw new JsonException("Expected \"" + OK + "\" or \"" + ERROR + "\" but was \"" + name + "\".");
+                }
+                reader.endObject();
+                return result;
+            }
+        };
+    }
+
+    public static <Value> JsonCodec<List<Value>> list(JsonCodec<Value> codec) {
+        return new JsonCodec<List<Value>>() {
+            @Override
+            public void write(List<Value> values, JsonWriter writer) throws IOException {
+                writer.beginArray();
+                for (Value value : values) {
+                    codec.write(value, writer);
+                }
+                writer.endArray();
+            }
+
+            @Override
+            public List<Value> read(JsonReader reader) throws IOException {
+                final List<Value> values = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    values.add(codec.read(reader));
+                }
+                reader.endArray();
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Writes the option as a field of the current object, NONE leaves the field out.
+     */
+    public static <Value> void writeField(JsonWriter writer, String name, Option<Value> option, JsonCodec<Value> codec) throws IOException {
+        if (option.isSome()) {
+            codec.write(option.unwrap(), writer.name(name));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package space.provided.rs.json;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link JsonReader} on input which is not valid JSON or doesn't have the expected shape.
+ */
+public final class JsonException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public JsonException(String message) {
+        super(message);
+    }
+}
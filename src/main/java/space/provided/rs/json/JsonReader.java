@@ -0,0 +1,493 @@
+package space.provided.rs.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Pulls JSON tokens one at a time from a {@link Reader} or a {@link String}, see {@link #peek()}. Integers are parsed
+ * straight from the buffer, strings without escapes are copied from it in one go.
+ * <p>
+ * Malformed input and tokens other than the expected one throw a {@link JsonException}.
+ */
+public final class JsonReader implements Closeable {
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;
+
+    private final Reader in;
+    private final char[] buffer;
+    private final StringBuilder scratch = new StringBuilder();
+    private int position;
+    private int limit;
+    private long offset;
+    private int[] stack = new int[16];
+    private int depth = 1;
+    private JsonToken peeked;
+
+    public JsonReader(Reader in) {
+        this.in = in;
+        this.buffer = new char[1024];
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    public JsonReader(String json) {
+        this.in = null;
+        this.buffer = json.toCharArray();
+        this.limit = buffer.length;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Returns the type of the next token without consuming it.
+     */
+    public JsonToken peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        switch (stack[depth - 1]) {
+            case EMPTY_ARRAY: {
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                final int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+                if (c != -1) {
+                    position--;
+                }
+                break;
+            }
+            case NONEMPTY_ARRAY: {
+                final int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                break;
+            }
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT: {
+                final boolean empty = stack[depth - 1] == EMPTY_OBJECT;
+                stack[depth - 1] = DANGLING_NAME;
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = JsonToken.END_OBJECT;
+                }
+                if (!empty) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                return peeked = JsonToken.NAME;
+            }
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("Expected the end of the document");
+                }
+                return peeked = JsonToken.END_DOCUMENT;
+        }
+        final int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return peeked = JsonToken.BEGIN_OBJECT;
+            case '[':
+                return peeked = JsonToken.BEGIN_ARRAY;
+            case '"':
+                return peeked = JsonToken.STRING;
+            case 't':
+            case 'f':
+                position--;
+                return peeked = JsonToken.BOOLEAN;
+            case 'n':
+                position--;
+                return peeked = JsonToken.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    position--;
+                    return peeked = JsonToken.NUMBER;
+                }
+                throw syntaxError(c == -1 ? "Unexpected end of input" : "Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    public boolean hasNext() throws IOException {
+        final JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        depth--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        depth--;
+    }
+
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        return readString();
+    }
+
+    public String nextString() throws IOException {
+        expect(JsonToken.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        if (current() == 't') {
+            literal("true");
+            return true;
+        }
+        literal("false");
+        return false;
+    }
+
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        literal("null");
+    }
+
+    /**
+     * Reads an integral number. Numbers with a fraction or an exponent and numbers out of range are rejected.
+     */
+    public long nextLong() throws IOException {
+        expect(JsonToken.NUMBER);
+        final boolean negative = current() == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        int c;
+        while ((c = current()) >= '0' && c <= '9') {
+            if (digits == 1 && value == 0) {
+                throw syntaxError("Leading zero");
+            }
+            final int digit = c - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw syntaxError("Number out of range");
+            }
+            value = value * 10 - digit;
+            digits++;
+            position++;
+        }
+        if (digits == 0) {
+            throw syntaxError("Expected a digit");
+        }
+        if (c == '.' || c == 'e' || c == 'E') {
+            throw syntaxError("Expected an integer");
+        }
+        endOfValue(c);
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw syntaxError("Number out of range");
+            }
+            return -value;
+        }
+        return value;
+    }
+
+    public int nextInt() throws IOException {
+        final long value = nextLong();
+        if ((int) value != value) {
+            throw syntaxError("Number out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a number following the JSON grammar, which is stricter than {@link Double#parseDouble}: no leading zeros,
+     * no {@code +} sign and at least one digit on either side of the decimal point.
+     */
+    public double nextDouble() throws IOException {
+        expect(JsonToken.NUMBER);
+        scratch.setLength(0);
+        int c = current();
+        if (c == '-') {
+            c = append(c);
+        }
+        if (c == '0') {
+            c = append(c);
+            if (c >= '0' && c <= '9') {
+                throw syntaxError("Leading zero");
+            }
+        } else {
+            c = appendDigits(c);
+        }
+        if (c == '.') {
+            c = appendDigits(append(c));
+        }
+        if (c == 'e' || c == 'E') {
+            c = append(c);
+            if (c == '+' || c == '-') {
+                c = append(c);
+            }
+            c = appendDigits(c);
+        }
+        endOfValue(c);
+        return Double.parseDouble(scratch.toString());
+    }
+
+    /**
+     * Skips the next value including everything nested in it, or a name.
+     */
+    public void skipValue() throws IOException {
+        int nesting = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    nesting++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    nesting++;
+                    break;
+                case END_OBJECT:
+                    if (nesting == 0) {
+                        throw syntaxError("Expected a value");
+                    }
+                    endObject();
+                    nesting--;
+                    break;
+                case END_ARRAY:
+                    if (nesting == 0) {
+                        throw syntaxError("Expected a value");
+                    }
+                    endArray();
+                    nesting--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case STRING:
+                    nextString();
+                    break;
+                case NUMBER:
+                    nextDouble();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    throw syntaxError("Expected a value");
+            }
+        } while (nesting > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    private void expect(JsonToken token) throws IOException {
+        final JsonToken actual = peek();
+        if (actual != token) {
+            throw syntaxError("Expected " + token + " but was " + actual);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth << 1);
+        }
+        stack[depth++] = scope;
+    }
+
+    private String readString() throws IOException {
+        int start = position;
+        scratch.setLength(0);
+        while (true) {
+            if (position == limit) {
+                scratch.append(buffer, start, position - start);
+                if (!fill()) {
+                    throw syntaxError("Unterminated string");
+                }
+                start = position;
+            }
+            final char c = buffer[position];
+            if (c == '"') {
+                final String value;
+                if (scratch.length() == 0) {
+                    value = new String(buffer, start, position - start);
+                } else {
+                    value = scratch.append(buffer, start, position - start).toString();
+                }
+                position++;
+                return value;
+            }
+            if (c == '\\') {
+                scratch.append(buffer, start, position - start);
+                position++;
+                scratch.append(escaped());
+                start = position;
+            } else if (c < 0x20) {
+                throw syntaxError("Unescaped control character in string");
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private char escaped() throws IOException {
+        final int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u': {
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Malformed unicode escape");
+                    }
+                    value = value << 4 | digit;
+                }
+                return (char) value;
+            }
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private void literal(String expected) throws IOException {
+        for (int i = 0; i < expected.length(); i++) {
+            if (read() != expected.charAt(i)) {
+                throw syntaxError("Expected " + expected);
+            }
+        }
+        endOfValue(current());
+    }
+
+    /**
+     * Appends {@code c} to the scratch buffer, consumes it and returns the next character.
+     */
+    private int append(int c) throws IOException {
+        scratch.append((char) c);
+        position++;
+        return current();
+    }
+
+    private int appendDigits(int c) throws IOException {
+        if (c < '0' || c > '9') {
+            throw syntaxError("Expected a digit");
+        }
+        do {
+            c = append(c);
+        } while (c >= '0' && c <= '9');
+        return c;
+    }
+
+    private void endOfValue(int c) throws IOException {
+        switch (c) {
+            case -1:
+            case ',':
+            case ']':
+            case '}':
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+                return;
+            default:
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+        return c;
+    }
+
+    /**
+     * Returns the character at the current position without consuming it, or {@code -1} at the end of the input.
+     */
+    private int current() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        final int c = current();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        if (in == null) {
+            return false;
+        }
+        offset += limit;
+        position = 0;
+        limit = 0;
+        final int read = in.read(buffer, 0, buffer.length);
+        if (read < 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    private JsonException syntaxError(String message) {
+        return new JsonException(message + " at offset " + (offset + position) + ".");
+    }
+}
@@ -0,0 +1,99 @@
+package space.provided.rs.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes characters as UTF-8 into a buffer which is written to the stream when full or flushed. Unpaired surrogates
+ * are written as {@code '?'}.
+ */
+final class Utf8Output implements Appendable, Flushable, Closeable {
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[8192];
+    private int count;
+    private char highSurrogate;
+
+    Utf8Output(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public Appendable append(CharSequence value) throws IOException {
+        return append(value, 0, value.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence value, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            append(value.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (count > buffer.length - 4) {
+            flushBuffer();
+        }
+        if (highSurrogate != 0) {
+            final char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                buffer[count++] = (byte) (0xF0 | codePoint >>> 18);
+                buffer[count++] = (byte) (0x80 | codePoint >>> 12 & 0x3F);
+                buffer[count++] = (byte) (0x80 | codePoint >>> 6 & 0x3F);
+                buffer[count++] = (byte) (0x80 | codePoint & 0x3F);
+                return this;
+            }
+            buffer[count++] = '?';
+            if (count > buffer.length - 4) {
+                flushBuffer();
+            }
+        }
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | c >>> 6);
+            buffer[count++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xE0 | c >>> 12);
+            buffer[count++] = (byte) (0x80 | c >>> 6 & 0x3F);
+            buffer[count++] = (byte) (0x80 | c & 0x3F);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = '?';
+        }
+        flush();
+        out.close();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
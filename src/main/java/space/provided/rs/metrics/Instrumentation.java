@@ -0,0 +1,27 @@
+package space.provided.rs.metrics;
+
+/**
+ * Receives the events counted by {@link Metrics}, e.g. to forward them to a metrics library directly. Implementations
+ * are found through {@link java.util.ServiceLoader} or installed with {@link Metrics#setInstrumentation}, and are
+ * called on the hot path, so they must be cheap and thread-safe. All methods do nothing by default.
+ */
+public interface Instrumentation {
+
+    default void okCreated() {
+    }
+
+    default void errorCreated(Object error) {
+    }
+
+    default void someCreated() {
+    }
+
+    default void noneCreated() {
+    }
+
+    default void unwrapFailed() {
+    }
+
+    default void unwrapErrorFailed() {
+    }
+}
@@ -0,0 +1,127 @@
+package space.provided.rs.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the creation of results and options as well as failed {@code unwrap} calls.
+ * <p>
+ * Counting is off unless the JVM is started with {@code -Drs4j.metrics=true}. The switch is read once into
+ * {@link #ENABLED}, and every hook is guarded by it, so the JIT removes the hooks entirely when it is off.
+ * The counters are {@link LongAdder}s, which stay cheap when many threads update them.
+ * <p>
+ * The static hooks are called by the library itself and are not meant to be called by users.
+ */
+public final class Metrics {
+
+    public static final String ENABLED_PROPERTY = "rs4j.metrics";
+
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final LongAdder OKS = new LongAdder();
+    private static final LongAdder ERRORS = new LongAdder();
+    private static final LongAdder SOMES = new LongAdder();
+    private static final LongAdder NONES = new LongAdder();
+    private static final LongAdder FAILED_UNWRAPS = new LongAdder();
+    private static final LongAdder FAILED_UNWRAP_ERRORS = new LongAdder();
+    /**
+     * Keyed by class name, so the counts don't keep the classes, and with them their class loaders, alive.
+     */
+    private static final ConcurrentMap<String, LongAdder> ERRORS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private static volatile Instrumentation instrumentation = ENABLED ? load() : null;
+
+    private Metrics() {
+    }
+
+    public static MetricsSnapshot snapshot() {
+        final Map<String, Long> errorsByClass = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : ERRORS_BY_CLASS.entrySet()) {
+            errorsByClass.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new MetricsSnapshot(OKS.sum(), ERRORS.sum(), SOMES.sum(), NONES.sum(), FAILED_UNWRAPS.sum(), FAILED_UNWRAP_ERRORS.sum(), Collections.unmodifiableMap(errorsByClass));
+    }
+
+    public static void reset() {
+        OKS.reset();
+        ERRORS.reset();
+        SOMES.reset();
+        NONES.reset();
+        FAILED_UNWRAPS.reset();
+        FAILED_UNWRAP_ERRORS.reset();
+        ERRORS_BY_CLASS.clear();
+    }
+
+    /**
+     * Installs an additional receiver of the events, or removes it with {@code null}. Has no effect while
+     * {@link #ENABLED} is off.
+     */
+    public static void setInstrumentation(Instrumentation instrumentation) {
+        Metrics.instrumentation = instrumentation;
+    }
+
+    public static void ok() {
+        OKS.increment();
+        final Instrumentation instrumentation = Metrics.instrumentation;
+        if (instrumentation != null) {
+            instrumentation.okCreated();
+        }
+    }
+
+    public static void error(Object error) {
+        ERRORS.increment();
+        final String type = (error == null ? Void.class : error.getClass()).getName();
+        LongAdder counter = ERRORS_BY_CLASS.get(type);
+        if (counter == null) {
+            counter = ERRORS_BY_CLASS.computeIfAbsent(type, ignored -> new LongAdder());
+        }
+        counter.increment();
+        final Instrumentation instrumentation = Metrics.instrumentation;
+        if (instrumentation != null) {
+            instrumentation.errorCreated(error);
+        }
+    }
+
+    public static void some() {
+        SOMES.increment();
+        final Instrumentation instrumentation = Metrics.instrumentation;
+        if (instrumentation != null) {
+            instrumentation.someCreated();
+        }
+    }
+
+    public static void none() {
+        NONES.increment();
+        final Instrumentation instrumentation = Metrics.instrumentation;
+        if (instrumentation != null) {
+            instrumentation.noneCreated();
+        }
+    }
+
+    public static void unwrapFailed() {
+        FAILED_UNWRAPS.increment();
+        final Instrumentation instrumentation = Metrics.instrumentation;
+        if (instrumentation != null) {
+            instrumentation.unwrapFailed();
+        }
+    }
+
+    public static void unwrapErrorFailed() {
+        FAILED_UNWRAP_ERRORS.increment();
+        final Instrumentation instrumentation = Metrics.instrumentation;
+        if (instrumentation != null) {
+            instrumentation.unwrapErrorFailed();
+        }
+    }
+
+    private static Instrumentation load() {
+        final Iterator<Instrumentation> iterator = ServiceLoader.load(Instrumentation.class).iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
@@ -0,0 +1,66 @@
+package space.provided.rs.metrics;
+
+import java.util.Map;
+
+/**
+ * Counter values at the time of {@link Metrics#snapshot()}. The counters are read one after another while they may
+ * still be updated, so the values are not an atomic view across counters.
+ */
+public final class MetricsSnapshot {
+
+    private final long oks;
+    private final long errors;
+    private final long somes;
+    private final long nones;
+    private final long failedUnwraps;
+    private final long failedUnwrapErrors;
+    private final Map<String, Long> errorsByClass;
+
+    MetricsSnapshot(long oks, long errors, long somes, long nones, long failedUnwraps, long failedUnwrapErrors, Map<String, Long> errorsByClass) {
+        this.oks = oks;
+        this.errors = errors;
+        this.somes = somes;
+        this.nones = nones;
+        this.failedUnwraps = failedUnwraps;
+        this.failedUnwrapErrors = failedUnwrapErrors;
+        this.errorsByClass = errorsByClass;
+    }
+
+    public long oks() {
+        return oks;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    public long somes() {
+        return somes;
+    }
+
+    public long nones() {
+        return nones;
+    }
+
+    public long failedUnwraps() {
+        return failedUnwraps;
+    }
+
+    public long failedUnwrapErrors() {
+        return failedUnwrapErrors;
+    }
+
+    /**
+     * Created errors by the name of the class of their value, errors without a value are counted under {@link Void}.
+     */
+    public Map<String, Long> errorsByClass() {
+        return errorsByClass;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{oks=" + oks + ", errors=" + errors + ", somes=" + somes + ", nones=" + nones
+                + ", failedUnwraps=" + failedUnwraps + ", failedUnwrapErrors=" + failedUnwrapErrors
+                + ", errorsByClass=" + errorsByClass + "}";
+    }
+}
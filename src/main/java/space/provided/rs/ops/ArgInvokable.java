@@ -1,7 +1,25 @@
 package space.provided.rs.ops;
 
+import java.util.function.Function;
+
+/**
+ * Not a {@link Function}, whose default {@code andThen} and {@code compose} would show up next to the {@code andThen}
+ * of options and results with another meaning. {@link #toFunction()} and {@link #of} convert in both directions.
+ */
 @FunctionalInterface
 public interface ArgInvokable<Value, ReturnType> {
 
     ReturnType invoke(Value value);
+
+    default Function<Value, ReturnType> toFunction() {
+        return this::invoke;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Value, ReturnType> ArgInvokable<Value, ReturnType> of(Function<Value, ReturnType> function) {
+        if (function instanceof ArgInvokable) {
+            return (ArgInvokable<Value, ReturnType>) function;
+        }
+        return function::apply;
+    }
 }
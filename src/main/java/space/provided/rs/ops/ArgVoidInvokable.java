@@ -1,7 +1,24 @@
 package space.provided.rs.ops;
 
+import java.util.function.Consumer;
+
+/**
+ * Like {@link ArgInvokable}, kept apart from {@link Consumer} and its default {@code andThen}.
+ */
 @FunctionalInterface
 public interface ArgVoidInvokable<Value> {
 
     void invoke(Value value);
+
+    default Consumer<Value> toConsumer() {
+        return this::invoke;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Value> ArgVoidInvokable<Value> of(Consumer<Value> consumer) {
+        if (consumer instanceof ArgVoidInvokable) {
+            return (ArgVoidInvokable<Value>) consumer;
+        }
+        return consumer::accept;
+    }
 }
@@ -0,0 +1,24 @@
+package space.provided.rs.ops;
+
+import java.util.function.BiFunction;
+
+/**
+ * Like {@link ArgInvokable}, kept apart from {@link BiFunction} and its default {@code andThen}.
+ */
+@FunctionalInterface
+public interface BiArgInvokable<First, Second, ReturnType> {
+
+    ReturnType invoke(First first, Second second);
+
+    default BiFunction<First, Second, ReturnType> toBiFunction() {
+        return this::invoke;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <First, Second, ReturnType> BiArgInvokable<First, Second, ReturnType> of(BiFunction<First, Second, ReturnType> function) {
+        if (function instanceof BiArgInvokable) {
+            return (BiArgInvokable<First, Second, ReturnType>) function;
+        }
+        return function::apply;
+    }
+}
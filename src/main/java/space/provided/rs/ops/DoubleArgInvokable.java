@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface DoubleArgInvokable<ReturnType> {
+
+    ReturnType invoke(double value);
+}
@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface IntArgInvokable<ReturnType> {
+
+    ReturnType invoke(int value);
+}
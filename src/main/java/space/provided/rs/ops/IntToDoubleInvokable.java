@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface IntToDoubleInvokable {
+
+    double invoke(int value);
+}
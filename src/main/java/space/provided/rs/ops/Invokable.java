@@ -1,7 +1,19 @@
 package space.provided.rs.ops;
 
 @FunctionalInterface
-public interface Invokable {
+public interface Invokable extends Runnable {
 
     void invoke();
+
+    @Override
+    default void run() {
+        invoke();
+    }
+
+    static Invokable of(Runnable runnable) {
+        if (runnable instanceof Invokable) {
+            return (Invokable) runnable;
+        }
+        return runnable::run;
+    }
 }
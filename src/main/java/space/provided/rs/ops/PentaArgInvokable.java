@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface PentaArgInvokable<First, Second, Third, Fourth, Fifth, ReturnType> {
+
+    ReturnType invoke(First first, Second second, Third third, Fourth fourth, Fifth fifth);
+}
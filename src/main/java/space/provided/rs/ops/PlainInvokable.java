@@ -1,7 +1,25 @@
 package space.provided.rs.ops;
 
+import java.util.function.Supplier;
+
+/**
+ * Every instance is also a {@link Supplier}, without a wrapper; {@link #of} only wraps one which isn't an invokable yet.
+ */
 @FunctionalInterface
-public interface PlainInvokable<ReturnType> {
+public interface PlainInvokable<ReturnType> extends Supplier<ReturnType> {
 
     ReturnType invoke();
+
+    @Override
+    default ReturnType get() {
+        return invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <ReturnType> PlainInvokable<ReturnType> of(Supplier<ReturnType> supplier) {
+        if (supplier instanceof PlainInvokable) {
+            return (PlainInvokable<ReturnType>) supplier;
+        }
+        return supplier::get;
+    }
 }
@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface QuadArgInvokable<First, Second, Third, Fourth, ReturnType> {
+
+    ReturnType invoke(First first, Second second, Third third, Fourth fourth);
+}
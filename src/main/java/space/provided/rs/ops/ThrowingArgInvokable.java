@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface ThrowingArgInvokable<Value, ReturnType, Thrown extends Exception> {
+
+    ReturnType invoke(Value value) throws Thrown;
+}
@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface ThrowingArgVoidInvokable<Value, Thrown extends Exception> {
+
+    void invoke(Value value) throws Thrown;
+}
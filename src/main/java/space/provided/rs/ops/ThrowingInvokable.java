@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface ThrowingInvokable<Thrown extends Exception> {
+
+    void invoke() throws Thrown;
+}
@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface ThrowingPlainInvokable<ReturnType, Thrown extends Exception> {
+
+    ReturnType invoke() throws Thrown;
+}
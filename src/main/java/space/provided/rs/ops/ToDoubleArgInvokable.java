@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface ToDoubleArgInvokable<Value> {
+
+    double invoke(Value value);
+}
@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface ToIntArgInvokable<Value> {
+
+    int invoke(Value value);
+}
@@ -0,0 +1,7 @@
+package space.provided.rs.ops;
+
+@FunctionalInterface
+public interface TriArgInvokable<First, Second, Third, ReturnType> {
+
+    ReturnType invoke(First first, Second second, Third third);
+}
@@ -0,0 +1,146 @@
+package space.provided.rs.option;
+
+import space.provided.rs.concurrent.DefaultExecutor;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.Invokable;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * An {@link Option} that is computed asynchronously. The combinators mirror the ones of {@link Option}, but return
+ * immediately and run their invokable on the executor once the previous step completed.
+ * <p>
+ * Without an explicit executor, {@link DefaultExecutor} is used, which runs on virtual threads on Java 21+.
+ */
+public final class AsyncOption<Some> {
+
+    private final CompletableFuture<Option<Some>> future;
+    private final Executor executor;
+
+    private AsyncOption(CompletableFuture<Option<Some>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    public static <Some> AsyncOption<Some> of(CompletableFuture<Option<Some>> future) {
+        return of(future, DefaultExecutor.get());
+    }
+
+    public static <Some> AsyncOption<Some> of(CompletableFuture<Option<Some>> future, Executor executor) {
+        return new AsyncOption<>(future, executor);
+    }
+
+    public static <Some> AsyncOption<Some> of(Option<Some> option) {
+        return of(CompletableFuture.completedFuture(option));
+    }
+
+    public static <Some> AsyncOption<Some> fromFuture(CompletionStage<Some> stage) {
+        return fromFuture(stage, DefaultExecutor.get());
+    }
+
+    /**
+     * A {@code null} value becomes NONE. An option has no room for an exception, so an exceptional completion stays
+     * one; use {@link space.provided.rs.result.AsyncResult#fromFuture} to keep it as an error instead.
+     */
+    public static <Some> AsyncOption<Some> fromFuture(CompletionStage<Some> stage, Executor executor) {
+        return of(stage.thenApply(Option::ofNullable).toCompletableFuture(), executor);
+    }
+
+    public static <Some> AsyncOption<Some> some(Some value) {
+        return of(Option.some(value));
+    }
+
+    public static <Some> AsyncOption<Some> none() {
+        return of(Option.none());
+    }
+
+    public static <Some> AsyncOption<Some> supply(PlainInvokable<Option<Some>> invokable) {
+        return supply(invokable, DefaultExecutor.get());
+    }
+
+    public static <Some> AsyncOption<Some> supply(PlainInvokable<Option<Some>> invokable, Executor executor) {
+        return of(CompletableFuture.supplyAsync(invokable::invoke, executor), executor);
+    }
+
+    public AsyncOption<Some> withExecutor(Executor executor) {
+        return new AsyncOption<>(future, executor);
+    }
+
+    public <Mapped> AsyncOption<Mapped> map(ArgInvokable<Some, Mapped> invokable) {
+        return next(future.thenApplyAsync(option -> option.map(invokable), executor));
+    }
+
+    public AsyncOption<Some> and(AsyncOption<Some> option) {
+        return next(future.thenCompose(self -> self.isSome() ? option.future : CompletableFuture.completedFuture(self)));
+    }
+
+    public AsyncOption<Some> andThen(ArgInvokable<Some, Option<Some>> invokable) {
+        return next(future.thenApplyAsync(option -> option.andThen(invokable), executor));
+    }
+
+    public AsyncOption<Some> andThenAsync(ArgInvokable<Some, AsyncOption<Some>> invokable) {
+        return next(future.thenComposeAsync(option -> {
+            if (option.isSome()) {
+                return invokable.invoke(option.value()).future;
+            }
+            return CompletableFuture.completedFuture(option);
+        }, executor));
+    }
+
+    public AsyncOption<Some> andThenContinue(ArgVoidInvokable<Some> invokable) {
+        return next(future.thenApplyAsync(option -> option.andThenContinue(invokable), executor));
+    }
+
+    public AsyncOption<Some> filter(Predicate<Some> predicate) {
+        return next(future.thenApplyAsync(option -> option.filter(predicate), executor));
+    }
+
+    public AsyncOption<Some> or(AsyncOption<Some> option) {
+        return next(future.thenCompose(self -> self.isSome() ? CompletableFuture.completedFuture(self) : option.future));
+    }
+
+    public AsyncOption<Some> orElse(PlainInvokable<Option<Some>> invokable) {
+        return next(future.thenApplyAsync(option -> option.orElse(invokable), executor));
+    }
+
+    public AsyncOption<Some> orElseAsync(PlainInvokable<AsyncOption<Some>> invokable) {
+        return next(future.thenComposeAsync(option -> {
+            if (option.isNone()) {
+                return invokable.invoke().future;
+            }
+            return CompletableFuture.completedFuture(option);
+        }, executor));
+    }
+
+    public AsyncOption<Some> orElseContinue(Invokable invokable) {
+        return next(future.thenApplyAsync(option -> option.orElseContinue(invokable), executor));
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public Option<Some> join() {
+        return future.join();
+    }
+
+    public CompletableFuture<Option<Some>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Like {@link Option#toFuture}, the returned future fails with the exception of {@code invokable} for NONE.
+     */
+    public <Thrown extends Throwable> CompletableFuture<Some> toFuture(PlainInvokable<Thrown> invokable) {
+        return future.thenCompose(option -> option.toFuture(invokable));
+    }
+
+    private <Mapped> AsyncOption<Mapped> next(CompletableFuture<Option<Mapped>> next) {
+        return new AsyncOption<>(next, executor);
+    }
+}
@@ -0,0 +1,136 @@
+package space.provided.rs.option;
+
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A cell holding a value or nothing, for slots shared between threads such as a connection handed from one thread to
+ * another. The value is stored as is, with {@code null} standing for NONE, so {@code null} can't be stored as a value.
+ * All methods are lock-free apart from the initialization in {@link #getOrInit}.
+ * <p>
+ * Methods returning a {@code boolean} or the plain value, like {@link #compareAndSet} and {@link #getOrInit}, don't
+ * allocate; an {@link Option} is only created by methods which return one.
+ */
+public final class AtomicOption<Some> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicOption, Object> VALUE = AtomicReferenceFieldUpdater.newUpdater(AtomicOption.class, Object.class, "value");
+
+    private volatile Object value;
+
+    public AtomicOption() {
+    }
+
+    public AtomicOption(Some value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public static <Some> AtomicOption<Some> of(Option<Some> option) {
+        final AtomicOption<Some> atomic = new AtomicOption<>();
+        if (option.isSome()) {
+            atomic.value = Objects.requireNonNull(option.value());
+        }
+        return atomic;
+    }
+
+    public Option<Some> get() {
+        return wrap(value);
+    }
+
+    public boolean isSome() {
+        return value != null;
+    }
+
+    public boolean isNone() {
+        return value == null;
+    }
+
+    public void set(Some value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public void clear() {
+        value = null;
+    }
+
+    /**
+     * Takes the value out, leaving NONE behind.
+     */
+    public Option<Some> take() {
+        if (value == null) {
+            return Option.none();
+        }
+        return wrap(VALUE.getAndSet(this, null));
+    }
+
+    /**
+     * Puts {@code value} in and returns the previous one.
+     */
+    public Option<Some> replace(Some value) {
+        return wrap(VALUE.getAndSet(this, Objects.requireNonNull(value)));
+    }
+
+    /**
+     * Sets {@code value} only if the cell is NONE.
+     */
+    public boolean trySet(Some value) {
+        return VALUE.compareAndSet(this, null, Objects.requireNonNull(value));
+    }
+
+    /**
+     * Compares by identity, {@code null} stands for NONE in both arguments.
+     */
+    public boolean compareAndSet(Some expected, Some update) {
+        return VALUE.compareAndSet(this, expected, update);
+    }
+
+    /**
+     * Returns the value, or sets it to the value of {@code invokable} if the cell is NONE. Concurrent callers wait for
+     * the first one, so the invokable runs once; it doesn't run at all while the cell holds a value.
+     */
+    @SuppressWarnings("unchecked")
+    public Some getOrInit(PlainInvokable<Some> invokable) {
+        final Object current = value;
+        if (current != null) {
+            return (Some) current;
+        }
+        synchronized (this) {
+            final Object locked = value;
+            if (locked != null) {
+                return (Some) locked;
+            }
+            final Some initial = Objects.requireNonNull(invokable.invoke(), "Invokable returned null.");
+            // Another thread may have set a value without taking the lock.
+            while (!VALUE.compareAndSet(this, null, initial)) {
+                final Object other = value;
+                if (other != null) {
+                    return (Some) other;
+                }
+            }
+            return initial;
+        }
+    }
+
+    /**
+     * Applies {@code invokable} to the current option until no other thread interferes and returns the new option. The
+     * invokable may run more than once, so it should be free of side effects.
+     */
+    public Option<Some> updateAndGet(ArgInvokable<Option<Some>, Option<Some>> invokable) {
+        while (true) {
+            final Object current = value;
+            final Option<Some> updated = invokable.invoke(wrap(current));
+            final Object next = updated.isSome() ? Objects.requireNonNull(updated.value()) : null;
+            if (VALUE.compareAndSet(this, current, next)) {
+                return updated;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Some> Option<Some> wrap(Object value) {
+        return value == null ? Option.none() : Option.some((Some) value);
+    }
+}
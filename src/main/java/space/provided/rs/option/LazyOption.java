@@ -0,0 +1,108 @@
+package space.provided.rs.option;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.result.LazyResult;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An {@link Option} that is computed on first access and memoized afterwards. The invokable runs at most once, even
+ * when the value is requested by several threads at the same time; if it throws, the next access tries again.
+ * <p>
+ * Combinators don't evaluate anything, they return a new {@code LazyOption} which runs the whole chain once its value
+ * is requested. Methods returning a plain value ({@link #unwrap()}, {@link #isSome()}, ...) force the evaluation.
+ */
+public final class LazyOption<Some> {
+
+    private PlainInvokable<Option<Some>> invokable;
+    private volatile Option<Some> option;
+
+    private LazyOption(PlainInvokable<Option<Some>> invokable, Option<Some> option) {
+        this.invokable = invokable;
+        this.option = option;
+    }
+
+    public static <Some> LazyOption<Some> of(PlainInvokable<Option<Some>> invokable) {
+        return new LazyOption<>(invokable, null);
+    }
+
+    public static <Some> LazyOption<Some> of(Option<Some> option) {
+        return new LazyOption<>(null, option);
+    }
+
+    public static <Some> LazyOption<Some> some(PlainInvokable<Some> invokable) {
+        return of(() -> Option.some(invokable.invoke()));
+    }
+
+    public Option<Some> get() {
+        Option<Some> option = this.option;
+        if (option == null) {
+            synchronized (this) {
+                option = this.option;
+                if (option == null) {
+                    option = Objects.requireNonNull(invokable.invoke(), "Lazy invokable returned null instead of an Option.");
+                    this.option = option;
+                    invokable = null;
+                }
+            }
+        }
+        return option;
+    }
+
+    public boolean isEvaluated() {
+        return option != null;
+    }
+
+    public boolean isSome() {
+        return get().isSome();
+    }
+
+    public boolean isNone() {
+        return get().isNone();
+    }
+
+    public Some unwrap() throws ValueAccessError {
+        return get().unwrap();
+    }
+
+    public Some unwrapOr(Some fallback) {
+        return get().unwrapOr(fallback);
+    }
+
+    public <Mapped> LazyOption<Mapped> map(ArgInvokable<Some, Mapped> invokable) {
+        return of(() -> get().map(invokable));
+    }
+
+    public <Err> LazyResult<Some, Err> okOr(Err error) {
+        return LazyResult.of(() -> get().okOr(error));
+    }
+
+    public LazyOption<Some> andThen(ArgInvokable<Some, Option<Some>> invokable) {
+        return of(() -> get().andThen(invokable));
+    }
+
+    public LazyOption<Some> and(LazyOption<Some> option) {
+        return of(() -> {
+            final Option<Some> self = get();
+            return self.isSome() ? option.get() : self;
+        });
+    }
+
+    public LazyOption<Some> filter(Predicate<Some> predicate) {
+        return of(() -> get().filter(predicate));
+    }
+
+    public LazyOption<Some> or(LazyOption<Some> option) {
+        return of(() -> {
+            final Option<Some> self = get();
+            return self.isSome() ? self : option.get();
+        });
+    }
+
+    public LazyOption<Some> orElse(PlainInvokable<Option<Some>> invokable) {
+        return of(() -> get().orElse(invokable));
+    }
+}
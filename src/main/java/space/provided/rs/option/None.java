@@ -0,0 +1,17 @@
+package space.provided.rs.option;
+
+public final class None<Value> extends Option<Value> {
+
+    None() {
+    }
+
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    @Override
+    Value value() {
+        return null;
+    }
+}
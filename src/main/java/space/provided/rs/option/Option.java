@@ -1,6 +1,8 @@
 package space.provided.rs.option;
 
 import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.jfr.Events;
+import space.provided.rs.metrics.Metrics;
 import space.provided.rs.ops.ArgInvokable;
 import space.provided.rs.ops.ArgVoidInvokable;
 import space.provided.rs.ops.Invokable;
@@ -8,30 +10,65 @@ import space.provided.rs.ops.PlainInvokable;
 import space.provided.rs.result.Result;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
-public final class Option<Some> {
+/**
+ * The state is encoded in the class ({@link space.provided.rs.option.Some} or {@link None}) instead of a field, so an
+ * instance consists of the object header and at most one reference. There is only a single {@link None} instance.
+ */
+public abstract class Option<Some> {
 
-    private final Some some;
-    private final OptionType type;
+    private static final Option<?> NONE = new None<>();
 
-    private Option(Some some, OptionType type) {
-        this.some = some;
-        this.type = type;
+    Option() {
     }
 
     public static <Some> Option<Some> some(Some some) {
-        return new Option<>(some, OptionType.SOME);
+        if (Metrics.ENABLED) {
+            Metrics.some();
+        }
+        // The type parameter shadows the class name within Option.
+        return new space.provided.rs.option.Some<>(some);
     }
 
+    @SuppressWarnings("unchecked")
     public static <Some> Option<Some> none() {
-        return new Option<>(null, OptionType.NONE);
+        if (Metrics.ENABLED) {
+            Metrics.none();
+        }
+        return (Option<Some>) NONE;
+    }
+
+    /**
+     * The NONE instance without counting it in {@link Metrics}, for passing on a NONE which already exists.
+     */
+    @SuppressWarnings("unchecked")
+    static <Some> Option<Some> noneUncounted() {
+        return (Option<Some>) NONE;
     }
 
-    public boolean isSome() {
-        return type.equals(OptionType.SOME);
+    /**
+     * Returns NONE for {@code null}.
+     */
+    public static <Some> Option<Some> ofNullable(Some value) {
+        if (value == null) {
+            return none();
+        }
+        return some(value);
+    }
+
+    public static <Some> Option<Some> fromOptional(Optional<Some> optional) {
+        if (optional.isPresent()) {
+            return some(optional.get());
+        }
+        return none();
     }
 
+    public abstract boolean isSome();
+
     public boolean isNone() {
         return !isSome();
     }
@@ -40,106 +77,155 @@ public final class Option<Some> {
         if (isNone()) {
             return false;
         }
-        return invokable.invoke(some);
+        return invokable.invoke(value());
     }
 
     public Some unwrap() throws ValueAccessError {
         if (!isSome()) {
-            throw new ValueAccessError(String.format("Called `unwrap` on %1$s Option.", type));
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on NONE Option.");
         }
-        return some;
+        return value();
     }
 
     public Some unwrapOr(Some fallback) {
         if (isSome()) {
-            return some;
+            return value();
         }
         return fallback;
     }
 
     public <Mapped> Option<Mapped> map(ArgInvokable<Some, Mapped> invokable) {
         if (isSome()) {
-            return Option.some(invokable.invoke(some));
+            return Option.some(invokable.invoke(value()));
         }
-        return Option.none();
+        return noneUncounted();
     }
 
     public <Mapped> Mapped mapOr(Mapped fallback, ArgInvokable<Some, Mapped> invokable) {
         if (isSome()) {
-            return invokable.invoke(some);
+            return invokable.invoke(value());
         }
         return fallback;
     }
 
     public <Mapped> Mapped mapOrElse(PlainInvokable<Mapped> fallback, ArgInvokable<Some, Mapped> invokable) {
         if (isSome()) {
-            return invokable.invoke(some);
+            return invokable.invoke(value());
         }
         return fallback.invoke();
     }
 
     public <Err> Result<Some, Err> okOr(Err error) {
         if (isSome()) {
-            return Result.ok(some);
+            return Result.ok(value());
         }
         return Result.error(error);
     }
 
     public <Err> Result<Some, Err> okOrElse(PlainInvokable<Err> invokable) {
         if (isSome()) {
-            return Result.ok(some);
+            return Result.ok(value());
         }
         return Result.error(invokable.invoke());
     }
 
     public Option<Some> andThen(ArgInvokable<Some, Option<Some>> invokable) {
         if (isSome()) {
-            return invokable.invoke(some);
+            final Object token = Events.beginInvokable();
+            try {
+                return invokable.invoke(value());
+            } finally {
+                Events.endInvokable(token, "Option.andThen");
+            }
         }
-        return Option.none();
+        return noneUncounted();
     }
 
     public Option<Some> andThenContinue(ArgVoidInvokable<Some> invokable) {
         if (isSome()) {
-            invokable.invoke(some);
-            return Option.some(some);
+            invokable.invoke(value());
         }
-        return Option.none();
+        return this;
     }
 
     public Option<Some> and(Option<Some> option) {
         if (isSome()) {
             return option;
         }
-        return Option.none();
+        return noneUncounted();
     }
 
     public Option<Some> filter(Predicate<Some> predicate) {
-        if (isSomeAnd(predicate::test)) {
-            return Option.some(some);
+        if (isNone() || predicate.test(value())) {
+            return this;
         }
         return Option.none();
     }
 
     public Option<Some> or(Option<Some> option) {
         if (isSome()) {
-            return Option.some(some);
+            return this;
         }
         return option;
     }
 
     public Option<Some> orElse(PlainInvokable<Option<Some>> invokable) {
         if (isSome()) {
-            return Option.some(some);
+            return this;
+        }
+        final Object token = Events.beginInvokable();
+        try {
+            return invokable.invoke();
+        } finally {
+            Events.endInvokable(token, "Option.orElse");
         }
-        return invokable.invoke();
     }
 
     public Option<Some> orElseContinue(Invokable invokable) {
+        if (isNone()) {
+            invokable.invoke();
+        }
+        return this;
+    }
+
+    public Stream<Some> stream() {
         if (isSome()) {
-            return Option.some(some);
+            return Stream.of(value());
         }
-        invokable.invoke();
-        return Option.none();
+        return Stream.empty();
+    }
+
+    public Some toNullable() {
+        if (isSome()) {
+            return value();
+        }
+        return null;
+    }
+
+    /**
+     * NONE maps to the shared {@link Optional#empty()}, a Some of {@code null} to it as well.
+     */
+    public Optional<Some> toOptional() {
+        if (isSome()) {
+            return Optional.ofNullable(value());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a completed future for Some, or one that failed with the exception of {@code invokable} for NONE.
+     */
+    public <Thrown extends Throwable> CompletableFuture<Some> toFuture(PlainInvokable<Thrown> invokable) {
+        if (isSome()) {
+            return CompletableFuture.completedFuture(value());
+        }
+        final CompletableFuture<Some> future = new CompletableFuture<>();
+        future.completeExceptionally(invokable.invoke());
+        return future;
     }
+
+    abstract Some value();
 }
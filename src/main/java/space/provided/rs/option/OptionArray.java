@@ -0,0 +1,161 @@
+package space.provided.rs.option;
+
+import space.provided.rs.internal.Presence;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A fixed number of optional values, stored as one flat array with presence in a {@code long[]} bitset instead of an
+ * {@link Option} per slot. Slots start as NONE.
+ * <p>
+ * Bulk operations skip absent slots word by word, and fully present words take a plain indexed loop.
+ */
+public final class OptionArray<Value> {
+
+    private final Object[] values;
+    private final long[] present;
+
+    public OptionArray(int length) {
+        this(new Object[length], Presence.words(length));
+    }
+
+    private OptionArray(Object[] values, long[] present) {
+        this.values = values;
+        this.present = present;
+    }
+
+    public static <Value> OptionArray<Value> of(List<Option<Value>> options) {
+        final int length = options.size();
+        final OptionArray<Value> array = new OptionArray<>(length);
+        int index = 0;
+        for (Option<Value> option : options) {
+            if (option.isSome()) {
+                array.set(index, option.value());
+            }
+            index++;
+        }
+        return array;
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    public boolean isSome(int index) {
+        Presence.checkIndex(index, values.length);
+        return Presence.get(present, index);
+    }
+
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Option<Value> get(int index) {
+        if (isSome(index)) {
+            return Option.some((Value) values[index]);
+        }
+        return Option.none();
+    }
+
+    public OptionArray<Value> set(int index, Value value) {
+        values[index] = value;
+        Presence.set(present, index);
+        return this;
+    }
+
+    public OptionArray<Value> clear(int index) {
+        values[index] = null;
+        Presence.clear(present, index);
+        return this;
+    }
+
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public OptionInt firstNone() {
+        final int index = Presence.firstClear(present, values.length);
+        return index < 0 ? OptionInt.none() : OptionInt.some(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachSome(ArgVoidInvokable<Value> invokable) {
+        final Object[] values = this.values;
+        final long[] present = this.present;
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    invokable.invoke((Value) values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    invokable.invoke((Value) values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <Mapped> OptionArray<Mapped> map(ArgInvokable<Value, Mapped> invokable) {
+        final Object[] values = this.values;
+        final long[] present = this.present;
+        final Object[] mapped = new Object[values.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    mapped[index] = invokable.invoke((Value) values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    final int index = base + Long.numberOfTrailingZeros(word);
+                    mapped[index] = invokable.invoke((Value) values[index]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return new OptionArray<>(mapped, present.clone());
+    }
+
+    @SuppressWarnings("unchecked")
+    public OptionArray<Value> filter(Predicate<Value> predicate) {
+        final Object[] values = this.values;
+        final long[] present = this.present;
+        final Object[] filtered = new Object[values.length];
+        final long[] kept = new long[present.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            long keep = 0;
+            while (word != 0) {
+                final int bit = Long.numberOfTrailingZeros(word);
+                final Value value = (Value) values[base + bit];
+                if (predicate.test(value)) {
+                    filtered[base + bit] = value;
+                    keep |= 1L << bit;
+                }
+                word &= word - 1;
+            }
+            kept[i] = keep;
+        }
+        return new OptionArray<>(filtered, kept);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Option<Value>> toList() {
+        final List<Option<Value>> options = new ArrayList<>(values.length);
+        for (int index = 0; index < values.length; index++) {
+            options.add(Presence.get(present, index) ? Option.some((Value) values[index]) : Option.none());
+        }
+        return options;
+    }
+}
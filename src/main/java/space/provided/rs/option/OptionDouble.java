@@ -0,0 +1,202 @@
+package space.provided.rs.option;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.metrics.Metrics;
+import space.provided.rs.ops.DoubleArgInvokable;
+import space.provided.rs.ops.DoubleArgVoidInvokable;
+import space.provided.rs.ops.DoubleToDoubleInvokable;
+import space.provided.rs.ops.DoubleToIntInvokable;
+import space.provided.rs.ops.DoubleToLongInvokable;
+import space.provided.rs.ops.Invokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.result.ResultDouble;
+
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+
+/**
+ * Presence is encoded by identity with the shared {@link #none()} instance, so no state field is needed.
+ */
+public final class OptionDouble {
+
+    private static final OptionDouble NONE = new OptionDouble(0);
+
+    private final double some;
+
+    private OptionDouble(double some) {
+        this.some = some;
+    }
+
+    public static OptionDouble some(double some) {
+        if (Metrics.ENABLED) {
+            Metrics.some();
+        }
+        return new OptionDouble(some);
+    }
+
+    public static OptionDouble none() {
+        if (Metrics.ENABLED) {
+            Metrics.none();
+        }
+        return NONE;
+    }
+
+    static OptionDouble noneUncounted() {
+        return NONE;
+    }
+
+    public static OptionDouble fromOptional(OptionalDouble optional) {
+        return optional.isPresent() ? some(optional.getAsDouble()) : none();
+    }
+
+    public boolean isSome() {
+        return this != NONE;
+    }
+
+    public boolean isNone() {
+        return !isSome();
+    }
+
+    public boolean isSomeAnd(DoubleArgInvokable<Boolean> invokable) {
+        if (isNone()) {
+            return false;
+        }
+        return invokable.invoke(some);
+    }
+
+    public double unwrap() throws ValueAccessError {
+        if (!isSome()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on NONE Option.");
+        }
+        return some;
+    }
+
+    public double unwrapOr(double fallback) {
+        if (isSome()) {
+            return some;
+        }
+        return fallback;
+    }
+
+    public OptionDouble map(DoubleToDoubleInvokable invokable) {
+        if (isSome()) {
+            return OptionDouble.some(invokable.invoke(some));
+        }
+        return this;
+    }
+
+    public OptionInt mapToInt(DoubleToIntInvokable invokable) {
+        if (isSome()) {
+            return OptionInt.some(invokable.invoke(some));
+        }
+        return OptionInt.noneUncounted();
+    }
+
+    public OptionLong mapToLong(DoubleToLongInvokable invokable) {
+        if (isSome()) {
+            return OptionLong.some(invokable.invoke(some));
+        }
+        return OptionLong.noneUncounted();
+    }
+
+    public <Mapped> Option<Mapped> mapToObj(DoubleArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return Option.some(invokable.invoke(some));
+        }
+        return Option.noneUncounted();
+    }
+
+    public <Mapped> Mapped mapOr(Mapped fallback, DoubleArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return fallback;
+    }
+
+    public <Mapped> Mapped mapOrElse(PlainInvokable<Mapped> fallback, DoubleArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return fallback.invoke();
+    }
+
+    public <Err> ResultDouble<Err> okOr(Err error) {
+        if (isSome()) {
+            return ResultDouble.ok(some);
+        }
+        return ResultDouble.error(error);
+    }
+
+    public <Err> ResultDouble<Err> okOrElse(PlainInvokable<Err> invokable) {
+        if (isSome()) {
+            return ResultDouble.ok(some);
+        }
+        return ResultDouble.error(invokable.invoke());
+    }
+
+    public OptionDouble andThen(DoubleArgInvokable<OptionDouble> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return this;
+    }
+
+    public OptionDouble andThenContinue(DoubleArgVoidInvokable invokable) {
+        if (isSome()) {
+            invokable.invoke(some);
+        }
+        return this;
+    }
+
+    public OptionDouble and(OptionDouble option) {
+        if (isSome()) {
+            return option;
+        }
+        return this;
+    }
+
+    public OptionDouble filter(DoublePredicate predicate) {
+        if (isNone() || predicate.test(some)) {
+            return this;
+        }
+        return none();
+    }
+
+    public OptionDouble or(OptionDouble option) {
+        if (isSome()) {
+            return this;
+        }
+        return option;
+    }
+
+    public OptionDouble orElse(PlainInvokable<OptionDouble> invokable) {
+        if (isSome()) {
+            return this;
+        }
+        return invokable.invoke();
+    }
+
+    public OptionDouble orElseContinue(Invokable invokable) {
+        if (isNone()) {
+            invokable.invoke();
+        }
+        return this;
+    }
+
+    public Option<Double> boxed() {
+        if (isSome()) {
+            return Option.some(some);
+        }
+        return Option.noneUncounted();
+    }
+
+    public OptionalDouble toOptional() {
+        if (isSome()) {
+            return OptionalDouble.of(some);
+        }
+        return OptionalDouble.empty();
+    }
+}
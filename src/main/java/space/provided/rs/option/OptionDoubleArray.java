@@ -0,0 +1,163 @@
+package space.provided.rs.option;
+
+import space.provided.rs.internal.Presence;
+import space.provided.rs.ops.DoubleArgVoidInvokable;
+import space.provided.rs.ops.DoubleToDoubleInvokable;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * {@link OptionArray} for {@code double} values, stored unboxed in a {@code double[]}. Slots start as NONE.
+ */
+public final class OptionDoubleArray {
+
+    private final double[] values;
+    private final long[] present;
+
+    public OptionDoubleArray(int length) {
+        this(new double[length], Presence.words(length));
+    }
+
+    private OptionDoubleArray(double[] values, long[] present) {
+        this.values = values;
+        this.present = present;
+    }
+
+    public static OptionDoubleArray of(OptionDouble[] options) {
+        final OptionDoubleArray array = new OptionDoubleArray(options.length);
+        for (int index = 0; index < options.length; index++) {
+            final OptionDouble option = options[index];
+            if (option.isSome()) {
+                array.set(index, option.unwrap());
+            }
+        }
+        return array;
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    public boolean isSome(int index) {
+        Presence.checkIndex(index, values.length);
+        return Presence.get(present, index);
+    }
+
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    public OptionDouble get(int index) {
+        if (isSome(index)) {
+            return OptionDouble.some(values[index]);
+        }
+        return OptionDouble.none();
+    }
+
+    public OptionDoubleArray set(int index, double value) {
+        values[index] = value;
+        Presence.set(present, index);
+        return this;
+    }
+
+    public OptionDoubleArray clear(int index) {
+        values[index] = 0;
+        Presence.clear(present, index);
+        return this;
+    }
+
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public OptionInt firstNone() {
+        final int index = Presence.firstClear(present, values.length);
+        return index < 0 ? OptionInt.none() : OptionInt.some(index);
+    }
+
+    public void forEachSome(DoubleArgVoidInvokable invokable) {
+        final double[] values = this.values;
+        final long[] present = this.present;
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    invokable.invoke(values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    invokable.invoke(values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    public OptionDoubleArray map(DoubleToDoubleInvokable invokable) {
+        final double[] values = this.values;
+        final long[] present = this.present;
+        final double[] mapped = new double[values.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    mapped[index] = invokable.invoke(values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    final int index = base + Long.numberOfTrailingZeros(word);
+                    mapped[index] = invokable.invoke(values[index]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return new OptionDoubleArray(mapped, present.clone());
+    }
+
+    public OptionDoubleArray filter(DoublePredicate predicate) {
+        final double[] values = this.values;
+        final long[] present = this.present;
+        final double[] filtered = new double[values.length];
+        final long[] kept = new long[present.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            long keep = 0;
+            while (word != 0) {
+                final int bit = Long.numberOfTrailingZeros(word);
+                final double value = values[base + bit];
+                if (predicate.test(value)) {
+                    filtered[base + bit] = value;
+                    keep |= 1L << bit;
+                }
+                word &= word - 1;
+            }
+            kept[i] = keep;
+        }
+        return new OptionDoubleArray(filtered, kept);
+    }
+
+    public OptionDouble[] toArray() {
+        final OptionDouble[] options = new OptionDouble[values.length];
+        for (int index = 0; index < values.length; index++) {
+            options[index] = Presence.get(present, index) ? OptionDouble.some(values[index]) : OptionDouble.none();
+        }
+        return options;
+    }
+
+    public OptionArray<Double> boxed() {
+        final OptionArray<Double> array = new OptionArray<>(values.length);
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            while (word != 0) {
+                final int index = base + Long.numberOfTrailingZeros(word);
+                array.set(index, values[index]);
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,202 @@
+package space.provided.rs.option;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.metrics.Metrics;
+import space.provided.rs.ops.IntArgInvokable;
+import space.provided.rs.ops.IntArgVoidInvokable;
+import space.provided.rs.ops.IntToDoubleInvokable;
+import space.provided.rs.ops.IntToIntInvokable;
+import space.provided.rs.ops.IntToLongInvokable;
+import space.provided.rs.ops.Invokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.result.ResultInt;
+
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+
+/**
+ * Presence is encoded by identity with the shared {@link #none()} instance, so no state field is needed.
+ */
+public final class OptionInt {
+
+    private static final OptionInt NONE = new OptionInt(0);
+
+    private final int some;
+
+    private OptionInt(int some) {
+        this.some = some;
+    }
+
+    public static OptionInt some(int some) {
+        if (Metrics.ENABLED) {
+            Metrics.some();
+        }
+        return new OptionInt(some);
+    }
+
+    public static OptionInt none() {
+        if (Metrics.ENABLED) {
+            Metrics.none();
+        }
+        return NONE;
+    }
+
+    static OptionInt noneUncounted() {
+        return NONE;
+    }
+
+    public static OptionInt fromOptional(OptionalInt optional) {
+        return optional.isPresent() ? some(optional.getAsInt()) : none();
+    }
+
+    public boolean isSome() {
+        return this != NONE;
+    }
+
+    public boolean isNone() {
+        return !isSome();
+    }
+
+    public boolean isSomeAnd(IntArgInvokable<Boolean> invokable) {
+        if (isNone()) {
+            return false;
+        }
+        return invokable.invoke(some);
+    }
+
+    public int unwrap() throws ValueAccessError {
+        if (!isSome()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on NONE Option.");
+        }
+        return some;
+    }
+
+    public int unwrapOr(int fallback) {
+        if (isSome()) {
+            return some;
+        }
+        return fallback;
+    }
+
+    public OptionInt map(IntToIntInvokable invokable) {
+        if (isSome()) {
+            return OptionInt.some(invokable.invoke(some));
+        }
+        return this;
+    }
+
+    public OptionLong mapToLong(IntToLongInvokable invokable) {
+        if (isSome()) {
+            return OptionLong.some(invokable.invoke(some));
+        }
+        return OptionLong.noneUncounted();
+    }
+
+    public OptionDouble mapToDouble(IntToDoubleInvokable invokable) {
+        if (isSome()) {
+            return OptionDouble.some(invokable.invoke(some));
+        }
+        return OptionDouble.noneUncounted();
+    }
+
+    public <Mapped> Option<Mapped> mapToObj(IntArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return Option.some(invokable.invoke(some));
+        }
+        return Option.noneUncounted();
+    }
+
+    public <Mapped> Mapped mapOr(Mapped fallback, IntArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return fallback;
+    }
+
+    public <Mapped> Mapped mapOrElse(PlainInvokable<Mapped> fallback, IntArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return fallback.invoke();
+    }
+
+    public <Err> ResultInt<Err> okOr(Err error) {
+        if (isSome()) {
+            return ResultInt.ok(some);
+        }
+        return ResultInt.error(error);
+    }
+
+    public <Err> ResultInt<Err> okOrElse(PlainInvokable<Err> invokable) {
+        if (isSome()) {
+            return ResultInt.ok(some);
+        }
+        return ResultInt.error(invokable.invoke());
+    }
+
+    public OptionInt andThen(IntArgInvokable<OptionInt> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return this;
+    }
+
+    public OptionInt andThenContinue(IntArgVoidInvokable invokable) {
+        if (isSome()) {
+            invokable.invoke(some);
+        }
+        return this;
+    }
+
+    public OptionInt and(OptionInt option) {
+        if (isSome()) {
+            return option;
+        }
+        return this;
+    }
+
+    public OptionInt filter(IntPredicate predicate) {
+        if (isNone() || predicate.test(some)) {
+            return this;
+        }
+        return none();
+    }
+
+    public OptionInt or(OptionInt option) {
+        if (isSome()) {
+            return this;
+        }
+        return option;
+    }
+
+    public OptionInt orElse(PlainInvokable<OptionInt> invokable) {
+        if (isSome()) {
+            return this;
+        }
+        return invokable.invoke();
+    }
+
+    public OptionInt orElseContinue(Invokable invokable) {
+        if (isNone()) {
+            invokable.invoke();
+        }
+        return this;
+    }
+
+    public Option<Integer> boxed() {
+        if (isSome()) {
+            return Option.some(some);
+        }
+        return Option.noneUncounted();
+    }
+
+    public OptionalInt toOptional() {
+        if (isSome()) {
+            return OptionalInt.of(some);
+        }
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,163 @@
+package space.provided.rs.option;
+
+import space.provided.rs.internal.Presence;
+import space.provided.rs.ops.IntArgVoidInvokable;
+import space.provided.rs.ops.IntToIntInvokable;
+
+import java.util.function.IntPredicate;
+
+/**
+ * {@link OptionArray} for {@code int} values, stored unboxed in a {@code int[]}. Slots start as NONE.
+ */
+public final class OptionIntArray {
+
+    private final int[] values;
+    private final long[] present;
+
+    public OptionIntArray(int length) {
+        this(new int[length], Presence.words(length));
+    }
+
+    private OptionIntArray(int[] values, long[] present) {
+        this.values = values;
+        this.present = present;
+    }
+
+    public static OptionIntArray of(OptionInt[] options) {
+        final OptionIntArray array = new OptionIntArray(options.length);
+        for (int index = 0; index < options.length; index++) {
+            final OptionInt option = options[index];
+            if (option.isSome()) {
+                array.set(index, option.unwrap());
+            }
+        }
+        return array;
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    public boolean isSome(int index) {
+        Presence.checkIndex(index, values.length);
+        return Presence.get(present, index);
+    }
+
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    public OptionInt get(int index) {
+        if (isSome(index)) {
+            return OptionInt.some(values[index]);
+        }
+        return OptionInt.none();
+    }
+
+    public OptionIntArray set(int index, int value) {
+        values[index] = value;
+        Presence.set(present, index);
+        return this;
+    }
+
+    public OptionIntArray clear(int index) {
+        values[index] = 0;
+        Presence.clear(present, index);
+        return this;
+    }
+
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public OptionInt firstNone() {
+        final int index = Presence.firstClear(present, values.length);
+        return index < 0 ? OptionInt.none() : OptionInt.some(index);
+    }
+
+    public void forEachSome(IntArgVoidInvokable invokable) {
+        final int[] values = this.values;
+        final long[] present = this.present;
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    invokable.invoke(values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    invokable.invoke(values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    public OptionIntArray map(IntToIntInvokable invokable) {
+        final int[] values = this.values;
+        final long[] present = this.present;
+        final int[] mapped = new int[values.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    mapped[index] = invokable.invoke(values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    final int index = base + Long.numberOfTrailingZeros(word);
+                    mapped[index] = invokable.invoke(values[index]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return new OptionIntArray(mapped, present.clone());
+    }
+
+    public OptionIntArray filter(IntPredicate predicate) {
+        final int[] values = this.values;
+        final long[] present = this.present;
+        final int[] filtered = new int[values.length];
+        final long[] kept = new long[present.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            long keep = 0;
+            while (word != 0) {
+                final int bit = Long.numberOfTrailingZeros(word);
+                final int value = values[base + bit];
+                if (predicate.test(value)) {
+                    filtered[base + bit] = value;
+                    keep |= 1L << bit;
+                }
+                word &= word - 1;
+            }
+            kept[i] = keep;
+        }
+        return new OptionIntArray(filtered, kept);
+    }
+
+    public OptionInt[] toArray() {
+        final OptionInt[] options = new OptionInt[values.length];
+        for (int index = 0; index < values.length; index++) {
+            options[index] = Presence.get(present, index) ? OptionInt.some(values[index]) : OptionInt.none();
+        }
+        return options;
+    }
+
+    public OptionArray<Integer> boxed() {
+        final OptionArray<Integer> array = new OptionArray<>(values.length);
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            while (word != 0) {
+                final int index = base + Long.numberOfTrailingZeros(word);
+                array.set(index, values[index]);
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,202 @@
+package space.provided.rs.option;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.metrics.Metrics;
+import space.provided.rs.ops.Invokable;
+import space.provided.rs.ops.LongArgInvokable;
+import space.provided.rs.ops.LongArgVoidInvokable;
+import space.provided.rs.ops.LongToDoubleInvokable;
+import space.provided.rs.ops.LongToIntInvokable;
+import space.provided.rs.ops.LongToLongInvokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.result.ResultLong;
+
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+
+/**
+ * Presence is encoded by identity with the shared {@link #none()} instance, so no state field is needed.
+ */
+public final class OptionLong {
+
+    private static final OptionLong NONE = new OptionLong(0);
+
+    private final long some;
+
+    private OptionLong(long some) {
+        this.some = some;
+    }
+
+    public static OptionLong some(long some) {
+        if (Metrics.ENABLED) {
+            Metrics.some();
+        }
+        return new OptionLong(some);
+    }
+
+    public static OptionLong none() {
+        if (Metrics.ENABLED) {
+            Metrics.none();
+        }
+        return NONE;
+    }
+
+    static OptionLong noneUncounted() {
+        return NONE;
+    }
+
+    public static OptionLong fromOptional(OptionalLong optional) {
+        return optional.isPresent() ? some(optional.getAsLong()) : none();
+    }
+
+    public boolean isSome() {
+        return this != NONE;
+    }
+
+    public boolean isNone() {
+        return !isSome();
+    }
+
+    public boolean isSomeAnd(LongArgInvokable<Boolean> invokable) {
+        if (isNone()) {
+            return false;
+        }
+        return invokable.invoke(some);
+    }
+
+    public long unwrap() throws ValueAccessError {
+        if (!isSome()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on NONE Option.");
+        }
+        return some;
+    }
+
+    public long unwrapOr(long fallback) {
+        if (isSome()) {
+            return some;
+        }
+        return fallback;
+    }
+
+    public OptionLong map(LongToLongInvokable invokable) {
+        if (isSome()) {
+            return OptionLong.some(invokable.invoke(some));
+        }
+        return this;
+    }
+
+    public OptionInt mapToInt(LongToIntInvokable invokable) {
+        if (isSome()) {
+            return OptionInt.some(invokable.invoke(some));
+        }
+        return OptionInt.noneUncounted();
+    }
+
+    public OptionDouble mapToDouble(LongToDoubleInvokable invokable) {
+        if (isSome()) {
+            return OptionDouble.some(invokable.invoke(some));
+        }
+        return OptionDouble.noneUncounted();
+    }
+
+    public <Mapped> Option<Mapped> mapToObj(LongArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return Option.some(invokable.invoke(some));
+        }
+        return Option.noneUncounted();
+    }
+
+    public <Mapped> Mapped mapOr(Mapped fallback, LongArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return fallback;
+    }
+
+    public <Mapped> Mapped mapOrElse(PlainInvokable<Mapped> fallback, LongArgInvokable<Mapped> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return fallback.invoke();
+    }
+
+    public <Err> ResultLong<Err> okOr(Err error) {
+        if (isSome()) {
+            return ResultLong.ok(some);
+        }
+        return ResultLong.error(error);
+    }
+
+    public <Err> ResultLong<Err> okOrElse(PlainInvokable<Err> invokable) {
+        if (isSome()) {
+            return ResultLong.ok(some);
+        }
+        return ResultLong.error(invokable.invoke());
+    }
+
+    public OptionLong andThen(LongArgInvokable<OptionLong> invokable) {
+        if (isSome()) {
+            return invokable.invoke(some);
+        }
+        return this;
+    }
+
+    public OptionLong andThenContinue(LongArgVoidInvokable invokable) {
+        if (isSome()) {
+            invokable.invoke(some);
+        }
+        return this;
+    }
+
+    public OptionLong and(OptionLong option) {
+        if (isSome()) {
+            return option;
+        }
+        return this;
+    }
+
+    public OptionLong filter(LongPredicate predicate) {
+        if (isNone() || predicate.test(some)) {
+            return this;
+        }
+        return none();
+    }
+
+    public OptionLong or(OptionLong option) {
+        if (isSome()) {
+            return this;
+        }
+        return option;
+    }
+
+    public OptionLong orElse(PlainInvokable<OptionLong> invokable) {
+        if (isSome()) {
+            return this;
+        }
+        return invokable.invoke();
+    }
+
+    public OptionLong orElseContinue(Invokable invokable) {
+        if (isNone()) {
+            invokable.invoke();
+        }
+        return this;
+    }
+
+    public Option<Long> boxed() {
+        if (isSome()) {
+            return Option.some(some);
+        }
+        return Option.noneUncounted();
+    }
+
+    public OptionalLong toOptional() {
+        if (isSome()) {
+            return OptionalLong.of(some);
+        }
+        return OptionalLong.empty();
+    }
+}
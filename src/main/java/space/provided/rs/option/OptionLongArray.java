@@ -0,0 +1,163 @@
+package space.provided.rs.option;
+
+import space.provided.rs.internal.Presence;
+import space.provided.rs.ops.LongArgVoidInvokable;
+import space.provided.rs.ops.LongToLongInvokable;
+
+import java.util.function.LongPredicate;
+
+/**
+ * {@link OptionArray} for {@code long} values, stored unboxed in a {@code long[]}. Slots start as NONE.
+ */
+public final class OptionLongArray {
+
+    private final long[] values;
+    private final long[] present;
+
+    public OptionLongArray(int length) {
+        this(new long[length], Presence.words(length));
+    }
+
+    private OptionLongArray(long[] values, long[] present) {
+        this.values = values;
+        this.present = present;
+    }
+
+    public static OptionLongArray of(OptionLong[] options) {
+        final OptionLongArray array = new OptionLongArray(options.length);
+        for (int index = 0; index < options.length; index++) {
+            final OptionLong option = options[index];
+            if (option.isSome()) {
+                array.set(index, option.unwrap());
+            }
+        }
+        return array;
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    public boolean isSome(int index) {
+        Presence.checkIndex(index, values.length);
+        return Presence.get(present, index);
+    }
+
+    public boolean isNone(int index) {
+        return !isSome(index);
+    }
+
+    public OptionLong get(int index) {
+        if (isSome(index)) {
+            return OptionLong.some(values[index]);
+        }
+        return OptionLong.none();
+    }
+
+    public OptionLongArray set(int index, long value) {
+        values[index] = value;
+        Presence.set(present, index);
+        return this;
+    }
+
+    public OptionLongArray clear(int index) {
+        values[index] = 0;
+        Presence.clear(present, index);
+        return this;
+    }
+
+    public int count() {
+        return Presence.count(present);
+    }
+
+    public OptionInt firstNone() {
+        final int index = Presence.firstClear(present, values.length);
+        return index < 0 ? OptionInt.none() : OptionInt.some(index);
+    }
+
+    public void forEachSome(LongArgVoidInvokable invokable) {
+        final long[] values = this.values;
+        final long[] present = this.present;
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    invokable.invoke(values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    invokable.invoke(values[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    public OptionLongArray map(LongToLongInvokable invokable) {
+        final long[] values = this.values;
+        final long[] present = this.present;
+        final long[] mapped = new long[values.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    mapped[index] = invokable.invoke(values[index]);
+                }
+            } else {
+                while (word != 0) {
+                    final int index = base + Long.numberOfTrailingZeros(word);
+                    mapped[index] = invokable.invoke(values[index]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return new OptionLongArray(mapped, present.clone());
+    }
+
+    public OptionLongArray filter(LongPredicate predicate) {
+        final long[] values = this.values;
+        final long[] present = this.present;
+        final long[] filtered = new long[values.length];
+        final long[] kept = new long[present.length];
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            long keep = 0;
+            while (word != 0) {
+                final int bit = Long.numberOfTrailingZeros(word);
+                final long value = values[base + bit];
+                if (predicate.test(value)) {
+                    filtered[base + bit] = value;
+                    keep |= 1L << bit;
+                }
+                word &= word - 1;
+            }
+            kept[i] = keep;
+        }
+        return new OptionLongArray(filtered, kept);
+    }
+
+    public OptionLong[] toArray() {
+        final OptionLong[] options = new OptionLong[values.length];
+        for (int index = 0; index < values.length; index++) {
+            options[index] = Presence.get(present, index) ? OptionLong.some(values[index]) : OptionLong.none();
+        }
+        return options;
+    }
+
+    public OptionArray<Long> boxed() {
+        final OptionArray<Long> array = new OptionArray<>(values.length);
+        for (int i = 0; i < present.length; i++) {
+            long word = present[i];
+            final int base = i << 6;
+            while (word != 0) {
+                final int index = base + Long.numberOfTrailingZeros(word);
+                array.set(index, values[index]);
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+}
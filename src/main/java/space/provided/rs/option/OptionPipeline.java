@@ -0,0 +1,111 @@
+package space.provided.rs.option;
+
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Describes a chain of {@link Option} combinators once and compiles it into a reusable function.
+ * <p>
+ * The steps are composed into continuations which pass the plain value on and only create the returned
+ * {@code Option}, instead of one per step. An {@code Option} returned by the last {@link #andThen} or
+ * {@link #orElse} is returned as it is. On NONE the chain continues straight at the next
+ * {@link #orElse(PlainInvokable)}.
+ * Pipelines are immutable, so a shared prefix can be extended in several ways.
+ */
+public final class OptionPipeline<In, Out> {
+
+    private static final byte MAP = 0;
+    private static final byte AND_THEN = 1;
+    private static final byte FILTER = 2;
+    private static final byte OR_ELSE = 3;
+
+    private static final OptionPipeline<?, ?> EMPTY = new OptionPipeline<>(new byte[0], new Object[0]);
+
+    private static final ArgInvokable<Object, Option<Object>> SOME = Option::some;
+    private static final PlainInvokable<Option<Object>> NONE = Option::none;
+
+    private final byte[] opcodes;
+    private final Object[] steps;
+
+    private OptionPipeline(byte[] opcodes, Object[] steps) {
+        this.opcodes = opcodes;
+        this.steps = steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <In> OptionPipeline<In, In> start() {
+        return (OptionPipeline<In, In>) EMPTY;
+    }
+
+    public <Mapped> OptionPipeline<In, Mapped> map(ArgInvokable<Out, Mapped> invokable) {
+        return append(MAP, invokable);
+    }
+
+    public <Mapped> OptionPipeline<In, Mapped> andThen(ArgInvokable<Out, Option<Mapped>> invokable) {
+        return append(AND_THEN, invokable);
+    }
+
+    public OptionPipeline<In, Out> filter(Predicate<Out> predicate) {
+        return append(FILTER, predicate);
+    }
+
+    public OptionPipeline<In, Out> orElse(PlainInvokable<Option<Out>> invokable) {
+        return append(OR_ELSE, invokable);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArgInvokable<In, Option<Out>> build() {
+        ArgInvokable<Object, Option<Object>> some = SOME;
+        PlainInvokable<Option<Object>> none = NONE;
+        for (int index = opcodes.length - 1; index >= 0; index--) {
+            final ArgInvokable<Object, Option<Object>> nextSome = some;
+            final PlainInvokable<Option<Object>> nextNone = none;
+            switch (opcodes[index]) {
+                case MAP: {
+                    final ArgInvokable<Object, Object> invokable = (ArgInvokable) steps[index];
+                    some = value -> nextSome.invoke(invokable.invoke(value));
+                    break;
+                }
+                case AND_THEN: {
+                    final ArgInvokable<Object, Option<Object>> invokable = (ArgInvokable) steps[index];
+                    some = value -> resume(invokable.invoke(value), nextSome, nextNone);
+                    break;
+                }
+                case FILTER: {
+                    final Predicate<Object> predicate = (Predicate) steps[index];
+                    some = value -> predicate.test(value) ? nextSome.invoke(value) : nextNone.invoke();
+                    break;
+                }
+                case OR_ELSE: {
+                    final PlainInvokable<Option<Object>> invokable = (PlainInvokable) steps[index];
+                    none = () -> resume(invokable.invoke(), nextSome, nextNone);
+                    break;
+                }
+            }
+        }
+        return (ArgInvokable) some;
+    }
+
+    /**
+     * Like the one of {@link space.provided.rs.result.ResultPipeline}, returns the option itself at the end of the
+     * chain.
+     */
+    private static Option<Object> resume(Option<Object> option, ArgInvokable<Object, Option<Object>> some, PlainInvokable<Option<Object>> none) {
+        if (option.isSome()) {
+            return some == SOME ? option : some.invoke(option.value());
+        }
+        return none == NONE ? option : none.invoke();
+    }
+
+    private <Mapped> OptionPipeline<In, Mapped> append(byte opcode, Object step) {
+        final int length = opcodes.length;
+        final byte[] opcodes = Arrays.copyOf(this.opcodes, length + 1);
+        final Object[] steps = Arrays.copyOf(this.steps, length + 1);
+        opcodes[length] = opcode;
+        steps[length] = step;
+        return new OptionPipeline<>(opcodes, steps);
+    }
+}
@@ -0,0 +1,123 @@
+package space.provided.rs.option;
+
+import space.provided.rs.ops.ArgInvokable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Bulk operations over many {@link Option}s. {@code sequence} and {@code traverse} stop at the first {@code None}.
+ * Output lists are allocated with their final capacity, and {@link RandomAccess} lists as well as arrays are walked by
+ * index instead of through an {@link Iterator}.
+ */
+public final class Options {
+
+    private Options() {
+    }
+
+    public static <Some> Option<List<Some>> sequence(List<Option<Some>> options) {
+        final int size = options.size();
+        final List<Some> values = new ArrayList<>(size);
+        if (options instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                final Option<Some> option = options.get(i);
+                if (option.isNone()) {
+                    return Option.noneUncounted();
+                }
+                values.add(option.value());
+            }
+        } else {
+            for (Option<Some> option : options) {
+                if (option.isNone()) {
+                    return Option.noneUncounted();
+                }
+                values.add(option.value());
+            }
+        }
+        return Option.some(values);
+    }
+
+    public static <Some> Option<List<Some>> sequence(Option<Some>[] options) {
+        final List<Some> values = new ArrayList<>(options.length);
+        for (Option<Some> option : options) {
+            if (option.isNone()) {
+                return Option.noneUncounted();
+            }
+            values.add(option.value());
+        }
+        return Option.some(values);
+    }
+
+    public static <Value, Some> Option<List<Some>> traverse(Collection<Value> values, ArgInvokable<Value, Option<Some>> invokable) {
+        final int size = values.size();
+        final List<Some> somes = new ArrayList<>(size);
+        if (values instanceof List && values instanceof RandomAccess) {
+            final List<Value> list = (List<Value>) values;
+            for (int i = 0; i < size; i++) {
+                final Option<Some> option = invokable.invoke(list.get(i));
+                if (option.isNone()) {
+                    return Option.noneUncounted();
+                }
+                somes.add(option.value());
+            }
+        } else {
+            for (Value value : values) {
+                final Option<Some> option = invokable.invoke(value);
+                if (option.isNone()) {
+                    return Option.noneUncounted();
+                }
+                somes.add(option.value());
+            }
+        }
+        return Option.some(somes);
+    }
+
+    public static <Value, Some> Option<List<Some>> traverse(Value[] values, ArgInvokable<Value, Option<Some>> invokable) {
+        final List<Some> somes = new ArrayList<>(values.length);
+        for (Value value : values) {
+            final Option<Some> option = invokable.invoke(value);
+            if (option.isNone()) {
+                return Option.noneUncounted();
+            }
+            somes.add(option.value());
+        }
+        return Option.some(somes);
+    }
+
+    public static <Some> List<Some> flatten(Collection<Option<Some>> options) {
+        int count = 0;
+        for (Option<Some> option : options) {
+            if (option.isSome()) {
+                count++;
+            }
+        }
+
+        final List<Some> values = new ArrayList<>(count);
+        for (Option<Some> option : options) {
+            if (option.isSome()) {
+                values.add(option.value());
+            }
+        }
+        return values;
+    }
+
+    public static <Some> List<Some> flatten(Option<Some>[] options) {
+        int count = 0;
+        for (Option<Some> option : options) {
+            if (option.isSome()) {
+                count++;
+            }
+        }
+
+        final List<Some> values = new ArrayList<>(count);
+        for (Option<Some> option : options) {
+            if (option.isSome()) {
+                values.add(option.value());
+            }
+        }
+        return values;
+    }
+}
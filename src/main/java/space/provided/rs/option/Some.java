@@ -0,0 +1,20 @@
+package space.provided.rs.option;
+
+public final class Some<Value> extends Option<Value> {
+
+    private final Value value;
+
+    Some(Value value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    @Override
+    public Value value() {
+        return value;
+    }
+}
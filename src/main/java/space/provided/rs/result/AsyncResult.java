@@ -0,0 +1,148 @@
+package space.provided.rs.result;
+
+import space.provided.rs.concurrent.DefaultExecutor;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link Result} that is computed asynchronously. The combinators mirror the ones of {@link Result}, but return
+ * immediately and run their invokable on the executor once the previous step completed.
+ * <p>
+ * Without an explicit executor, {@link DefaultExecutor} is used, which runs on virtual threads on Java 21+. Exceptions
+ * thrown by an invokable complete the underlying future exceptionally; {@link #join()} rethrows them wrapped in a
+ * {@link java.util.concurrent.CompletionException}.
+ */
+public final class AsyncResult<Ok, Error> {
+
+    private final CompletableFuture<Result<Ok, Error>> future;
+    private final Executor executor;
+
+    private AsyncResult(CompletableFuture<Result<Ok, Error>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> of(CompletableFuture<Result<Ok, Err>> future) {
+        return of(future, DefaultExecutor.get());
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> of(CompletableFuture<Result<Ok, Err>> future, Executor executor) {
+        return new AsyncResult<>(future, executor);
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> of(Result<Ok, Err> result) {
+        return of(CompletableFuture.completedFuture(result));
+    }
+
+    public static <Ok> AsyncResult<Ok, Throwable> fromFuture(CompletionStage<Ok> stage) {
+        return fromFuture(stage, DefaultExecutor.get());
+    }
+
+    /**
+     * An exceptional completion becomes an error holding the exception, unwrapped from a {@link CompletionException}.
+     */
+    public static <Ok> AsyncResult<Ok, Throwable> fromFuture(CompletionStage<Ok> stage, Executor executor) {
+        final CompletionStage<Result<Ok, Throwable>> handled = stage.handle((value, exception) -> {
+            if (exception == null) {
+                return Result.ok(value);
+            }
+            return Result.error(exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception);
+        });
+        return of(handled.toCompletableFuture(), executor);
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> ok(Ok value) {
+        return of(Result.ok(value));
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> error(Err value) {
+        return of(Result.error(value));
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> supply(PlainInvokable<Result<Ok, Err>> invokable) {
+        return supply(invokable, DefaultExecutor.get());
+    }
+
+    public static <Ok, Err> AsyncResult<Ok, Err> supply(PlainInvokable<Result<Ok, Err>> invokable, Executor executor) {
+        return of(CompletableFuture.supplyAsync(invokable::invoke, executor), executor);
+    }
+
+    public AsyncResult<Ok, Error> withExecutor(Executor executor) {
+        return new AsyncResult<>(future, executor);
+    }
+
+    public <Mapped> AsyncResult<Mapped, Error> map(ArgInvokable<Ok, Mapped> invokable) {
+        return next(future.thenApplyAsync(result -> result.map(invokable), executor));
+    }
+
+    public AsyncResult<Ok, Error> and(AsyncResult<Ok, Error> result) {
+        return next(future.thenCompose(self -> self.isOk() ? result.future : CompletableFuture.completedFuture(self)));
+    }
+
+    public AsyncResult<Ok, Error> andThen(ArgInvokable<Ok, Result<Ok, Error>> invokable) {
+        return next(future.thenApplyAsync(result -> result.andThen(invokable), executor));
+    }
+
+    public AsyncResult<Ok, Error> andThenAsync(ArgInvokable<Ok, AsyncResult<Ok, Error>> invokable) {
+        return next(future.thenComposeAsync(result -> {
+            if (result.isOk()) {
+                return invokable.invoke(result.okValue()).future;
+            }
+            return CompletableFuture.completedFuture(result);
+        }, executor));
+    }
+
+    public AsyncResult<Ok, Error> andThenContinue(ArgVoidInvokable<Ok> invokable) {
+        return next(future.thenApplyAsync(result -> result.andThenContinue(invokable), executor));
+    }
+
+    public AsyncResult<Ok, Error> or(AsyncResult<Ok, Error> result) {
+        return next(future.thenCompose(self -> self.isOk() ? CompletableFuture.completedFuture(self) : result.future));
+    }
+
+    public AsyncResult<Ok, Error> orElse(ArgInvokable<Error, Result<Ok, Error>> invokable) {
+        return next(future.thenApplyAsync(result -> result.orElse(invokable), executor));
+    }
+
+    public AsyncResult<Ok, Error> orElseAsync(ArgInvokable<Error, AsyncResult<Ok, Error>> invokable) {
+        return next(future.thenComposeAsync(result -> {
+            if (result.isError()) {
+                return invokable.invoke(result.errorValue()).future;
+            }
+            return CompletableFuture.completedFuture(result);
+        }, executor));
+    }
+
+    public AsyncResult<Ok, Error> orElseContinue(ArgVoidInvokable<Error> invokable) {
+        return next(future.thenApplyAsync(result -> result.orElseContinue(invokable), executor));
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public Result<Ok, Error> join() {
+        return future.join();
+    }
+
+    public CompletableFuture<Result<Ok, Error>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Like {@link Result#toFuture}, the returned future fails with the exception {@code invokable} maps an error to.
+     */
+    public <Thrown extends Throwable> CompletableFuture<Ok> toFuture(ArgInvokable<Error, Thrown> invokable) {
+        return future.thenCompose(result -> result.toFuture(invokable));
+    }
+
+    private <MappedOk> AsyncResult<MappedOk, Error> next(CompletableFuture<Result<MappedOk, Error>> next) {
+        return new AsyncResult<>(next, executor);
+    }
+}
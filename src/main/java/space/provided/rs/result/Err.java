@@ -0,0 +1,29 @@
+package space.provided.rs.result;
+
+public final class Err<Value, Error> extends Result<Value, Error> {
+
+    private final Error error;
+
+    Err(Error error) {
+        this.error = error;
+    }
+
+    public Error value() {
+        return error;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    Value okValue() {
+        return null;
+    }
+
+    @Override
+    Error errorValue() {
+        return error;
+    }
+}
@@ -0,0 +1,98 @@
+package space.provided.rs.result;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.Objects;
+
+/**
+ * A {@link Result} that is computed on first access and memoized afterwards. The invokable runs at most once, even
+ * when the value is requested by several threads at the same time; if it throws, the next access tries again.
+ * <p>
+ * Combinators don't evaluate anything, they return a new {@code LazyResult} which runs the whole chain once its value
+ * is requested. Methods returning a plain value ({@link #unwrap()}, {@link #isOk()}, ...) force the evaluation.
+ */
+public final class LazyResult<Ok, Error> {
+
+    private PlainInvokable<Result<Ok, Error>> invokable;
+    private volatile Result<Ok, Error> result;
+
+    private LazyResult(PlainInvokable<Result<Ok, Error>> invokable, Result<Ok, Error> result) {
+        this.invokable = invokable;
+        this.result = result;
+    }
+
+    public static <Ok, Err> LazyResult<Ok, Err> of(PlainInvokable<Result<Ok, Err>> invokable) {
+        return new LazyResult<>(invokable, null);
+    }
+
+    public static <Ok, Err> LazyResult<Ok, Err> of(Result<Ok, Err> result) {
+        return new LazyResult<>(null, result);
+    }
+
+    public Result<Ok, Error> get() {
+        Result<Ok, Error> result = this.result;
+        if (result == null) {
+            synchronized (this) {
+                result = this.result;
+                if (result == null) {
+                    result = Objects.requireNonNull(invokable.invoke(), "Lazy invokable returned null instead of a Result.");
+                    this.result = result;
+                    invokable = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean isEvaluated() {
+        return result != null;
+    }
+
+    public boolean isOk() {
+        return get().isOk();
+    }
+
+    public boolean isError() {
+        return get().isError();
+    }
+
+    public Ok unwrap() throws ValueAccessError {
+        return get().unwrap();
+    }
+
+    public Error unwrapError() throws ValueAccessError {
+        return get().unwrapError();
+    }
+
+    public Ok unwrapOrElse(ArgInvokable<Error, Ok> invokable) {
+        return get().unwrapOrElse(invokable);
+    }
+
+    public <Mapped> LazyResult<Mapped, Error> map(ArgInvokable<Ok, Mapped> invokable) {
+        return of(() -> get().map(invokable));
+    }
+
+    public LazyResult<Ok, Error> and(LazyResult<Ok, Error> result) {
+        return of(() -> {
+            final Result<Ok, Error> self = get();
+            return self.isOk() ? result.get() : self;
+        });
+    }
+
+    public LazyResult<Ok, Error> andThen(ArgInvokable<Ok, Result<Ok, Error>> invokable) {
+        return of(() -> get().andThen(invokable));
+    }
+
+    public LazyResult<Ok, Error> or(LazyResult<Ok, Error> result) {
+        return of(() -> {
+            final Result<Ok, Error> self = get();
+            return self.isOk() ? self : result.get();
+        });
+    }
+
+    public LazyResult<Ok, Error> orElse(ArgInvokable<Error, Result<Ok, Error>> invokable) {
+        return of(() -> get().orElse(invokable));
+    }
+}
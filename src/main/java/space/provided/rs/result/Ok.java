@@ -0,0 +1,29 @@
+package space.provided.rs.result;
+
+public final class Ok<Value, Error> extends Result<Value, Error> {
+
+    private final Value value;
+
+    Ok(Value value) {
+        this.value = value;
+    }
+
+    public Value value() {
+        return value;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    Value okValue() {
+        return value;
+    }
+
+    @Override
+    Error errorValue() {
+        return null;
+    }
+}
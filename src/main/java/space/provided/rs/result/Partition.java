@@ -0,0 +1,22 @@
+package space.provided.rs.result;
+
+import java.util.List;
+
+public final class Partition<Ok, Error> {
+
+    private final List<Ok> oks;
+    private final List<Error> errors;
+
+    Partition(List<Ok> oks, List<Error> errors) {
+        this.oks = oks;
+        this.errors = errors;
+    }
+
+    public List<Ok> oks() {
+        return oks;
+    }
+
+    public List<Error> errors() {
+        return errors;
+    }
+}
@@ -0,0 +1,200 @@
+package space.provided.rs.result;
+
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs attempts of {@link Results#race} and {@link Results#hedge} and completes with the first ok value. Attempts are
+ * launched one after another, each one after the delay or as soon as the previous one failed. Once the race is
+ * decided, attempts which haven't started are skipped and running ones are interrupted.
+ */
+final class Race<Ok, Error> {
+
+    private final CompletableFuture<Result<Ok, List<Error>>> future = new CompletableFuture<>();
+    private final List<Attempt> attempts;
+    private final Object[] errors;
+    private final Executor executor;
+    private final long delayNanos;
+    private final AtomicInteger launched = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private volatile ScheduledFuture<?> timer;
+    private volatile Throwable thrown;
+
+    private Race(List<? extends PlainInvokable<Result<Ok, Error>>> invokables, Executor executor, long delayNanos) {
+        final int size = invokables.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one attempt is required.");
+        }
+        this.attempts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            attempts.add(new Attempt(i, invokables.get(i)));
+        }
+        this.errors = new Object[size];
+        this.executor = executor;
+        this.delayNanos = delayNanos;
+        this.remaining = new AtomicInteger(size);
+    }
+
+    static <Ok, Error> CompletableFuture<Result<Ok, List<Error>>> start(List<? extends PlainInvokable<Result<Ok, Error>>> invokables, Executor executor, long delayNanos) {
+        final Race<Ok, Error> race = new Race<>(invokables, executor, delayNanos);
+        race.future.whenComplete((result, exception) -> race.cancel());
+        if (delayNanos <= 0) {
+            for (int i = 0; i < race.attempts.size(); i++) {
+                race.launchNext();
+            }
+        } else {
+            race.launchNext();
+        }
+        return race.future;
+    }
+
+    private void launchNext() {
+        while (!future.isDone()) {
+            final int index = launched.get();
+            if (index >= attempts.size()) {
+                return;
+            }
+            if (launched.compareAndSet(index, index + 1)) {
+                launch(index);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Launches {@code index} from its timer, unless an error launched it early.
+     */
+    private void launchScheduled(int index) {
+        if (!future.isDone() && launched.compareAndSet(index, index + 1)) {
+            launch(index);
+        }
+    }
+
+    private void launch(int index) {
+        if (delayNanos > 0 && index + 1 < attempts.size()) {
+            final ScheduledFuture<?> previous = timer;
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            timer = Scheduler.INSTANCE.schedule(() -> launchScheduled(index + 1), delayNanos, TimeUnit.NANOSECONDS);
+        }
+        try {
+            executor.execute(attempts.get(index));
+        } catch (RuntimeException exception) {
+            // A rejected attempt counts as failed, so the race still completes.
+            fail(index, null, exception);
+        }
+    }
+
+    private void fail(int index, Object error, Throwable exception) {
+        errors[index] = error;
+        if (exception != null && thrown == null) {
+            thrown = exception;
+        }
+        if (remaining.decrementAndGet() == 0) {
+            final Throwable thrown = this.thrown;
+            if (thrown != null) {
+                future.completeExceptionally(thrown);
+            } else {
+                future.complete(Result.error(errorList()));
+            }
+        } else {
+            launchNext();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Error> errorList() {
+        return Collections.unmodifiableList((List<Error>) Arrays.asList(errors));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Ok, Error> Result<Ok, List<Error>> okResult(Result<Ok, Error> result) {
+        // An ok result never exposes its error type.
+        return (Result<Ok, List<Error>>) (Result<Ok, ?>) result;
+    }
+
+    private void cancel() {
+        final ScheduledFuture<?> timer = this.timer;
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        for (Attempt attempt : attempts) {
+            attempt.cancel();
+        }
+    }
+
+    private final class Attempt implements Runnable {
+
+        private final int index;
+        private final PlainInvokable<Result<Ok, Error>> invokable;
+        private Thread runner;
+        private boolean cancelled;
+
+        private Attempt(int index, PlainInvokable<Result<Ok, Error>> invokable) {
+            this.index = index;
+            this.invokable = invokable;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            Result<Ok, Error> result = null;
+            Throwable exception = null;
+            try {
+                result = invokable.invoke();
+            } catch (Throwable throwable) {
+                exception = throwable;
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    if (cancelled) {
+                        // Don't leak the interrupt of the cancellation into the next task of a pooled thread.
+                        Thread.interrupted();
+                    }
+                }
+            }
+            if (result != null && result.isOk()) {
+                future.complete(okResult(result));
+            } else if (!future.isDone()) {
+                fail(index, result == null ? null : result.errorValue(), exception);
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            return new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "rs4j-hedge");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package space.provided.rs.result;
 
 import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.jfr.Events;
+import space.provided.rs.metrics.Metrics;
 import space.provided.rs.ops.ArgInvokable;
 import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.ThrowingArgInvokable;
+import space.provided.rs.ops.ThrowingArgVoidInvokable;
+import space.provided.rs.ops.ThrowingInvokable;
+import space.provided.rs.ops.ThrowingPlainInvokable;
 
-public final class Result<Ok, Error> {
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
-    private final Ok ok;
-    private final Error error;
-    private final ResultType type;
+/**
+ * The state is encoded in the class ({@link space.provided.rs.result.Ok} or {@link space.provided.rs.result.Err})
+ * instead of a field, so an instance consists of the object header and a single reference.
+ */
+public abstract class Result<Ok, Error> {
 
-    private Result(ResultType type, Ok ok, Error error) {
-        this.type = type;
-        this.ok = ok;
-        this.error = error;
+    Result() {
     }
 
     public static <Ok, Err> Result<Ok, Err> ok() {
@@ -21,7 +28,11 @@ public final class Result<Ok, Error> {
     }
 
     public static <Ok, Err> Result<Ok, Err> ok(Ok value) {
-        return new Result<>(ResultType.OK, value, null);
+        if (Metrics.ENABLED) {
+            Metrics.ok();
+        }
+        // The type parameters shadow the class names within Result.
+        return new space.provided.rs.result.Ok<>(value);
     }
 
     public static <Ok, Err> Result<Ok, Err> error() {
@@ -29,32 +40,123 @@ public final class Result<Ok, Error> {
     }
 
     public static <Ok, Err> Result<Ok, Err> error(Err value) {
-        return new Result<>(ResultType.ERROR, null, value);
+        if (Metrics.ENABLED) {
+            Metrics.error(value);
+        }
+        Events.errorCreated(value);
+        return new space.provided.rs.result.Err<>(value);
+    }
+
+    /**
+     * An error without counting it in {@link Metrics} or recording an event, for re-wrapping an error which already
+     * exists.
+     */
+    static <Ok, Err> Result<Ok, Err> errorUncounted(Err value) {
+        return new space.provided.rs.result.Err<>(value);
+    }
+
+    /**
+     * Returns an error for {@code null}.
+     */
+    public static <Ok, Error> Result<Ok, Error> ofNullable(Ok value, Error error) {
+        if (value == null) {
+            return error(error);
+        }
+        return ok(value);
+    }
+
+    public static <Ok> Result<Ok, Exception> catching(ThrowingPlainInvokable<Ok, ? extends Exception> invokable) {
+        return catching(Exception.class, invokable);
+    }
+
+    /**
+     * Exceptions which are not instances of {@code type} are rethrown, wrapped in an
+     * {@link UndeclaredThrowableException} if they are checked.
+     */
+    public static <Ok, Thrown extends Exception> Result<Ok, Thrown> catching(Class<Thrown> type, ThrowingPlainInvokable<Ok, ? extends Exception> invokable) {
+        try {
+            return ok(invokable.invoke());
+        } catch (Exception exception) {
+            return error(caught(type, exception));
+        }
+    }
+
+    public static <Ok, Err> Result<Ok, Err> catchingMap(ThrowingPlainInvokable<Ok, ? extends Exception> invokable, ArgInvokable<Exception, Err> mapper) {
+        return catchingMap(Exception.class, invokable, mapper);
+    }
+
+    /**
+     * Like {@link #catching(Class, ThrowingPlainInvokable)}, but only the mapped error (e.g. an error code) is kept,
+     * so the exception and its stack trace can be collected right away.
+     */
+    public static <Ok, Err, Thrown extends Exception> Result<Ok, Err> catchingMap(Class<Thrown> type, ThrowingPlainInvokable<Ok, ? extends Exception> invokable, ArgInvokable<Thrown, Err> mapper) {
+        try {
+            return ok(invokable.invoke());
+        } catch (Exception exception) {
+            return error(mapper.invoke(caught(type, exception)));
+        }
+    }
+
+    public static <Thrown extends Exception> Result<Void, Thrown> catchingRun(Class<Thrown> type, ThrowingInvokable<? extends Exception> invokable) {
+        try {
+            invokable.invoke();
+            return ok();
+        } catch (Exception exception) {
+            return error(caught(type, exception));
+        }
+    }
+
+    /**
+     * Turns a throwing function into one returning a Result, to be used with {@link #andThen(ArgInvokable)}.
+     */
+    public static <Value, Ok, Thrown extends Exception> ArgInvokable<Value, Result<Ok, Thrown>> lift(Class<Thrown> type, ThrowingArgInvokable<Value, Ok, ? extends Exception> invokable) {
+        return value -> catching(type, () -> invokable.invoke(value));
+    }
+
+    public static <Value, Thrown extends Exception> ArgInvokable<Value, Result<Void, Thrown>> liftRun(Class<Thrown> type, ThrowingArgVoidInvokable<Value, ? extends Exception> invokable) {
+        return value -> catchingRun(type, () -> invokable.invoke(value));
+    }
+
+    private static <Thrown extends Exception> Thrown caught(Class<Thrown> type, Exception exception) {
+        if (exception instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        if (type.isInstance(exception)) {
+            return type.cast(exception);
+        }
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+        throw new UndeclaredThrowableException(exception);
     }
 
     public Ok unwrap() throws ValueAccessError {
         if (!isOk()) {
-            throw new ValueAccessError(String.format("Called `unwrap` on %1$s Result.", type));
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on ERROR Result.");
         }
-        return ok;
+        return okValue();
     }
 
     public Error unwrapError() throws ValueAccessError {
         if (!isError()) {
-            throw new ValueAccessError(String.format("Called `unwrapError` on %1$s Result.", type));
+            if (Metrics.ENABLED) {
+                Metrics.unwrapErrorFailed();
+            }
+            throw new ValueAccessError("Called `unwrapError` on OK Result.");
         }
-        return error;
+        return errorValue();
     }
 
-    public boolean isOk() {
-        return type.equals(ResultType.OK);
-    }
+    public abstract boolean isOk();
 
     public boolean isOkAnd(ArgInvokable<Ok, Boolean> invokable) {
         if (isError()) {
             return false;
         }
-        return invokable.invoke(ok);
+        return invokable.invoke(okValue());
     }
 
     public boolean isError() {
@@ -65,78 +167,114 @@ public final class Result<Ok, Error> {
         if (isOk()) {
             return false;
         }
-        return invokable.invoke(error);
+        return invokable.invoke(errorValue());
     }
 
     public <Mapped> Result<Mapped, Error> map(ArgInvokable<Ok, Mapped> invokable) {
         if (isOk()) {
-            return Result.ok(invokable.invoke(ok));
+            return Result.ok(invokable.invoke(okValue()));
         }
-        return Result.error(error);
+        return retype();
     }
 
     public <Mapped> Mapped mapOr(Mapped fallback, ArgInvokable<Ok, Mapped> invokable) {
         if (isOk()) {
-            return invokable.invoke(ok);
+            return invokable.invoke(okValue());
         }
         return fallback;
     }
 
     public <Mapped> Mapped mapOrElse(ArgInvokable<Error, Mapped> fallback, ArgInvokable<Ok, Mapped> invokable) {
         if (isOk()) {
-            return invokable.invoke(ok);
+            return invokable.invoke(okValue());
         }
-        return fallback.invoke(error);
+        return fallback.invoke(errorValue());
     }
 
     public Result<Ok, Error> and(Result<Ok, Error> result) {
         if (isOk()) {
             return result;
         }
-        return Result.error(error);
+        return this;
     }
 
     public Result<Ok, Error> andThen(ArgInvokable<Ok, Result<Ok, Error>> invokable) {
         if (isOk()) {
-            return invokable.invoke(ok);
+            final Object token = Events.beginInvokable();
+            try {
+                return invokable.invoke(okValue());
+            } finally {
+                Events.endInvokable(token, "Result.andThen");
+            }
         }
-        return Result.error(error);
+        return this;
     }
 
     public Result<Ok, Error> andThenContinue(ArgVoidInvokable<Ok> invokable) {
         if (isOk()) {
-            invokable.invoke(ok);
-            return Result.ok(ok);
+            invokable.invoke(okValue());
         }
-        return Result.error(error);
+        return this;
     }
 
     public Result<Ok, Error> or(Result<Ok, Error> result) {
         if (isOk()) {
-            return Result.ok(ok);
+            return this;
         }
         return result;
     }
 
     public Result<Ok, Error> orElse(ArgInvokable<Error, Result<Ok, Error>> invokable) {
         if (isOk()) {
-            return Result.ok(ok);
+            return this;
+        }
+        final Object token = Events.beginInvokable();
+        try {
+            return invokable.invoke(errorValue());
+        } finally {
+            Events.endInvokable(token, "Result.orElse");
         }
-        return invokable.invoke(error);
     }
 
     public Result<Ok, Error> orElseContinue(ArgVoidInvokable<Error> invokable) {
-        if (isOk()) {
-            return Result.ok(ok);
+        if (isError()) {
+            invokable.invoke(errorValue());
         }
-        invokable.invoke(error);
-        return Result.error(error);
+        return this;
     }
 
     public Ok unwrapOrElse(ArgInvokable<Error, Ok> invokable) {
         if (isOk()) {
-            return ok;
+            return okValue();
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public Stream<Ok> stream() {
+        if (isOk()) {
+            return Stream.of(okValue());
         }
-        return invokable.invoke(error);
+        return Stream.empty();
+    }
+
+    /**
+     * Returns a completed future for ok, or one that failed with the exception {@code invokable} maps the error to.
+     */
+    public <Thrown extends Throwable> CompletableFuture<Ok> toFuture(ArgInvokable<Error, Thrown> invokable) {
+        if (isOk()) {
+            return CompletableFuture.completedFuture(okValue());
+        }
+        final CompletableFuture<Ok> future = new CompletableFuture<>();
+        future.completeExceptionally(invokable.invoke(errorValue()));
+        return future;
+    }
+
+    abstract Ok okValue();
+
+    abstract Error errorValue();
+
+    @SuppressWarnings("unchecked")
+    private <Mapped> Result<Mapped, Error> retype() {
+        return (Result<Mapped, Error>) this;
     }
 }
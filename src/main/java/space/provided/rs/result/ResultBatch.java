@@ -0,0 +1,216 @@
+package space.provided.rs.result;
+
+import space.provided.rs.internal.Presence;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.option.OptionArray;
+import space.provided.rs.option.OptionInt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A fixed number of results, stored as separate columns for ok values and errors with the state in a {@code long[]}
+ * bitset instead of a {@link Result} per slot. Slots start as errors without a value, like {@link Result#error()}.
+ * <p>
+ * Bulk operations skip slots word by word, and words which are entirely ok take a plain indexed loop.
+ */
+public final class ResultBatch<Ok, Error> {
+
+    private final Object[] oks;
+    private final Object[] errors;
+    private final long[] okBits;
+
+    public ResultBatch(int length) {
+        this(new Object[length], new Object[length], Presence.words(length));
+    }
+
+    private ResultBatch(Object[] oks, Object[] errors, long[] okBits) {
+        this.oks = oks;
+        this.errors = errors;
+        this.okBits = okBits;
+    }
+
+    public static <Ok, Error> ResultBatch<Ok, Error> of(List<Result<Ok, Error>> results) {
+        final ResultBatch<Ok, Error> batch = new ResultBatch<>(results.size());
+        int index = 0;
+        for (Result<Ok, Error> result : results) {
+            if (result.isOk()) {
+                batch.setOk(index, result.okValue());
+            } else {
+                batch.setError(index, result.errorValue());
+            }
+            index++;
+        }
+        return batch;
+    }
+
+    public int length() {
+        return oks.length;
+    }
+
+    public boolean isOk(int index) {
+        Presence.checkIndex(index, oks.length);
+        return Presence.get(okBits, index);
+    }
+
+    public boolean isError(int index) {
+        return !isOk(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Result<Ok, Error> get(int index) {
+        if (isOk(index)) {
+            return Result.ok((Ok) oks[index]);
+        }
+        return Result.error((Error) errors[index]);
+    }
+
+    public ResultBatch<Ok, Error> setOk(int index, Ok value) {
+        Presence.checkIndex(index, oks.length);
+        oks[index] = value;
+        errors[index] = null;
+        Presence.set(okBits, index);
+        return this;
+    }
+
+    public ResultBatch<Ok, Error> setError(int index, Error error) {
+        Presence.checkIndex(index, oks.length);
+        errors[index] = error;
+        oks[index] = null;
+        Presence.clear(okBits, index);
+        return this;
+    }
+
+    public int countOk() {
+        return Presence.count(okBits);
+    }
+
+    public int countError() {
+        return oks.length - countOk();
+    }
+
+    public OptionInt firstError() {
+        final int index = Presence.firstClear(okBits, oks.length);
+        return index < 0 ? OptionInt.none() : OptionInt.some(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachOk(ArgVoidInvokable<Ok> invokable) {
+        final Object[] oks = this.oks;
+        final long[] okBits = this.okBits;
+        for (int i = 0; i < okBits.length; i++) {
+            long word = okBits[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    invokable.invoke((Ok) oks[index]);
+                }
+            } else {
+                while (word != 0) {
+                    invokable.invoke((Ok) oks[base + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachError(ArgVoidInvokable<Error> invokable) {
+        final Object[] errors = this.errors;
+        final long[] okBits = this.okBits;
+        final int length = errors.length;
+        for (int i = 0; i < okBits.length; i++) {
+            long word = ~okBits[i];
+            final int base = i << 6;
+            while (word != 0) {
+                final int index = base + Long.numberOfTrailingZeros(word);
+                if (index >= length) {
+                    return;
+                }
+                invokable.invoke((Error) errors[index]);
+                word &= word - 1;
+            }
+        }
+    }
+
+    /**
+     * Maps the ok values into a new batch, the error column is copied so both batches stay independent.
+     */
+    @SuppressWarnings("unchecked")
+    public <Mapped> ResultBatch<Mapped, Error> map(ArgInvokable<Ok, Mapped> invokable) {
+        final Object[] oks = this.oks;
+        final long[] okBits = this.okBits;
+        final Object[] mapped = new Object[oks.length];
+        for (int i = 0; i < okBits.length; i++) {
+            long word = okBits[i];
+            final int base = i << 6;
+            if (word == -1L) {
+                for (int index = base, end = base + 64; index < end; index++) {
+                    mapped[index] = invokable.invoke((Ok) oks[index]);
+                }
+            } else {
+                while (word != 0) {
+                    final int index = base + Long.numberOfTrailingZeros(word);
+                    mapped[index] = invokable.invoke((Ok) oks[index]);
+                    word &= word - 1;
+                }
+            }
+        }
+        return new ResultBatch<>(mapped, errors.clone(), okBits.clone());
+    }
+
+    /**
+     * Turns ok values which don't match the predicate into {@code error}.
+     */
+    @SuppressWarnings("unchecked")
+    public ResultBatch<Ok, Error> filter(Predicate<Ok> predicate, Error error) {
+        final Object[] oks = this.oks;
+        final long[] okBits = this.okBits;
+        final Object[] filtered = new Object[oks.length];
+        final Object[] errors = this.errors.clone();
+        final long[] kept = new long[okBits.length];
+        for (int i = 0; i < okBits.length; i++) {
+            long word = okBits[i];
+            final int base = i << 6;
+            long keep = 0;
+            while (word != 0) {
+                final int bit = Long.numberOfTrailingZeros(word);
+                final Ok value = (Ok) oks[base + bit];
+                if (predicate.test(value)) {
+                    filtered[base + bit] = value;
+                    keep |= 1L << bit;
+                } else {
+                    errors[base + bit] = error;
+                }
+                word &= word - 1;
+            }
+            kept[i] = keep;
+        }
+        return new ResultBatch<>(filtered, errors, kept);
+    }
+
+    @SuppressWarnings("unchecked")
+    public OptionArray<Ok> oks() {
+        final OptionArray<Ok> array = new OptionArray<>(oks.length);
+        for (int i = 0; i < okBits.length; i++) {
+            long word = okBits[i];
+            final int base = i << 6;
+            while (word != 0) {
+                final int index = base + Long.numberOfTrailingZeros(word);
+                array.set(index, (Ok) oks[index]);
+                word &= word - 1;
+            }
+        }
+        return array;
+    }
+
+    public List<Result<Ok, Error>> toList() {
+        final List<Result<Ok, Error>> results = new ArrayList<>(oks.length);
+        for (int index = 0; index < oks.length; index++) {
+            results.add(get(index));
+        }
+        return results;
+    }
+}
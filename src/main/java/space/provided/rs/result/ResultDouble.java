@@ -0,0 +1,235 @@
+package space.provided.rs.result;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.jfr.Events;
+import space.provided.rs.metrics.Metrics;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.DoubleArgInvokable;
+import space.provided.rs.ops.DoubleArgVoidInvokable;
+import space.provided.rs.ops.DoubleToDoubleInvokable;
+import space.provided.rs.ops.DoubleToIntInvokable;
+import space.provided.rs.ops.DoubleToLongInvokable;
+import space.provided.rs.ops.ToDoubleArgInvokable;
+
+/**
+ * Like {@link Result}, the state is encoded in the class, so each instance only holds the field of its state.
+ */
+public abstract class ResultDouble<Error> {
+
+    private ResultDouble() {
+    }
+
+    public static <Err> ResultDouble<Err> ok(double value) {
+        if (Metrics.ENABLED) {
+            Metrics.ok();
+        }
+        return new Ok<>(value);
+    }
+
+    public static <Err> ResultDouble<Err> error() {
+        return error(null);
+    }
+
+    public static <Err> ResultDouble<Err> error(Err value) {
+        if (Metrics.ENABLED) {
+            Metrics.error(value);
+        }
+        Events.errorCreated(value);
+        return new ResultDouble.Err<>(value);
+    }
+
+    static <Err> ResultDouble<Err> errorUncounted(Err value) {
+        return new ResultDouble.Err<>(value);
+    }
+
+    public double unwrap() throws ValueAccessError {
+        if (!isOk()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on ERROR Result.");
+        }
+        return okValue();
+    }
+
+    public Error unwrapError() throws ValueAccessError {
+        if (!isError()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapErrorFailed();
+            }
+            throw new ValueAccessError("Called `unwrapError` on OK Result.");
+        }
+        return errorValue();
+    }
+
+    public abstract boolean isOk();
+
+    public boolean isOkAnd(DoubleArgInvokable<Boolean> invokable) {
+        if (isError()) {
+            return false;
+        }
+        return invokable.invoke(okValue());
+    }
+
+    public boolean isError() {
+        return !isOk();
+    }
+
+    public boolean isErrorAnd(ArgInvokable<Error, Boolean> invokable) {
+        if (isOk()) {
+            return false;
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public ResultDouble<Error> map(DoubleToDoubleInvokable invokable) {
+        if (isOk()) {
+            return ResultDouble.ok(invokable.invoke(okValue()));
+        }
+        return this;
+    }
+
+    public ResultInt<Error> mapToInt(DoubleToIntInvokable invokable) {
+        if (isOk()) {
+            return ResultInt.ok(invokable.invoke(okValue()));
+        }
+        return ResultInt.errorUncounted(errorValue());
+    }
+
+    public ResultLong<Error> mapToLong(DoubleToLongInvokable invokable) {
+        if (isOk()) {
+            return ResultLong.ok(invokable.invoke(okValue()));
+        }
+        return ResultLong.errorUncounted(errorValue());
+    }
+
+    public <Mapped> Result<Mapped, Error> mapToObj(DoubleArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return Result.ok(invokable.invoke(okValue()));
+        }
+        return Result.errorUncounted(errorValue());
+    }
+
+    public <Mapped> Mapped mapOr(Mapped fallback, DoubleArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return fallback;
+    }
+
+    public <Mapped> Mapped mapOrElse(ArgInvokable<Error, Mapped> fallback, DoubleArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return fallback.invoke(errorValue());
+    }
+
+    public ResultDouble<Error> and(ResultDouble<Error> result) {
+        if (isOk()) {
+            return result;
+        }
+        return this;
+    }
+
+    public ResultDouble<Error> andThen(DoubleArgInvokable<ResultDouble<Error>> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return this;
+    }
+
+    public ResultDouble<Error> andThenContinue(DoubleArgVoidInvokable invokable) {
+        if (isOk()) {
+            invokable.invoke(okValue());
+        }
+        return this;
+    }
+
+    public ResultDouble<Error> or(ResultDouble<Error> result) {
+        if (isOk()) {
+            return this;
+        }
+        return result;
+    }
+
+    public ResultDouble<Error> orElse(ArgInvokable<Error, ResultDouble<Error>> invokable) {
+        if (isOk()) {
+            return this;
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public ResultDouble<Error> orElseContinue(ArgVoidInvokable<Error> invokable) {
+        if (isError()) {
+            invokable.invoke(errorValue());
+        }
+        return this;
+    }
+
+    public double unwrapOrElse(ToDoubleArgInvokable<Error> invokable) {
+        if (isOk()) {
+            return okValue();
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public Result<Double, Error> boxed() {
+        if (isOk()) {
+            return Result.ok(okValue());
+        }
+        return Result.errorUncounted(errorValue());
+    }
+
+    abstract double okValue();
+
+    abstract Error errorValue();
+
+    private static final class Ok<Error> extends ResultDouble<Error> {
+
+        private final double value;
+
+        private Ok(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        double okValue() {
+            return value;
+        }
+
+        @Override
+        Error errorValue() {
+            return null;
+        }
+    }
+
+    private static final class Err<Error> extends ResultDouble<Error> {
+
+        private final Error error;
+
+        private Err(Error error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        double okValue() {
+            return 0;
+        }
+
+        @Override
+        Error errorValue() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package space.provided.rs.result;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.jfr.Events;
+import space.provided.rs.metrics.Metrics;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.IntArgInvokable;
+import space.provided.rs.ops.IntArgVoidInvokable;
+import space.provided.rs.ops.IntToDoubleInvokable;
+import space.provided.rs.ops.IntToIntInvokable;
+import space.provided.rs.ops.IntToLongInvokable;
+import space.provided.rs.ops.ToIntArgInvokable;
+
+/**
+ * Like {@link Result}, the state is encoded in the class, so each instance only holds the field of its state.
+ */
+public abstract class ResultInt<Error> {
+
+    private ResultInt() {
+    }
+
+    public static <Err> ResultInt<Err> ok(int value) {
+        if (Metrics.ENABLED) {
+            Metrics.ok();
+        }
+        return new Ok<>(value);
+    }
+
+    public static <Err> ResultInt<Err> error() {
+        return error(null);
+    }
+
+    public static <Err> ResultInt<Err> error(Err value) {
+        if (Metrics.ENABLED) {
+            Metrics.error(value);
+        }
+        Events.errorCreated(value);
+        return new ResultInt.Err<>(value);
+    }
+
+    static <Err> ResultInt<Err> errorUncounted(Err value) {
+        return new ResultInt.Err<>(value);
+    }
+
+    public int unwrap() throws ValueAccessError {
+        if (!isOk()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on ERROR Result.");
+        }
+        return okValue();
+    }
+
+    public Error unwrapError() throws ValueAccessError {
+        if (!isError()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapErrorFailed();
+            }
+            throw new ValueAccessError("Called `unwrapError` on OK Result.");
+        }
+        return errorValue();
+    }
+
+    public abstract boolean isOk();
+
+    public boolean isOkAnd(IntArgInvokable<Boolean> invokable) {
+        if (isError()) {
+            return false;
+        }
+        return invokable.invoke(okValue());
+    }
+
+    public boolean isError() {
+        return !isOk();
+    }
+
+    public boolean isErrorAnd(ArgInvokable<Error, Boolean> invokable) {
+        if (isOk()) {
+            return false;
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public ResultInt<Error> map(IntToIntInvokable invokable) {
+        if (isOk()) {
+            return ResultInt.ok(invokable.invoke(okValue()));
+        }
+        return this;
+    }
+
+    public ResultLong<Error> mapToLong(IntToLongInvokable invokable) {
+        if (isOk()) {
+            return ResultLong.ok(invokable.invoke(okValue()));
+        }
+        return ResultLong.errorUncounted(errorValue());
+    }
+
+    public ResultDouble<Error> mapToDouble(IntToDoubleInvokable invokable) {
+        if (isOk()) {
+            return ResultDouble.ok(invokable.invoke(okValue()));
+        }
+        return ResultDouble.errorUncounted(errorValue());
+    }
+
+    public <Mapped> Result<Mapped, Error> mapToObj(IntArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return Result.ok(invokable.invoke(okValue()));
+        }
+        return Result.errorUncounted(errorValue());
+    }
+
+    public <Mapped> Mapped mapOr(Mapped fallback, IntArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return fallback;
+    }
+
+    public <Mapped> Mapped mapOrElse(ArgInvokable<Error, Mapped> fallback, IntArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return fallback.invoke(errorValue());
+    }
+
+    public ResultInt<Error> and(ResultInt<Error> result) {
+        if (isOk()) {
+            return result;
+        }
+        return this;
+    }
+
+    public ResultInt<Error> andThen(IntArgInvokable<ResultInt<Error>> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return this;
+    }
+
+    public ResultInt<Error> andThenContinue(IntArgVoidInvokable invokable) {
+        if (isOk()) {
+            invokable.invoke(okValue());
+        }
+        return this;
+    }
+
+    public ResultInt<Error> or(ResultInt<Error> result) {
+        if (isOk()) {
+            return this;
+        }
+        return result;
+    }
+
+    public ResultInt<Error> orElse(ArgInvokable<Error, ResultInt<Error>> invokable) {
+        if (isOk()) {
+            return this;
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public ResultInt<Error> orElseContinue(ArgVoidInvokable<Error> invokable) {
+        if (isError()) {
+            invokable.invoke(errorValue());
+        }
+        return this;
+    }
+
+    public int unwrapOrElse(ToIntArgInvokable<Error> invokable) {
+        if (isOk()) {
+            return okValue();
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public Result<Integer, Error> boxed() {
+        if (isOk()) {
+            return Result.ok(okValue());
+        }
+        return Result.errorUncounted(errorValue());
+    }
+
+    abstract int okValue();
+
+    abstract Error errorValue();
+
+    private static final class Ok<Error> extends ResultInt<Error> {
+
+        private final int value;
+
+        private Ok(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        int okValue() {
+            return value;
+        }
+
+        @Override
+        Error errorValue() {
+            return null;
+        }
+    }
+
+    private static final class Err<Error> extends ResultInt<Error> {
+
+        private final Error error;
+
+        private Err(Error error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        int okValue() {
+            return 0;
+        }
+
+        @Override
+        Error errorValue() {
+            return error;
+        }
+    }
+}
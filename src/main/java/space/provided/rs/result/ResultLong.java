@@ -0,0 +1,235 @@
+package space.provided.rs.result;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.jfr.Events;
+import space.provided.rs.metrics.Metrics;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.ArgVoidInvokable;
+import space.provided.rs.ops.LongArgInvokable;
+import space.provided.rs.ops.LongArgVoidInvokable;
+import space.provided.rs.ops.LongToDoubleInvokable;
+import space.provided.rs.ops.LongToIntInvokable;
+import space.provided.rs.ops.LongToLongInvokable;
+import space.provided.rs.ops.ToLongArgInvokable;
+
+/**
+ * Like {@link Result}, the state is encoded in the class, so each instance only holds the field of its state.
+ */
+public abstract class ResultLong<Error> {
+
+    private ResultLong() {
+    }
+
+    public static <Err> ResultLong<Err> ok(long value) {
+        if (Metrics.ENABLED) {
+            Metrics.ok();
+        }
+        return new Ok<>(value);
+    }
+
+    public static <Err> ResultLong<Err> error() {
+        return error(null);
+    }
+
+    public static <Err> ResultLong<Err> error(Err value) {
+        if (Metrics.ENABLED) {
+            Metrics.error(value);
+        }
+        Events.errorCreated(value);
+        return new ResultLong.Err<>(value);
+    }
+
+    static <Err> ResultLong<Err> errorUncounted(Err value) {
+        return new ResultLong.Err<>(value);
+    }
+
+    public long unwrap() throws ValueAccessError {
+        if (!isOk()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapFailed();
+            }
+            throw new ValueAccessError("Called `unwrap` on ERROR Result.");
+        }
+        return okValue();
+    }
+
+    public Error unwrapError() throws ValueAccessError {
+        if (!isError()) {
+            if (Metrics.ENABLED) {
+                Metrics.unwrapErrorFailed();
+            }
+            throw new ValueAccessError("Called `unwrapError` on OK Result.");
+        }
+        return errorValue();
+    }
+
+    public abstract boolean isOk();
+
+    public boolean isOkAnd(LongArgInvokable<Boolean> invokable) {
+        if (isError()) {
+            return false;
+        }
+        return invokable.invoke(okValue());
+    }
+
+    public boolean isError() {
+        return !isOk();
+    }
+
+    public boolean isErrorAnd(ArgInvokable<Error, Boolean> invokable) {
+        if (isOk()) {
+            return false;
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public ResultLong<Error> map(LongToLongInvokable invokable) {
+        if (isOk()) {
+            return ResultLong.ok(invokable.invoke(okValue()));
+        }
+        return this;
+    }
+
+    public ResultInt<Error> mapToInt(LongToIntInvokable invokable) {
+        if (isOk()) {
+            return ResultInt.ok(invokable.invoke(okValue()));
+        }
+        return ResultInt.errorUncounted(errorValue());
+    }
+
+    public ResultDouble<Error> mapToDouble(LongToDoubleInvokable invokable) {
+        if (isOk()) {
+            return ResultDouble.ok(invokable.invoke(okValue()));
+        }
+        return ResultDouble.errorUncounted(errorValue());
+    }
+
+    public <Mapped> Result<Mapped, Error> mapToObj(LongArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return Result.ok(invokable.invoke(okValue()));
+        }
+        return Result.errorUncounted(errorValue());
+    }
+
+    public <Mapped> Mapped mapOr(Mapped fallback, LongArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return fallback;
+    }
+
+    public <Mapped> Mapped mapOrElse(ArgInvokable<Error, Mapped> fallback, LongArgInvokable<Mapped> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return fallback.invoke(errorValue());
+    }
+
+    public ResultLong<Error> and(ResultLong<Error> result) {
+        if (isOk()) {
+            return result;
+        }
+        return this;
+    }
+
+    public ResultLong<Error> andThen(LongArgInvokable<ResultLong<Error>> invokable) {
+        if (isOk()) {
+            return invokable.invoke(okValue());
+        }
+        return this;
+    }
+
+    public ResultLong<Error> andThenContinue(LongArgVoidInvokable invokable) {
+        if (isOk()) {
+            invokable.invoke(okValue());
+        }
+        return this;
+    }
+
+    public ResultLong<Error> or(ResultLong<Error> result) {
+        if (isOk()) {
+            return this;
+        }
+        return result;
+    }
+
+    public ResultLong<Error> orElse(ArgInvokable<Error, ResultLong<Error>> invokable) {
+        if (isOk()) {
+            return this;
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public ResultLong<Error> orElseContinue(ArgVoidInvokable<Error> invokable) {
+        if (isError()) {
+            invokable.invoke(errorValue());
+        }
+        return this;
+    }
+
+    public long unwrapOrElse(ToLongArgInvokable<Error> invokable) {
+        if (isOk()) {
+            return okValue();
+        }
+        return invokable.invoke(errorValue());
+    }
+
+    public Result<Long, Error> boxed() {
+        if (isOk()) {
+            return Result.ok(okValue());
+        }
+        return Result.errorUncounted(errorValue());
+    }
+
+    abstract long okValue();
+
+    abstract Error errorValue();
+
+    private static final class Ok<Error> extends ResultLong<Error> {
+
+        private final long value;
+
+        private Ok(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        long okValue() {
+            return value;
+        }
+
+        @Override
+        Error errorValue() {
+            return null;
+        }
+    }
+
+    private static final class Err<Error> extends ResultLong<Error> {
+
+        private final Error error;
+
+        private Err(Error error) {
+            this.error = error;
+        }
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        long okValue() {
+            return 0;
+        }
+
+        @Override
+        Error errorValue() {
+            return error;
+        }
+    }
+}
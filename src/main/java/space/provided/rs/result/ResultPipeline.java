@@ -0,0 +1,128 @@
+package space.provided.rs.result;
+
+import space.provided.rs.ops.ArgInvokable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Describes a chain of {@link Result} combinators once and compiles it into a reusable function.
+ * <p>
+ * The steps are composed into continuations which pass the plain value on and only create the returned
+ * {@code Result}, instead of one per step. A {@code Result} returned by the last {@link #andThen} or {@link #orElse}
+ * is returned as it is. On an error the chain continues straight at the next
+ * {@link #orElse(ArgInvokable)}. The invokables are captured in final fields of the composed lambdas, so the JIT can
+ * inline the whole chain when the built function is held in a {@code static final} field.
+ * Pipelines are immutable, so a shared prefix can be extended in several ways.
+ */
+public final class ResultPipeline<In, Out, Err> {
+
+    private static final byte MAP = 0;
+    private static final byte AND_THEN = 1;
+    private static final byte FILTER = 2;
+    private static final byte OR_ELSE = 3;
+
+    private static final ResultPipeline<?, ?, ?> EMPTY = new ResultPipeline<>(new byte[0], new Object[0]);
+
+    private static final ArgInvokable<Object, Result<Object, Object>> OK = Result::ok;
+    private static final ArgInvokable<Object, Result<Object, Object>> ERROR = Result::error;
+
+    private final byte[] opcodes;
+    private final Object[] steps;
+
+    private ResultPipeline(byte[] opcodes, Object[] steps) {
+        this.opcodes = opcodes;
+        this.steps = steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <In, Err> ResultPipeline<In, In, Err> start() {
+        return (ResultPipeline<In, In, Err>) EMPTY;
+    }
+
+    public <Mapped> ResultPipeline<In, Mapped, Err> map(ArgInvokable<Out, Mapped> invokable) {
+        return append(MAP, invokable);
+    }
+
+    public <Mapped> ResultPipeline<In, Mapped, Err> andThen(ArgInvokable<Out, Result<Mapped, Err>> invokable) {
+        return append(AND_THEN, invokable);
+    }
+
+    public ResultPipeline<In, Out, Err> filter(Predicate<Out> predicate, Err error) {
+        return filter(predicate, value -> error);
+    }
+
+    public ResultPipeline<In, Out, Err> filter(Predicate<Out> predicate, ArgInvokable<Out, Err> error) {
+        return append(FILTER, new Filter<>(predicate, error));
+    }
+
+    public ResultPipeline<In, Out, Err> orElse(ArgInvokable<Err, Result<Out, Err>> invokable) {
+        return append(OR_ELSE, invokable);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArgInvokable<In, Result<Out, Err>> build() {
+        ArgInvokable<Object, Result<Object, Object>> ok = OK;
+        ArgInvokable<Object, Result<Object, Object>> error = ERROR;
+        for (int index = opcodes.length - 1; index >= 0; index--) {
+            final ArgInvokable<Object, Result<Object, Object>> nextOk = ok;
+            final ArgInvokable<Object, Result<Object, Object>> nextError = error;
+            switch (opcodes[index]) {
+                case MAP: {
+                    final ArgInvokable<Object, Object> invokable = (ArgInvokable) steps[index];
+                    ok = value -> nextOk.invoke(invokable.invoke(value));
+                    break;
+                }
+                case AND_THEN: {
+                    final ArgInvokable<Object, Result<Object, Object>> invokable = (ArgInvokable) steps[index];
+                    ok = value -> resume(invokable.invoke(value), nextOk, nextError);
+                    break;
+                }
+                case FILTER: {
+                    final Filter<Object, Object> filter = (Filter) steps[index];
+                    final Predicate<Object> predicate = filter.predicate;
+                    final ArgInvokable<Object, Object> failure = filter.error;
+                    ok = value -> predicate.test(value) ? nextOk.invoke(value) : nextError.invoke(failure.invoke(value));
+                    break;
+                }
+                case OR_ELSE: {
+                    final ArgInvokable<Object, Result<Object, Object>> invokable = (ArgInvokable) steps[index];
+                    error = value -> resume(invokable.invoke(value), nextOk, nextError);
+                    break;
+                }
+            }
+        }
+        return (ArgInvokable) ok;
+    }
+
+    /**
+     * Continues with the value of a result returned by a step, or returns the result itself if the continuation would
+     * only wrap the value again.
+     */
+    private static Result<Object, Object> resume(Result<Object, Object> result, ArgInvokable<Object, Result<Object, Object>> ok, ArgInvokable<Object, Result<Object, Object>> error) {
+        if (result.isOk()) {
+            return ok == OK ? result : ok.invoke(result.okValue());
+        }
+        return error == ERROR ? result : error.invoke(result.errorValue());
+    }
+
+    private <Mapped> ResultPipeline<In, Mapped, Err> append(byte opcode, Object step) {
+        final int length = opcodes.length;
+        final byte[] opcodes = Arrays.copyOf(this.opcodes, length + 1);
+        final Object[] steps = Arrays.copyOf(this.steps, length + 1);
+        opcodes[length] = opcode;
+        steps[length] = step;
+        return new ResultPipeline<>(opcodes, steps);
+    }
+
+    private static final class Filter<Value, Err> {
+
+        private final Predicate<Value> predicate;
+        private final ArgInvokable<Value, Err> error;
+
+        private Filter(Predicate<Value> predicate, ArgInvokable<Value, Err> error) {
+            this.predicate = predicate;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package space.provided.rs.result;
+
+import space.provided.rs.concurrent.DefaultExecutor;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs forked tasks concurrently and fails fast: the first error cancels all other tasks, pending ones are skipped and
+ * running ones are interrupted. At most {@code maxConcurrency} tasks run at once, further ones wait in a queue
+ * instead of blocking an executor thread.
+ * <p>
+ * Like structured concurrency, no task outlives the scope: {@link #close()} cancels what is left and waits until the
+ * running tasks returned.
+ * <pre>{@code
+ * try (ResultScope<String> scope = new ResultScope<>()) {
+ *     final ResultScope.Task<User, String> user = scope.fork(() -> users.load(userId));
+ *     final ResultScope.Task<Cart, String> cart = scope.fork(() -> carts.load(userId));
+ *     return scope.join().map(ignored -> new Checkout(user.get(), cart.get()));
+ * }
+ * }</pre>
+ */
+public final class ResultScope<Error> implements AutoCloseable {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Object lock = new Object();
+    private final ConcurrentLinkedQueue<Task<?, Error>> tasks = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Task<?, Error>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    /**
+     * The error result or the thrown exception of the first failed task, written once so it is published together
+     * with the failure itself.
+     */
+    private final AtomicReference<Object> failure = new AtomicReference<>();
+    private volatile boolean closed;
+
+    public ResultScope() {
+        this(DefaultExecutor.get());
+    }
+
+    public ResultScope(Executor executor) {
+        this(executor, Integer.MAX_VALUE);
+    }
+
+    public ResultScope(Executor executor, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public <Ok> Task<Ok, Error> fork(PlainInvokable<Result<Ok, Error>> invokable) {
+        if (closed) {
+            throw new IllegalStateException("The scope is closed.");
+        }
+        final Task<Ok, Error> task = new Task<>(this, invokable);
+        outstanding.incrementAndGet();
+        tasks.add(task);
+        if (failure.get() != null) {
+            cancel(task);
+            return task;
+        }
+        pending.add(task);
+        drain();
+        return task;
+    }
+
+    /**
+     * Waits until all forked tasks returned ok or one of them returned an error, which is returned as is. If a task
+     * threw, it is rethrown wrapped in a {@link CompletionException}.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<Void, Error> join() throws InterruptedException {
+        Object failure;
+        synchronized (lock) {
+            while ((failure = this.failure.get()) == null && outstanding.get() > 0) {
+                lock.wait();
+            }
+        }
+        if (failure == null) {
+            return Result.ok();
+        }
+        if (failure instanceof Throwable) {
+            throw new CompletionException((Throwable) failure);
+        }
+        return Results.retype((Result<?, Error>) failure);
+    }
+
+    /**
+     * Cancels the remaining tasks and waits until the running ones returned, so they have to react to interrupts.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        cancelAll();
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (outstanding.get() > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final int count = running.get();
+            if (count >= maxConcurrency || pending.isEmpty()) {
+                return;
+            }
+            if (!running.compareAndSet(count, count + 1)) {
+                continue;
+            }
+            final Task<?, Error> task = pending.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(task::run);
+            } catch (RuntimeException exception) {
+                running.decrementAndGet();
+                task.reject(exception);
+            }
+        }
+    }
+
+    private void completed(Result<?, Error> result, Throwable thrown) {
+        if (thrown != null || result == null || result.isError()) {
+            final Object failure = thrown != null ? thrown
+                    : result == null ? new NullPointerException("A task returned null instead of a result.") : result;
+            if (this.failure.compareAndSet(null, failure)) {
+                cancelAll();
+                signal();
+            }
+        }
+        if (outstanding.decrementAndGet() == 0) {
+            signal();
+        }
+    }
+
+    private void cancelAll() {
+        pending.clear();
+        for (Task<?, Error> task : tasks) {
+            cancel(task);
+        }
+    }
+
+    private void cancel(Task<?, Error> task) {
+        if (task.cancel() && outstanding.decrementAndGet() == 0) {
+            signal();
+        }
+    }
+
+    private void signal() {
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * A task forked into a {@link ResultScope}. Its result is available once {@link ResultScope#join()} returned.
+     */
+    public static final class Task<Ok, Error> {
+
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final ResultScope<Error> scope;
+        private PlainInvokable<Result<Ok, Error>> invokable;
+        private Result<Ok, Error> result;
+        private Throwable thrown;
+        private Thread runner;
+        private boolean interrupted;
+        private volatile int state = PENDING;
+
+        private Task(ResultScope<Error> scope, PlainInvokable<Result<Ok, Error>> invokable) {
+            this.scope = scope;
+            this.invokable = invokable;
+        }
+
+        public boolean isDone() {
+            return state == DONE;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * @throws IllegalStateException if the task didn't complete
+         */
+        public Result<Ok, Error> result() {
+            if (state != DONE) {
+                throw new IllegalStateException(state == CANCELLED ? "The task was cancelled." : "The task didn't complete yet.");
+            }
+            if (thrown != null) {
+                throw new CompletionException(thrown);
+            }
+            return result;
+        }
+
+        public Ok get() {
+            return result().unwrap();
+        }
+
+        private void run() {
+            try {
+                final PlainInvokable<Result<Ok, Error>> invokable;
+                synchronized (this) {
+                    if (state != PENDING) {
+                        return;
+                    }
+                    state = RUNNING;
+                    runner = Thread.currentThread();
+                    invokable = this.invokable;
+                }
+                Result<Ok, Error> result = null;
+                Throwable thrown = null;
+                try {
+                    result = invokable.invoke();
+                } catch (Throwable throwable) {
+                    thrown = throwable;
+                }
+                complete(result, thrown);
+            } finally {
+                scope.running.decrementAndGet();
+                scope.drain();
+            }
+        }
+
+        /**
+         * Completes a task the executor rejected, unless it was cancelled in the meantime and is already counted.
+         */
+        private void reject(Throwable exception) {
+            synchronized (this) {
+                if (state != PENDING) {
+                    return;
+                }
+                state = RUNNING;
+            }
+            complete(null, exception);
+        }
+
+        private void complete(Result<Ok, Error> result, Throwable thrown) {
+            synchronized (this) {
+                this.result = result;
+                this.thrown = thrown;
+                this.invokable = null;
+                runner = null;
+                if (interrupted) {
+                    // Don't leak the interrupt of the cancellation into the next task of a pooled thread.
+                    Thread.interrupted();
+                }
+                state = DONE;
+            }
+            scope.completed(result, thrown);
+        }
+
+        /**
+         * Returns whether the task was cancelled before it started, otherwise interrupts it if it is running.
+         */
+        private synchronized boolean cancel() {
+            if (state == PENDING) {
+                state = CANCELLED;
+                invokable = null;
+                return true;
+            }
+            if (state == RUNNING && runner != null) {
+                interrupted = true;
+                runner.interrupt();
+            }
+            return false;
+        }
+    }
+}
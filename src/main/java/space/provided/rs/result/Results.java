@@ -0,0 +1,265 @@
+package space.provided.rs.result;
+
+import space.provided.rs.concurrent.DefaultExecutor;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
+import java.util.stream.Collector;
+
+/**
+ * Bulk operations over many {@link Result}s. {@code sequence} and {@code traverse} stop at the first error and return
+ * that error instance as is. Output lists are allocated with their final capacity, and {@link RandomAccess} lists as
+ * well as arrays are walked by index instead of through an {@link Iterator}.
+ */
+public final class Results {
+
+    private Results() {
+    }
+
+    public static <Ok, Error> Result<List<Ok>, Error> sequence(List<Result<Ok, Error>> results) {
+        final int size = results.size();
+        final List<Ok> oks = new ArrayList<>(size);
+        if (results instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                final Result<Ok, Error> result = results.get(i);
+                if (result.isError()) {
+                    return retype(result);
+                }
+                oks.add(result.okValue());
+            }
+        } else {
+            for (Result<Ok, Error> result : results) {
+                if (result.isError()) {
+                    return retype(result);
+                }
+                oks.add(result.okValue());
+            }
+        }
+        return Result.ok(oks);
+    }
+
+    public static <Ok, Error> Result<List<Ok>, Error> sequence(Result<Ok, Error>[] results) {
+        final List<Ok> oks = new ArrayList<>(results.length);
+        for (Result<Ok, Error> result : results) {
+            if (result.isError()) {
+                return retype(result);
+            }
+            oks.add(result.okValue());
+        }
+        return Result.ok(oks);
+    }
+
+    public static <Value, Ok, Error> Result<List<Ok>, Error> traverse(Collection<Value> values, ArgInvokable<Value, Result<Ok, Error>> invokable) {
+        final int size = values.size();
+        final List<Ok> oks = new ArrayList<>(size);
+        if (values instanceof List && values instanceof RandomAccess) {
+            final List<Value> list = (List<Value>) values;
+            for (int i = 0; i < size; i++) {
+                final Result<Ok, Error> result = invokable.invoke(list.get(i));
+                if (result.isError()) {
+                    return retype(result);
+                }
+                oks.add(result.okValue());
+            }
+        } else {
+            for (Value value : values) {
+                final Result<Ok, Error> result = invokable.invoke(value);
+                if (result.isError()) {
+                    return retype(result);
+                }
+                oks.add(result.okValue());
+            }
+        }
+        return Result.ok(oks);
+    }
+
+    public static <Value, Ok, Error> Result<List<Ok>, Error> traverse(Value[] values, ArgInvokable<Value, Result<Ok, Error>> invokable) {
+        final List<Ok> oks = new ArrayList<>(values.length);
+        for (Value value : values) {
+            final Result<Ok, Error> result = invokable.invoke(value);
+            if (result.isError()) {
+                return retype(result);
+            }
+            oks.add(result.okValue());
+        }
+        return Result.ok(oks);
+    }
+
+    /**
+     * Like {@link #traverse}, but invokes {@code invokable} for all values concurrently, see {@link ResultScope}. The
+     * first error cancels the remaining invocations and is returned as is; the ok values keep the order of the input.
+     */
+    public static <Value, Ok, Error> Result<List<Ok>, Error> traverseParallel(Collection<Value> values, ArgInvokable<Value, Result<Ok, Error>> invokable) throws InterruptedException {
+        return traverseParallel(values, invokable, DefaultExecutor.get());
+    }
+
+    public static <Value, Ok, Error> Result<List<Ok>, Error> traverseParallel(Collection<Value> values, ArgInvokable<Value, Result<Ok, Error>> invokable, Executor executor) throws InterruptedException {
+        return traverseParallel(values, invokable, executor, Integer.MAX_VALUE);
+    }
+
+    public static <Value, Ok, Error> Result<List<Ok>, Error> traverseParallel(Collection<Value> values, ArgInvokable<Value, Result<Ok, Error>> invokable, Executor executor, int maxConcurrency) throws InterruptedException {
+        final List<ResultScope.Task<Ok, Error>> tasks = new ArrayList<>(values.size());
+        try (ResultScope<Error> scope = new ResultScope<>(executor, maxConcurrency)) {
+            for (Value value : values) {
+                tasks.add(scope.fork(() -> invokable.invoke(value)));
+            }
+            final Result<Void, Error> joined = scope.join();
+            if (joined.isError()) {
+                return retype(joined);
+            }
+        }
+        final List<Ok> oks = new ArrayList<>(tasks.size());
+        for (ResultScope.Task<Ok, Error> task : tasks) {
+            oks.add(task.result().okValue());
+        }
+        return Result.ok(oks);
+    }
+
+    public static <Ok, Error> Partition<Ok, Error> partition(Collection<Result<Ok, Error>> results) {
+        int okCount = 0;
+        for (Result<Ok, Error> result : results) {
+            if (result.isOk()) {
+                okCount++;
+            }
+        }
+
+        final List<Ok> oks = new ArrayList<>(okCount);
+        final List<Error> errors = new ArrayList<>(results.size() - okCount);
+        for (Result<Ok, Error> result : results) {
+            if (result.isOk()) {
+                oks.add(result.okValue());
+            } else {
+                errors.add(result.errorValue());
+            }
+        }
+        return new Partition<>(oks, errors);
+    }
+
+    public static <Ok, Error> Partition<Ok, Error> partition(Result<Ok, Error>[] results) {
+        int okCount = 0;
+        for (Result<Ok, Error> result : results) {
+            if (result.isOk()) {
+                okCount++;
+            }
+        }
+
+        final List<Ok> oks = new ArrayList<>(okCount);
+        final List<Error> errors = new ArrayList<>(results.length - okCount);
+        for (Result<Ok, Error> result : results) {
+            if (result.isOk()) {
+                oks.add(result.okValue());
+            } else {
+                errors.add(result.errorValue());
+            }
+        }
+        return new Partition<>(oks, errors);
+    }
+
+    public static <Ok, Error> Collector<Result<Ok, Error>, ?, Result<List<Ok>, Error>> sequencing() {
+        return Collector.of(Sequencing<Ok, Error>::new, Sequencing::accumulate, Sequencing::combine, Sequencing::finish);
+    }
+
+    public static <Ok, Error> Collector<Result<Ok, Error>, ?, Partition<Ok, Error>> partitioning() {
+        return Collector.of(Partitioning<Ok, Error>::new, Partitioning::accumulate, Partitioning::combine, Partitioning::finish);
+    }
+
+    /**
+     * Runs all attempts at once and completes with the first ok value. Once an attempt succeeds, the others are
+     * interrupted or, if they haven't started yet, skipped. If every attempt returns an error, the result holds all
+     * errors in the order of the attempts; if one of them threw instead, the result completes exceptionally.
+     */
+    public static <Ok, Error> AsyncResult<Ok, List<Error>> race(List<? extends PlainInvokable<Result<Ok, Error>>> attempts) {
+        return race(attempts, DefaultExecutor.get());
+    }
+
+    public static <Ok, Error> AsyncResult<Ok, List<Error>> race(List<? extends PlainInvokable<Result<Ok, Error>>> attempts, Executor executor) {
+        return AsyncResult.of(Race.start(attempts, executor, 0), executor);
+    }
+
+    /**
+     * Like {@link #race}, but starts the next attempt only after {@code delay} or as soon as the previous one returned
+     * an error, so a backup request is only sent when the first one is slow.
+     */
+    public static <Ok, Error> AsyncResult<Ok, List<Error>> hedge(Duration delay, List<? extends PlainInvokable<Result<Ok, Error>>> attempts) {
+        return hedge(delay, attempts, DefaultExecutor.get());
+    }
+
+    public static <Ok, Error> AsyncResult<Ok, List<Error>> hedge(Duration delay, List<? extends PlainInvokable<Result<Ok, Error>>> attempts, Executor executor) {
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("Delay must be positive: " + delay);
+        }
+        return AsyncResult.of(Race.start(attempts, executor, delay.toNanos()), executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Ok, Mapped, Error> Result<Mapped, Error> retype(Result<Ok, Error> error) {
+        return (Result<Mapped, Error>) error;
+    }
+
+    private static final class Sequencing<Ok, Error> {
+
+        private final ArrayList<Ok> oks = new ArrayList<>();
+        private Result<Ok, Error> error;
+
+        void accumulate(Result<Ok, Error> result) {
+            if (error != null) {
+                return;
+            }
+            if (result.isError()) {
+                error = result;
+                oks.clear();
+                return;
+            }
+            oks.add(result.okValue());
+        }
+
+        Sequencing<Ok, Error> combine(Sequencing<Ok, Error> right) {
+            if (error != null) {
+                return this;
+            }
+            if (right.error != null) {
+                return right;
+            }
+            oks.addAll(right.oks);
+            return this;
+        }
+
+        Result<List<Ok>, Error> finish() {
+            if (error != null) {
+                return retype(error);
+            }
+            return Result.ok(oks);
+        }
+    }
+
+    private static final class Partitioning<Ok, Error> {
+
+        private final ArrayList<Ok> oks = new ArrayList<>();
+        private final ArrayList<Error> errors = new ArrayList<>();
+
+        void accumulate(Result<Ok, Error> result) {
+            if (result.isOk()) {
+                oks.add(result.okValue());
+            } else {
+                errors.add(result.errorValue());
+            }
+        }
+
+        Partitioning<Ok, Error> combine(Partitioning<Ok, Error> right) {
+            oks.addAll(right.oks);
+            errors.addAll(right.errors);
+            return this;
+        }
+
+        Partition<Ok, Error> finish() {
+            return new Partition<>(oks, errors);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package space.provided.rs.result;
+
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.ops.BiArgInvokable;
+import space.provided.rs.ops.PentaArgInvokable;
+import space.provided.rs.ops.PlainInvokable;
+import space.provided.rs.ops.QuadArgInvokable;
+import space.provided.rs.ops.TriArgInvokable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Like {@link Result}, but combining several {@code Validated}s collects the errors of all of them instead of stopping
+ * at the first one. The errors are kept in a plain array, a valid instance has none at all.
+ * <p>
+ * Many checks are best combined with a {@link Validator}, which only allocates its buffer once an error occurs.
+ */
+public final class Validated<Value, Error> {
+
+    private static final Validated<?, ?> VALID = new Validated<>(null, null);
+
+    private final Value value;
+    private final Object[] errors;
+
+    Validated(Value value, Object[] errors) {
+        this.value = value;
+        this.errors = errors;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Value, Error> Validated<Value, Error> valid() {
+        return (Validated<Value, Error>) VALID;
+    }
+
+    public static <Value, Error> Validated<Value, Error> valid(Value value) {
+        return new Validated<>(value, null);
+    }
+
+    public static <Value, Error> Validated<Value, Error> invalid(Error error) {
+        return new Validated<>(null, new Object[]{error});
+    }
+
+    public static <Value, Error> Validated<Value, Error> fromResult(Result<Value, Error> result) {
+        return result.isOk() ? valid(result.okValue()) : invalid(result.errorValue());
+    }
+
+    public static <First, Second, Value, Error> Validated<Value, Error> map2(Validated<First, Error> first, Validated<Second, Error> second, BiArgInvokable<First, Second, Value> invokable) {
+        if (first.errors == null && second.errors == null) {
+            return valid(invokable.invoke(first.value, second.value));
+        }
+        return new Validated<>(null, concat(first.errors, second.errors));
+    }
+
+    public static <First, Second, Third, Value, Error> Validated<Value, Error> map3(Validated<First, Error> first, Validated<Second, Error> second, Validated<Third, Error> third, TriArgInvokable<First, Second, Third, Value> invokable) {
+        if (first.errors == null && second.errors == null && third.errors == null) {
+            return valid(invokable.invoke(first.value, second.value, third.value));
+        }
+        return new Validated<>(null, concat(concat(first.errors, second.errors), third.errors));
+    }
+
+    public static <First, Second, Third, Fourth, Value, Error> Validated<Value, Error> map4(Validated<First, Error> first, Validated<Second, Error> second, Validated<Third, Error> third, Validated<Fourth, Error> fourth, QuadArgInvokable<First, Second, Third, Fourth, Value> invokable) {
+        if (first.errors == null && second.errors == null && third.errors == null && fourth.errors == null) {
+            return valid(invokable.invoke(first.value, second.value, third.value, fourth.value));
+        }
+        return new Validated<>(null, concat(concat(concat(first.errors, second.errors), third.errors), fourth.errors));
+    }
+
+    public static <First, Second, Third, Fourth, Fifth, Value, Error> Validated<Value, Error> map5(Validated<First, Error> first, Validated<Second, Error> second, Validated<Third, Error> third, Validated<Fourth, Error> fourth, Validated<Fifth, Error> fifth, PentaArgInvokable<First, Second, Third, Fourth, Fifth, Value> invokable) {
+        if (first.errors == null && second.errors == null && third.errors == null && fourth.errors == null && fifth.errors == null) {
+            return valid(invokable.invoke(first.value, second.value, third.value, fourth.value, fifth.value));
+        }
+        return new Validated<>(null, concat(concat(concat(concat(first.errors, second.errors), third.errors), fourth.errors), fifth.errors));
+    }
+
+    /**
+     * Runs every check on the executor and completes with all errors, in the order of the checks.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <Error> CompletableFuture<Validated<Void, Error>> validateAsync(List<? extends PlainInvokable<? extends Validated<?, Error>>> checks, Executor executor) {
+        final int size = checks.size();
+        final CompletableFuture<? extends Validated<?, Error>>[] futures = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) {
+            final PlainInvokable<? extends Validated<?, Error>> check = checks.get(i);
+            futures[i] = CompletableFuture.supplyAsync(check::invoke, executor);
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignored -> {
+            final Validator<Error> validator = new Validator<>();
+            for (CompletableFuture<? extends Validated<?, Error>> future : futures) {
+                validator.check(future.join());
+            }
+            return validator.finish();
+        });
+    }
+
+    public boolean isValid() {
+        return errors == null;
+    }
+
+    public boolean isInvalid() {
+        return errors != null;
+    }
+
+    public Value unwrap() throws ValueAccessError {
+        if (errors != null) {
+            throw new ValueAccessError("Called `unwrap` on Validated with " + errors.length + " errors.");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Error> errors() {
+        if (errors == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList((List<Error>) Arrays.asList(errors));
+    }
+
+    public int errorCount() {
+        return errors == null ? 0 : errors.length;
+    }
+
+    public <Mapped> Validated<Mapped, Error> map(ArgInvokable<Value, Mapped> invokable) {
+        if (errors != null) {
+            return retype();
+        }
+        return valid(invokable.invoke(value));
+    }
+
+    /**
+     * Keeps the value of this instance if both are valid, otherwise the errors of both.
+     */
+    public Validated<Value, Error> and(Validated<?, Error> other) {
+        if (other.errors == null) {
+            return this;
+        }
+        return new Validated<>(null, concat(errors, other.errors));
+    }
+
+    public <Other, Mapped> Validated<Mapped, Error> zip(Validated<Other, Error> other, BiArgInvokable<Value, Other, Mapped> invokable) {
+        return map2(this, other, invokable);
+    }
+
+    public Result<Value, List<Error>> toResult() {
+        if (errors == null) {
+            return Result.ok(value);
+        }
+        return Result.error(errors());
+    }
+
+    Object[] errorArray() {
+        return errors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Mapped> Validated<Mapped, Error> retype() {
+        return (Validated<Mapped, Error>) this;
+    }
+
+    private static Object[] concat(Object[] first, Object[] second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        final Object[] errors = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, errors, first.length, second.length);
+        return errors;
+    }
+}
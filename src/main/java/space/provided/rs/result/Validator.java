@@ -0,0 +1,98 @@
+package space.provided.rs.result;
+
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the errors of many independent checks. The buffer is only allocated with the first error and grows by
+ * doubling, so a payload without errors doesn't allocate anything besides the validator itself.
+ * <p>
+ * A validator is meant to be used by a single thread; see {@link Validated#validateAsync} for parallel checks.
+ */
+public final class Validator<Error> {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] errors;
+    private int size;
+
+    public Validator<Error> add(Error error) {
+        if (errors == null) {
+            errors = new Object[INITIAL_CAPACITY];
+        } else if (size == errors.length) {
+            errors = Arrays.copyOf(errors, size << 1);
+        }
+        errors[size++] = error;
+        return this;
+    }
+
+    public Validator<Error> require(boolean condition, Error error) {
+        if (!condition) {
+            add(error);
+        }
+        return this;
+    }
+
+    public Validator<Error> check(Result<?, Error> result) {
+        if (result.isError()) {
+            add(result.errorValue());
+        }
+        return this;
+    }
+
+    public Validator<Error> check(Validated<?, Error> validated) {
+        final Object[] other = validated.errorArray();
+        if (other != null) {
+            for (Object error : other) {
+                addUnchecked(error);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Records the error of the result, if any, and returns its value or {@code fallback}, so the fields of a payload
+     * can be checked and read in one go.
+     */
+    public <Value> Value valueOr(Result<Value, Error> result, Value fallback) {
+        if (result.isError()) {
+            add(result.errorValue());
+            return fallback;
+        }
+        return result.okValue();
+    }
+
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    public int errorCount() {
+        return size;
+    }
+
+    public <Value> Validated<Value, Error> finish() {
+        return size == 0 ? Validated.valid() : new Validated<>(null, trimmed());
+    }
+
+    /**
+     * Invokes {@code invokable} only if there were no errors.
+     */
+    public <Value> Validated<Value, Error> finish(PlainInvokable<Value> invokable) {
+        return size == 0 ? Validated.valid(invokable.invoke()) : new Validated<>(null, trimmed());
+    }
+
+    public <Value> Result<Value, List<Error>> toResult(PlainInvokable<Value> invokable) {
+        return this.<Value>finish(invokable).toResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addUnchecked(Object error) {
+        add((Error) error);
+    }
+
+    private Object[] trimmed() {
+        return size == errors.length ? errors.clone() : Arrays.copyOf(errors, size);
+    }
+}
@@ -0,0 +1,277 @@
+package space.provided.rs.sync;
+
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded channel for many senders and many receivers, like Rust's {@code sync_channel}. Values pass through a
+ * lock-free ring buffer; the lock is only taken when a sender finds the channel full or a receiver finds it empty and
+ * has to wait, or to wake such a waiting thread.
+ * <p>
+ * The channel starts with one {@link Sender} and one {@link Receiver}, further ones are created with
+ * {@link Sender#duplicate()} and {@link Receiver#duplicate()}. Once all senders are closed, receivers get the values
+ * which are left and then {@link RecvError#DISCONNECTED}; once all receivers are closed, sending fails and the values
+ * which are left are dropped.
+ * <pre>{@code
+ * final Channel<Order> channel = Channel.bounded(1024);
+ * // On the producing thread:
+ * channel.sender().send(order);
+ * channel.sender().close();
+ * // On the consuming thread:
+ * Result<Order, RecvError> received;
+ * while ((received = channel.receiver().recv()).isOk()) {
+ *     process(received.unwrap());
+ * }
+ * }</pre>
+ */
+public final class Channel<Value> {
+
+    private static final Result<Void, ?> SENT = Result.ok();
+
+    private final RingBuffer buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private volatile int waitingReceivers;
+    private volatile int waitingSenders;
+    private final AtomicInteger senders = new AtomicInteger(1);
+    private final AtomicInteger receivers = new AtomicInteger(1);
+    private final Sender<Value> sender;
+    private final Receiver<Value> receiver;
+
+    private Channel(int capacity) {
+        this.buffer = new RingBuffer(capacity);
+        this.sender = new Sender<>(this);
+        this.receiver = new Receiver<>(this);
+    }
+
+    /**
+     * The capacity is rounded up to the next power of two and is at least 2, so {@code bounded(1)} holds two values.
+     * Rust's rendezvous channel with a capacity of 0 has no counterpart.
+     */
+    public static <Value> Channel<Value> bounded(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        return new Channel<>(capacity);
+    }
+
+    public Sender<Value> sender() {
+        return sender;
+    }
+
+    public Receiver<Value> receiver() {
+        return receiver;
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * The number of values in the channel, which may be outdated by the time it is returned.
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    Result<Void, SendError<Value>> trySend(Value value) {
+        Objects.requireNonNull(value);
+        if (receivers.get() == 0) {
+            return Result.error(new SendError<>(value, true));
+        }
+        if (!buffer.offer(value)) {
+            return Result.error(new SendError<>(value, false));
+        }
+        signalReceiver();
+        return sent();
+    }
+
+    /**
+     * @param nanos how long to wait while the channel is full, negative to wait without a timeout
+     */
+    Result<Void, SendError<Value>> send(Value value, long nanos) throws InterruptedException {
+        Objects.requireNonNull(value);
+        if (receivers.get() == 0) {
+            return Result.error(new SendError<>(value, true));
+        }
+        if (!buffer.offer(value)) {
+            lock.lockInterruptibly();
+            try {
+                waitingSenders++;
+                try {
+                    while (!buffer.offer(value)) {
+                        if (receivers.get() == 0) {
+                            return Result.error(new SendError<>(value, true));
+                        }
+                        if (nanos < 0) {
+                            notFull.await();
+                        } else if (nanos == 0) {
+                            return Result.error(new SendError<>(value, false));
+                        } else {
+                            nanos = Math.max(0, notFull.awaitNanos(nanos));
+                        }
+                    }
+                } finally {
+                    waitingSenders--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        signalReceiver();
+        return sent();
+    }
+
+    @SuppressWarnings("unchecked")
+    Option<Value> tryRecv() {
+        final Object value = buffer.poll();
+        if (value == null) {
+            return Option.none();
+        }
+        signalSender();
+        return Option.some((Value) value);
+    }
+
+    /**
+     * @param nanos how long to wait while the channel is empty, negative to wait without a timeout
+     */
+    @SuppressWarnings("unchecked")
+    Result<Value, RecvError> recv(long nanos) throws InterruptedException {
+        Object value = buffer.poll();
+        if (value == null) {
+            lock.lockInterruptibly();
+            try {
+                waitingReceivers++;
+                try {
+                    while ((value = buffer.poll()) == null) {
+                        if (senders.get() == 0) {
+                            // A value may have been sent right before the last sender closed.
+                            value = buffer.poll();
+                            if (value != null) {
+                                break;
+                            }
+                            return Result.error(RecvError.DISCONNECTED);
+                        }
+                        if (nanos < 0) {
+                            notEmpty.await();
+                        } else if (nanos == 0) {
+                            return Result.error(RecvError.TIMEOUT);
+                        } else {
+                            nanos = Math.max(0, notEmpty.awaitNanos(nanos));
+                        }
+                    }
+                } finally {
+                    waitingReceivers--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        signalSender();
+        return Result.ok((Value) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    int drainTo(Collection<? super Value> collection, int maximum) {
+        int count = 0;
+        Object value;
+        while (count < maximum && (value = buffer.poll()) != null) {
+            collection.add((Value) value);
+            count++;
+        }
+        if (count > 0 && waitingSenders > 0) {
+            signalAll(notFull);
+        }
+        return count;
+    }
+
+    boolean isEmpty() {
+        return buffer.isEmpty();
+    }
+
+    boolean hasSenders() {
+        return senders.get() > 0;
+    }
+
+    boolean hasReceivers() {
+        return receivers.get() > 0;
+    }
+
+    void addSender() {
+        senders.incrementAndGet();
+    }
+
+    void addReceiver() {
+        receivers.incrementAndGet();
+    }
+
+    void removeSender() {
+        if (senders.decrementAndGet() == 0) {
+            signalAll(notEmpty);
+        }
+    }
+
+    void removeReceiver() {
+        if (receivers.decrementAndGet() == 0) {
+            while (buffer.poll() != null) {
+                // Drop what is left, nobody can receive it anymore.
+            }
+            signalAll(notFull);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<Void, SendError<Value>> sent() {
+        return (Result<Void, SendError<Value>>) SENT;
+    }
+
+    private void signalReceiver() {
+        if (waitingReceivers > 0) {
+            lock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void signalSender() {
+        if (waitingSenders > 0) {
+            lock.lock();
+            try {
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void signalAll(Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static long nanos(Duration timeout) {
+        if (timeout.isNegative()) {
+            return 0;
+        }
+        try {
+            return timeout.toNanos();
+        } catch (ArithmeticException exception) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package space.provided.rs.sync;
+
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The receiving side of a {@link Channel}. {@link #drainTo} moves many values at once without wrapping them.
+ */
+public final class Receiver<Value> implements AutoCloseable {
+
+    private final Channel<Value> channel;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Receiver(Channel<Value> channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Waits for a value, or fails with {@link RecvError#DISCONNECTED} once all senders are closed and the channel is
+     * empty.
+     */
+    public Result<Value, RecvError> recv() throws InterruptedException {
+        checkOpen();
+        return channel.recv(-1);
+    }
+
+    /**
+     * Like {@link #recv()}, but fails with {@link RecvError#TIMEOUT} if no value arrived in time.
+     */
+    public Result<Value, RecvError> recv(Duration timeout) throws InterruptedException {
+        checkOpen();
+        return channel.recv(Channel.nanos(timeout));
+    }
+
+    /**
+     * Returns NONE if the channel is empty, see {@link #isDisconnected()} to tell whether more values can arrive.
+     */
+    public Option<Value> tryRecv() {
+        checkOpen();
+        return channel.tryRecv();
+    }
+
+    public int drainTo(Collection<? super Value> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    public int drainTo(Collection<? super Value> collection, int maximum) {
+        checkOpen();
+        return channel.drainTo(collection, maximum);
+    }
+
+    /**
+     * Returns whether all senders are closed and the channel is empty.
+     */
+    public boolean isDisconnected() {
+        return !channel.hasSenders() && channel.isEmpty();
+    }
+
+    /**
+     * Creates another receiver for the same channel, which has to be closed separately.
+     */
+    public Receiver<Value> duplicate() {
+        checkOpen();
+        channel.addReceiver();
+        return new Receiver<>(channel);
+    }
+
+    /**
+     * Once the last receiver is closed, sending fails and the values which are left are dropped.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            channel.removeReceiver();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("The receiver is closed.");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package space.provided.rs.sync;
+
+/**
+ * Why {@link Receiver#recv} returned no value.
+ */
+public enum RecvError {
+    /**
+     * All senders are closed and the channel is empty.
+     */
+    DISCONNECTED,
+    TIMEOUT,
+}
@@ -0,0 +1,38 @@
+package space.provided.rs.sync;
+
+/**
+ * Returned by {@link Sender#send} and {@link Sender#trySend} when a value couldn't be sent, handing the value back.
+ */
+public final class SendError<Value> {
+
+    private final Value value;
+    private final boolean disconnected;
+
+    SendError(Value value, boolean disconnected) {
+        this.value = value;
+        this.disconnected = disconnected;
+    }
+
+    public Value value() {
+        return value;
+    }
+
+    /**
+     * All receivers are closed, so the value can never be received.
+     */
+    public boolean isDisconnected() {
+        return disconnected;
+    }
+
+    /**
+     * The channel was full, or stayed full until the timeout.
+     */
+    public boolean isFull() {
+        return !disconnected;
+    }
+
+    @Override
+    public String toString() {
+        return disconnected ? "SendError(disconnected)" : "SendError(full)";
+    }
+}
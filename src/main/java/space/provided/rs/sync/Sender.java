@@ -0,0 +1,72 @@
+package space.provided.rs.sync;
+
+import space.provided.rs.result.Result;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The sending side of a {@link Channel}. Successful sends return a shared result, so they don't allocate.
+ */
+public final class Sender<Value> implements AutoCloseable {
+
+    private final Channel<Value> channel;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Sender(Channel<Value> channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Waits while the channel is full. Fails only if all receivers are closed.
+     */
+    public Result<Void, SendError<Value>> send(Value value) throws InterruptedException {
+        checkOpen();
+        return channel.send(value, -1);
+    }
+
+    public Result<Void, SendError<Value>> send(Value value, Duration timeout) throws InterruptedException {
+        checkOpen();
+        return channel.send(value, Channel.nanos(timeout));
+    }
+
+    /**
+     * Fails right away if the channel is full.
+     */
+    public Result<Void, SendError<Value>> trySend(Value value) {
+        checkOpen();
+        return channel.trySend(value);
+    }
+
+    /**
+     * Returns whether all receivers are closed.
+     */
+    public boolean isDisconnected() {
+        return !channel.hasReceivers();
+    }
+
+    /**
+     * Creates another sender for the same channel, which has to be closed separately.
+     */
+    public Sender<Value> duplicate() {
+        checkOpen();
+        channel.addSender();
+        return new Sender<>(channel);
+    }
+
+    /**
+     * Once the last sender is closed, receivers are disconnected after taking the values which are left.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            channel.removeSender();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed.get()) {
+            throw new IllegalStateException("The sender is closed.");
+        }
+    }
+}
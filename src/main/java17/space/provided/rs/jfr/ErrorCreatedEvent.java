@@ -0,0 +1,18 @@
+package space.provided.rs.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("space.provided.rs.ErrorCreated")
+@Label("Error Result Created")
+@Category("rs4j")
+@Description("A Result was created in the error state.")
+@Enabled(false)
+final class ErrorCreatedEvent extends jdk.jfr.Event {
+
+    @Label("Error Class")
+    Class<?> errorClass;
+}
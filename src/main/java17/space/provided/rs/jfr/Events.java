@@ -0,0 +1,52 @@
+package space.provided.rs.jfr;
+
+import space.provided.rs.error.ValueAccessError;
+
+/**
+ * Java Flight Recorder events for the error paths, the Java 17+ version of the no-op hooks.
+ * <p>
+ * While an event type is disabled, {@code isEnabled()} is false and the event instance is removed by escape analysis,
+ * so the hooks cost next to nothing outside of recordings.
+ */
+public final class Events {
+
+    private Events() {
+    }
+
+    public static void errorCreated(Object error) {
+        final ErrorCreatedEvent event = new ErrorCreatedEvent();
+        if (event.shouldCommit()) {
+            event.errorClass = error == null ? Void.class : error.getClass();
+            event.commit();
+        }
+    }
+
+    public static void valueAccessError(ValueAccessError error) {
+        final ValueAccessErrorEvent event = new ValueAccessErrorEvent();
+        if (event.shouldCommit()) {
+            event.message = error.getMessage();
+            event.commit();
+        }
+    }
+
+    public static Object beginInvokable() {
+        final SlowInvokableEvent event = new SlowInvokableEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void endInvokable(Object token, String combinator) {
+        if (token == null) {
+            return;
+        }
+        final SlowInvokableEvent event = (SlowInvokableEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.combinator = combinator;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package space.provided.rs.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("space.provided.rs.SlowInvokable")
+@Label("Slow Invokable")
+@Category("rs4j")
+@Description("An invokable passed to andThen or orElse took longer than the threshold.")
+@Threshold("20 ms")
+final class SlowInvokableEvent extends jdk.jfr.Event {
+
+    @Label("Combinator")
+    String combinator;
+}
@@ -0,0 +1,18 @@
+package space.provided.rs.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("space.provided.rs.ValueAccessError")
+@Label("Value Access Error")
+@Category("rs4j")
+@Description("A ValueAccessError was created, e.g. by calling unwrap on NONE.")
+@Enabled(false)
+final class ValueAccessErrorEvent extends jdk.jfr.Event {
+
+    @Label("Message")
+    String message;
+}
@@ -0,0 +1,41 @@
+package space.provided.rs;
+
+import space.provided.rs.ops.Invokable;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures heap allocations of the current thread through {@link com.sun.management.ThreadMXBean}.
+ * The invokable runs often enough that a single allocation per call can't hide in the measurement noise.
+ */
+public final class Allocations {
+
+    private static final int ITERATIONS = 100_000;
+
+    private Allocations() {
+    }
+
+    public static void assertNoAllocation(Invokable invokable) {
+        final long allocated = measure(invokable);
+        assertTrue(allocated < ITERATIONS, () -> String.format("Expected no allocation, but %1$d bytes were allocated in %2$d calls.", allocated, ITERATIONS));
+    }
+
+    private static long measure(Invokable invokable) {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counting is not supported by this JVM.");
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counting is not supported by this JVM.");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final long threadId = Thread.currentThread().getId();
+        invokable.invoke();
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            invokable.invoke();
+        }
+        return threadBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,31 @@
+package space.provided.rs;
+
+import org.openjdk.jol.datamodel.Model64;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.layouters.HotSpotLayouter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Simulates the HotSpot object layout through JOL, so the footprint is pinned independently of the JVM running the
+ * tests. Layouts are checked for the field packing of JDK 8 and of JDK 15+.
+ */
+public final class Footprint {
+
+    private static final int[] JDK_VERSIONS = {8, 17};
+
+    private Footprint() {
+    }
+
+    public static void assertInstanceSize(long compressedOops, long uncompressedOops, Class<?> type) {
+        for (int jdkVersion : JDK_VERSIONS) {
+            assertEquals(compressedOops, instanceSize(type, true, jdkVersion), () -> String.format("%1$s with compressed oops on JDK %2$d", type.getName(), jdkVersion));
+            assertEquals(uncompressedOops, instanceSize(type, false, jdkVersion), () -> String.format("%1$s without compressed oops on JDK %2$d", type.getName(), jdkVersion));
+        }
+    }
+
+    private static long instanceSize(Class<?> type, boolean compressed, int jdkVersion) {
+        final Model64 model = new Model64(compressed, compressed);
+        return ClassLayout.parseClass(type, new HotSpotLayouter(model, jdkVersion)).instanceSize();
+    }
+}
@@ -0,0 +1,191 @@
+package space.provided.rs.cache;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.option.Option;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedLookupTest {
+
+    @Test
+    void cachesSomeAndNone() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<Integer, String> lookup = CachedLookup.<Integer, String>builder(key -> {
+            calls.incrementAndGet();
+            return key % 2 == 0 ? Option.some("even " + key) : Option.none();
+        }).build();
+
+        assertEquals("even 2", lookup.get(2).unwrap());
+        assertEquals("even 2", lookup.get(2).unwrap());
+        assertTrue(lookup.get(3).isNone());
+        assertTrue(lookup.invoke(3).isNone());
+        assertEquals(2, calls.get());
+        assertEquals(2, lookup.hitCount());
+        assertEquals(2, lookup.missCount());
+        assertEquals(2, lookup.size());
+    }
+
+    @Test
+    void separateTtl() {
+        final AtomicLong now = new AtomicLong();
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<String, Integer> lookup = CachedLookup.<String, Integer>builder(key -> {
+            calls.incrementAndGet();
+            return key.isEmpty() ? Option.none() : Option.some(key.length());
+        })
+                .someTtl(Duration.ofMinutes(10))
+                .noneTtl(Duration.ofSeconds(30))
+                .ticker(now::get)
+                .build();
+
+        lookup.get("Foo");
+        lookup.get("");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        lookup.get("Foo");
+        lookup.get("");
+        assertEquals(3, calls.get());
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        lookup.get("Foo");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void noNegativeCaching() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<String, String> lookup = CachedLookup.<String, String>builder(key -> {
+            calls.incrementAndGet();
+            return Option.none();
+        }).noneTtl(Duration.ZERO).build();
+
+        lookup.get("Foo");
+        lookup.get("Foo");
+        assertEquals(2, calls.get());
+        assertEquals(0, lookup.size());
+    }
+
+    @Test
+    void evictsUnreferencedEntries() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<Integer, Integer> lookup = CachedLookup.<Integer, Integer>builder(key -> {
+            calls.incrementAndGet();
+            return Option.some(key);
+        }).maximumSize(4).build();
+
+        for (int key = 0; key < 4; key++) {
+            lookup.get(key);
+        }
+        lookup.get(0);
+        lookup.get(4);
+
+        assertEquals(4, lookup.size());
+        assertEquals(1, lookup.evictionCount());
+        final int before = calls.get();
+        lookup.get(0);
+        assertEquals(before, calls.get());
+
+        for (int key = 0; key < 100; key++) {
+            lookup.get(key);
+        }
+        assertTrue(lookup.size() <= 4);
+    }
+
+    @Test
+    void singleFlight() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CachedLookup<String, String> lookup = CachedLookup.<String, String>builder(key -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return Option.some(key);
+        }).build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Option<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> lookup.get("Foo")));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<Option<String>> future : futures) {
+                assertEquals("Foo", future.get(5, TimeUnit.SECONDS).unwrap());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, lookup.missCount());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<String, String> lookup = CachedLookup.<String, String>builder(key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Unavailable");
+            }
+            return Option.some(key);
+        }).build();
+
+        assertThrows(IllegalStateException.class, () -> lookup.get("Foo"));
+        assertEquals("Foo", lookup.get("Foo").unwrap());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void nullLoadIsRejected() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<String, String> lookup = CachedLookup.<String, String>builder(key -> calls.incrementAndGet() == 1 ? null : Option.some(key)).build();
+
+        assertThrows(NullPointerException.class, () -> lookup.get("Foo"));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals("Foo", lookup.get("Foo").unwrap()));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void failingTickerFailsTheLoad() {
+        final AtomicInteger ticks = new AtomicInteger();
+        final CachedLookup<String, String> lookup = CachedLookup.<String, String>builder(Option::some)
+                .ticker(() -> {
+                    if (ticks.incrementAndGet() == 1) {
+                        throw new IllegalStateException("Clock unavailable");
+                    }
+                    return 0;
+                })
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> lookup.get("Foo"));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertEquals("Foo", lookup.get("Foo").unwrap()));
+    }
+
+    @Test
+    void invalidate() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedLookup<String, Integer> lookup = CachedLookup.<String, Integer>builder(key -> Option.some(calls.incrementAndGet())).build();
+
+        assertEquals(1, lookup.get("Foo").unwrap());
+        lookup.invalidate("Foo");
+        assertEquals(2, lookup.get("Foo").unwrap());
+        lookup.invalidateAll();
+        assertEquals(0, lookup.size());
+        assertEquals(3, lookup.get("Foo").unwrap());
+    }
+}
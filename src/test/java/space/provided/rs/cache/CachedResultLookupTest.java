@@ -0,0 +1,51 @@
+package space.provided.rs.cache;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.result.Result;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedResultLookupTest {
+
+    @Test
+    void errorsAreRetriedByDefault() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedResultLookup<String, Integer, String> lookup = CachedResultLookup.<String, Integer, String>builder(key -> {
+            calls.incrementAndGet();
+            return key.isEmpty() ? Result.error("Empty") : Result.ok(key.length());
+        }).build();
+
+        assertEquals(3, lookup.get("Foo").unwrap());
+        assertEquals(3, lookup.get("Foo").unwrap());
+        assertEquals("Empty", lookup.get("").unwrapError());
+        assertEquals("Empty", lookup.get("").unwrapError());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void errorTtl() {
+        final AtomicLong now = new AtomicLong();
+        final AtomicInteger calls = new AtomicInteger();
+        final CachedResultLookup<String, Integer, String> lookup = CachedResultLookup.<String, Integer, String>builder(key -> {
+            calls.incrementAndGet();
+            return Result.error("Unavailable");
+        })
+                .errorTtl(Duration.ofSeconds(5))
+                .ticker(now::get)
+                .build();
+
+        lookup.get("Foo");
+        lookup.get("Foo");
+        assertEquals(1, calls.get());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        lookup.get("Foo");
+        assertEquals(2, calls.get());
+        assertEquals(1, lookup.hitCount());
+        assertEquals(2, lookup.missCount());
+    }
+}
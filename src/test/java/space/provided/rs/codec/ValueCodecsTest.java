@@ -0,0 +1,144 @@
+package space.provided.rs.codec;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import space.provided.rs.option.Option;
+import space.provided.rs.option.OptionDouble;
+import space.provided.rs.option.OptionInt;
+import space.provided.rs.option.OptionLong;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.ResultDouble;
+import space.provided.rs.result.ResultInt;
+import space.provided.rs.result.ResultLong;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueCodecsTest {
+
+    private static final String[] STRINGS = {"", "Foo", "Grüße", "日本語", "😀 and 🎉", "\uD800 lone", "tail \uDC00"};
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void option(boolean direct) {
+        final ValueCodec<Option<String>> codec = ValueCodecs.option(ValueCodecs.STRING);
+        final ByteBuffer buffer = buffer(direct);
+        codec.encode(Option.some("Foo"), buffer);
+        codec.encode(Option.none(), buffer);
+        codec.encode(Option.some(null), buffer);
+        buffer.flip();
+
+        assertEquals(ValueCodecs.SOME, buffer.get(0));
+        assertEquals("Foo", codec.decode(buffer).unwrap());
+        assertTrue(codec.decode(buffer).isNone());
+        assertNull(codec.decode(buffer).unwrap());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void result(boolean direct) {
+        final ValueCodec<Result<Long, String>> codec = ValueCodecs.result(ValueCodecs.LONG, ValueCodecs.STRING);
+        final ByteBuffer buffer = buffer(direct);
+        codec.encode(Result.ok(42L), buffer);
+        codec.encode(Result.error("Foo"), buffer);
+        buffer.flip();
+
+        assertEquals(1 + Long.BYTES + 1 + Integer.BYTES + 3, buffer.limit());
+        assertEquals(42L, codec.decode(buffer).unwrap());
+        assertEquals("Foo", codec.decode(buffer).unwrapError());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void primitives(boolean direct) {
+        final ByteBuffer buffer = buffer(direct);
+        ValueCodecs.OPTION_INT.encode(OptionInt.some(1), buffer);
+        ValueCodecs.OPTION_LONG.encode(OptionLong.none(), buffer);
+        ValueCodecs.OPTION_DOUBLE.encode(OptionDouble.some(1.5), buffer);
+        ValueCodecs.resultInt(ValueCodecs.STRING).encode(ResultInt.ok(2), buffer);
+        ValueCodecs.resultLong(ValueCodecs.STRING).encode(ResultLong.error("Foo"), buffer);
+        ValueCodecs.resultDouble(ValueCodecs.INT).encode(ResultDouble.ok(2.5), buffer);
+        ValueCodecs.BOOLEAN.encode(true, buffer);
+        buffer.flip();
+
+        assertEquals(1, ValueCodecs.OPTION_INT.decode(buffer).unwrap());
+        assertTrue(ValueCodecs.OPTION_LONG.decode(buffer).isNone());
+        assertEquals(1.5, ValueCodecs.OPTION_DOUBLE.decode(buffer).unwrap());
+        assertEquals(2, ValueCodecs.resultInt(ValueCodecs.STRING).decode(buffer).unwrap());
+        assertEquals("Foo", ValueCodecs.resultLong(ValueCodecs.STRING).decode(buffer).unwrapError());
+        assertEquals(2.5, ValueCodecs.resultDouble(ValueCodecs.INT).decode(buffer).unwrap());
+        assertTrue(ValueCodecs.BOOLEAN.decode(buffer));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void stringsMatchJdkEncoding(boolean direct) {
+        for (String value : STRINGS) {
+            final ByteBuffer buffer = buffer(direct);
+            ValueCodecs.STRING.encode(value, buffer);
+            buffer.flip();
+
+            final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            assertEquals(expected.length, buffer.getInt(0), value);
+            final byte[] actual = new byte[expected.length];
+            buffer.position(Integer.BYTES);
+            buffer.get(actual);
+            assertArrayEquals(expected, actual, value);
+
+            buffer.position(0);
+            assertEquals(new String(expected, StandardCharsets.UTF_8), ValueCodecs.STRING.decode(buffer), value);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void malformedUtf8MatchesJdkDecoding(boolean direct) {
+        final byte[][] inputs = {{(byte) 0xC3}, {(byte) 0xE2, (byte) 0x82}, {(byte) 0xF0, (byte) 0x9F, 'a'}, {(byte) 0xFF, 'b'}, {(byte) 0xC0, (byte) 0xAF}};
+        for (byte[] input : inputs) {
+            final ByteBuffer buffer = buffer(direct);
+            buffer.putInt(input.length).put(input).flip();
+            assertEquals(new String(input, StandardCharsets.UTF_8), ValueCodecs.STRING.decode(buffer));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void bytes(boolean direct) {
+        final ByteBuffer buffer = buffer(direct);
+        ValueCodecs.BYTES.encode(new byte[]{1, 2, 3}, buffer);
+        ValueCodecs.BYTES.encode(null, buffer);
+        buffer.flip();
+
+        assertArrayEquals(new byte[]{1, 2, 3}, ValueCodecs.BYTES.decode(buffer));
+        assertNull(ValueCodecs.BYTES.decode(buffer));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void invalidInput(boolean direct) {
+        final ByteBuffer tag = buffer(direct);
+        tag.put((byte) 7).flip();
+        assertThrows(CodecException.class, () -> ValueCodecs.OPTION_INT.decode(tag));
+
+        final ByteBuffer length = buffer(direct);
+        length.putInt(100).put((byte) 'a').flip();
+        assertThrows(BufferUnderflowException.class, () -> ValueCodecs.STRING.decode(length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void overflowWritesNothing(boolean direct) {
+        final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(6) : ByteBuffer.allocate(6);
+        assertThrows(BufferOverflowException.class, () -> ValueCodecs.STRING.encode("Foo Bar", buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    private static ByteBuffer buffer(boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(256) : ByteBuffer.allocate(256);
+    }
+}
@@ -0,0 +1,52 @@
+package space.provided.rs.error;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueAccessErrorTest {
+
+    private final boolean stackTraceEnabled = ValueAccessError.isStackTraceEnabled();
+
+    @AfterEach
+    void restoreStackTrace() {
+        ValueAccessError.setStackTraceEnabled(stackTraceEnabled);
+    }
+
+    @Test
+    void message() {
+        final ValueAccessError error = new ValueAccessError("Foo");
+        assertEquals("Foo", error.getMessage());
+    }
+
+    @Test
+    void messageInToString() {
+        final ValueAccessError error = new ValueAccessError("Foo");
+        assertEquals(ValueAccessError.class.getName() + ": Foo", error.toString());
+    }
+
+    @Test
+    void unwrapMessages() {
+        assertEquals("Called `unwrap` on NONE Option.", assertThrows(ValueAccessError.class, () -> Option.none().unwrap()).getMessage());
+        assertEquals("Called `unwrap` on ERROR Result.", assertThrows(ValueAccessError.class, () -> Result.error().unwrap()).getMessage());
+        assertEquals("Called `unwrapError` on OK Result.", assertThrows(ValueAccessError.class, () -> Result.ok().unwrapError()).getMessage());
+    }
+
+    @Test
+    void stackTraceEnabled() {
+        ValueAccessError.setStackTraceEnabled(true);
+        assertNotEquals(0, new ValueAccessError("Foo").getStackTrace().length);
+    }
+
+    @Test
+    void stackTraceDisabled() {
+        ValueAccessError.setStackTraceEnabled(false);
+        final ValueAccessError error = assertThrows(ValueAccessError.class, () -> Option.none().unwrap());
+
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals("Called `unwrap` on NONE Option.", error.getMessage());
+    }
+}
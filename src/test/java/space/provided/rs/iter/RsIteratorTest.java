@@ -0,0 +1,188 @@
+package space.provided.rs.iter;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class RsIteratorTest {
+
+    @Test
+    void nextIsFused() {
+        final RsIterator<String> iterator = RsIterator.of("Foo");
+
+        assertEquals("Foo", iterator.next().unwrap());
+        assertTrue(iterator.next().isNone());
+        assertTrue(iterator.next().isNone());
+    }
+
+    @Test
+    void sources() {
+        assertEquals(Arrays.asList(1, 2, 3), RsIterator.of(Arrays.asList(1, 2, 3)).toList());
+        assertEquals(Arrays.asList(1, 2, 3), RsIterator.of(new LinkedList<>(Arrays.asList(1, 2, 3))).toList());
+        assertEquals(Arrays.asList(1, 2, 3), RsIterator.range(1, 4).toList());
+        assertTrue(RsIterator.range(4, 1).next().isNone());
+        assertEquals(0, RsIterator.empty().count());
+
+        final AtomicInteger cursor = new AtomicInteger();
+        final RsIterator<Integer> generated = RsIterator.from(() -> {
+            final int page = cursor.incrementAndGet();
+            return page <= 3 ? Option.some(page) : Option.none();
+        });
+        assertEquals(Arrays.asList(1, 2, 3), generated.toList());
+        assertTrue(generated.next().isNone());
+        assertEquals(4, cursor.get());
+    }
+
+    @Test
+    void ofCopiesTheArray() {
+        final String[] values = {"Foo", "Bar"};
+        final RsIterator<String> iterator = RsIterator.of(values);
+        values[1] = "Baz";
+
+        assertEquals(Arrays.asList("Foo", "Bar"), iterator.toList());
+    }
+
+    @Test
+    void adaptersAreLazy() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final RsIterator<Integer> iterator = RsIterator.range(0, 100).map(value -> {
+            invocations.incrementAndGet();
+            return value * 2;
+        });
+
+        assertEquals(0, invocations.get());
+        assertEquals(6, iterator.find(value -> value > 5).unwrap());
+        assertEquals(4, invocations.get());
+        assertEquals(8, iterator.next().unwrap());
+        assertEquals(5, invocations.get());
+    }
+
+    @Test
+    void mapFilterAndFilterMap() {
+        final List<String> internal = RsIterator.range(0, 10)
+                .filter(value -> value % 2 == 0)
+                .filterMap(value -> value > 2 ? Option.some(value) : Option.none())
+                .map(String::valueOf)
+                .toList();
+        assertEquals(Arrays.asList("4", "6", "8"), internal);
+
+        final RsIterator<String> external = RsIterator.range(0, 10)
+                .filter(value -> value % 2 == 0)
+                .filterMap(value -> value > 2 ? Option.some(value) : Option.none())
+                .map(String::valueOf);
+        assertEquals("4", external.next().unwrap());
+        assertEquals("6", external.next().unwrap());
+        assertEquals("8", external.next().unwrap());
+        assertTrue(external.next().isNone());
+    }
+
+    @Test
+    void takeWhile() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final RsIterator<Integer> source = RsIterator.range(0, 10).map(value -> {
+            pulled.incrementAndGet();
+            return value;
+        });
+
+        final RsIterator<Integer> iterator = source.takeWhile(value -> value < 3);
+        assertEquals(Arrays.asList(0, 1, 2), iterator.toList());
+        assertEquals(4, pulled.get());
+        assertTrue(iterator.next().isNone());
+        assertEquals(4, pulled.get());
+        assertEquals(4, source.next().unwrap());
+
+        final RsIterator<Integer> external = RsIterator.range(0, 10).takeWhile(value -> value < 2);
+        assertEquals(0, external.next().unwrap());
+        assertEquals(1, external.next().unwrap());
+        assertTrue(external.next().isNone());
+        assertEquals(0, external.count());
+    }
+
+    @Test
+    void flatMapKeepsTheRestOfAnInnerIterator() {
+        final RsIterator<Integer> iterator = RsIterator.of(1, 2, 3).flatMap(value -> RsIterator.range(0, value));
+
+        assertEquals(0, iterator.find(value -> value == 0).unwrap());
+        assertEquals(1, iterator.find(value -> value == 1).unwrap());
+        assertEquals(0, iterator.next().unwrap());
+        assertEquals(Arrays.asList(1, 2), iterator.toList());
+        assertTrue(iterator.next().isNone());
+    }
+
+    @Test
+    void chunks() {
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Collections.singletonList(6)),
+                RsIterator.range(0, 7).chunks(3).toList());
+
+        final RsIterator<List<Integer>> iterator = RsIterator.range(0, 6).chunks(2);
+        assertEquals(Arrays.asList(0, 1), iterator.next().unwrap());
+        assertEquals(Arrays.asList(2, 3), iterator.find(chunk -> true).unwrap());
+        assertEquals(Arrays.asList(4, 5), iterator.next().unwrap());
+        assertTrue(iterator.next().isNone());
+
+        assertThrows(IllegalArgumentException.class, () -> RsIterator.empty().chunks(0));
+    }
+
+    @Test
+    void zipEndsWithTheShorterIterator() {
+        assertEquals(Arrays.asList("a0", "b1"),
+                RsIterator.of("a", "b", "c").zip(RsIterator.range(0, 2), (letter, number) -> letter + number).toList());
+
+        final RsIterator<String> external = RsIterator.of("a", "b").zip(RsIterator.range(0, 5), (letter, number) -> letter + number);
+        assertEquals("a0", external.next().unwrap());
+        assertEquals("b1", external.next().unwrap());
+        assertTrue(external.next().isNone());
+        assertEquals(0, external.count());
+    }
+
+    @Test
+    void terminals() {
+        assertEquals(45, RsIterator.range(0, 10).fold(0, Integer::sum));
+        assertTrue(RsIterator.range(0, 10).find(value -> value > 10).isNone());
+        assertEquals("0,1,2", RsIterator.range(0, 3).map(String::valueOf).collect(Collectors.joining(",")));
+        assertEquals(10, RsIterator.range(0, 10).count());
+
+        final List<Integer> values = new ArrayList<>();
+        RsIterator.range(0, 3).forEach(values::add);
+        assertEquals(Arrays.asList(0, 1, 2), values);
+    }
+
+    @Test
+    void tryFoldStopsAtTheFirstError() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final RsIterator<Integer> iterator = RsIterator.range(0, 10).map(value -> {
+            pulled.incrementAndGet();
+            return value;
+        });
+
+        final Result<Integer, String> result = iterator.tryFold(0, (sum, value) -> value < 3 ? Result.ok(sum + value) : Result.error("Too large: " + value));
+        assertEquals("Too large: 3", result.unwrapError());
+        assertEquals(4, pulled.get());
+
+        assertEquals(45, RsIterator.range(0, 10).<Integer, String>tryFold(0, (sum, value) -> Result.ok(sum + value)).unwrap());
+    }
+
+    @Test
+    void passedThroughOptionsAreNotRewrapped() {
+        final Option<String> foo = Option.some("Foo");
+        final RsIterator<String> iterator = RsIterator.from(() -> foo)
+                .filter(value -> true)
+                .takeWhile(value -> true)
+                .filterMap(value -> foo);
+
+        assertNoAllocation(() -> {
+            assertSame(foo, iterator.next());
+        });
+    }
+}
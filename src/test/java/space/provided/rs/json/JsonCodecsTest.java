@@ -0,0 +1,94 @@
+package space.provided.rs.json;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class JsonCodecsTest {
+
+    private static final JsonCodec<Result<Long, String>> RESULT = JsonCodecs.result(JsonCodecs.LONG, JsonCodecs.STRING);
+
+    @Test
+    void option() throws IOException {
+        final JsonCodec<List<Option<String>>> codec = JsonCodecs.list(JsonCodecs.option(JsonCodecs.STRING));
+        final String json = write(codec, Arrays.asList(Option.some("Foo"), Option.none()));
+
+        assertEquals("[\"Foo\",null]", json);
+        final List<Option<String>> options = codec.read(new JsonReader(json));
+        assertEquals("Foo", options.get(0).unwrap());
+        assertTrue(options.get(1).isNone());
+    }
+
+    @Test
+    void result() throws IOException {
+        final JsonCodec<List<Result<Long, String>>> codec = JsonCodecs.list(RESULT);
+        final String json = write(codec, Arrays.asList(Result.ok(42L), Result.error("Foo")));
+
+        assertEquals("[{\"ok\":42},{\"err\":\"Foo\"}]", json);
+        final List<Result<Long, String>> results = codec.read(new JsonReader(json));
+        assertEquals(42L, results.get(0).unwrap());
+        assertEquals("Foo", results.get(1).unwrapError());
+        assertThrows(JsonException.class, () -> RESULT.read(new JsonReader("{\"value\":1}")));
+        assertThrows(JsonException.class, () -> RESULT.read(new JsonReader("{\"ok\":1,\"err\":\"Foo\"}")));
+    }
+
+    @Test
+    void nested() throws IOException {
+        final JsonCodec<Result<Option<Double>, List<Boolean>>> codec = JsonCodecs.result(JsonCodecs.option(JsonCodecs.DOUBLE), JsonCodecs.list(JsonCodecs.BOOLEAN));
+
+        assertEquals("{\"ok\":1.5}", write(codec, Result.ok(Option.some(1.5))));
+        assertEquals("{\"ok\":null}", write(codec, Result.ok(Option.none())));
+        assertTrue(codec.read(new JsonReader("{\"ok\":null}")).unwrap().isNone());
+        assertEquals(Arrays.asList(true, false), codec.read(new JsonReader("{ \"err\" : [true, false] }")).unwrapError());
+    }
+
+    @Test
+    void writeField() throws IOException {
+        final StringBuilder out = new StringBuilder();
+        final JsonWriter writer = new JsonWriter(out).beginObject();
+        JsonCodecs.writeField(writer, "present", Option.some(1), JsonCodecs.INT);
+        JsonCodecs.writeField(writer, "absent", Option.none(), JsonCodecs.INT);
+        writer.endObject();
+
+        assertEquals("{\"present\":1}", out.toString());
+    }
+
+    @Test
+    void writeWithoutAllocation() throws IOException {
+        final JsonWriter writer = new JsonWriter(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }).beginArray();
+        final Result<Long, String> ok = Result.ok(123_456_789L);
+        final Result<Long, String> error = Result.error("Not found");
+
+        assertNoAllocation(() -> {
+            try {
+                RESULT.write(ok, writer);
+                RESULT.write(error, writer);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    private static <Value> String write(JsonCodec<Value> codec, Value value) throws IOException {
+        final StringBuilder out = new StringBuilder();
+        codec.write(value, new JsonWriter(out));
+        return out.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package space.provided.rs.json;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReaderTest {
+
+    @Test
+    void tokens() throws IOException {
+        final JsonReader reader = new JsonReader(" {\"id\": 42, \"tags\": [\"a\", true, null, -1.5e2], \"empty\": {}, \"none\": []}\n");
+
+        assertEquals(JsonToken.BEGIN_OBJECT, reader.peek());
+        reader.beginObject();
+        assertEquals("id", reader.nextName());
+        assertEquals(42, reader.nextInt());
+        assertEquals("tags", reader.nextName());
+        reader.beginArray();
+        assertEquals("a", reader.nextString());
+        assertTrue(reader.nextBoolean());
+        assertEquals(JsonToken.NULL, reader.peek());
+        reader.nextNull();
+        assertEquals(-150.0, reader.nextDouble());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("empty", reader.nextName());
+        reader.beginObject();
+        reader.endObject();
+        assertEquals("none", reader.nextName());
+        reader.beginArray();
+        reader.endArray();
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void strings() throws IOException {
+        final JsonReader reader = new JsonReader("[\"\\\"q\\\" \\\\ \\/ \\n\\t\\u00fc\\uD83D\\ude00\", \"Grüße\"]");
+        reader.beginArray();
+
+        assertEquals("\"q\" \\ / \n\tü😀", reader.nextString());
+        assertEquals("Grüße", reader.nextString());
+    }
+
+    @Test
+    void longs() throws IOException {
+        final JsonReader reader = new JsonReader("[0, -0, 9223372036854775807, -9223372036854775808]");
+        reader.beginArray();
+
+        assertEquals(0, reader.nextLong());
+        assertEquals(0, reader.nextLong());
+        assertEquals(Long.MAX_VALUE, reader.nextLong());
+        assertEquals(Long.MIN_VALUE, reader.nextLong());
+        assertThrows(JsonException.class, () -> new JsonReader("9223372036854775808").nextLong());
+        assertThrows(JsonException.class, () -> new JsonReader("2147483648").nextInt());
+        assertThrows(JsonException.class, () -> new JsonReader("1.5").nextLong());
+        assertThrows(JsonException.class, () -> new JsonReader("01").nextLong());
+    }
+
+    @Test
+    void doubles() throws IOException {
+        final JsonReader reader = new JsonReader("[0, -0.5, 1.25e2, 1E-2, 2e+3, 10]");
+        reader.beginArray();
+
+        assertEquals(0.0, reader.nextDouble());
+        assertEquals(-0.5, reader.nextDouble());
+        assertEquals(125.0, reader.nextDouble());
+        assertEquals(0.01, reader.nextDouble());
+        assertEquals(2000.0, reader.nextDouble());
+        assertEquals(10.0, reader.nextDouble());
+        for (String invalid : new String[]{"01.5", "1.", ".5", "+1", "1e5.3", "-", "1e", "1e+", "-.5", "1.e5"}) {
+            assertThrows(JsonException.class, () -> new JsonReader(invalid).nextDouble(), invalid);
+        }
+    }
+
+    @Test
+    void smallBuffer() throws IOException {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"key\\u0041\":\"value ").append(i).append("\",\"n\":").append(i).append('}');
+        }
+        final JsonReader reader = new JsonReader(new StringReader(json.append(']').toString()));
+        reader.beginArray();
+        for (int i = 0; i < 1000; i++) {
+            reader.beginObject();
+            assertEquals("keyA", reader.nextName());
+            assertEquals("value " + i, reader.nextString());
+            assertEquals("n", reader.nextName());
+            assertEquals(i, reader.nextInt());
+            reader.endObject();
+        }
+        reader.endArray();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void skipValue() throws IOException {
+        final JsonReader reader = new JsonReader("{\"skip\": {\"a\": [1, {\"b\": null}], \"c\": \"}\"}, \"keep\": true}");
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+
+        assertEquals("keep", reader.nextName());
+        assertTrue(reader.nextBoolean());
+        reader.endObject();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "{", "[1,]", "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "\"open", "tru", "nul", "[1]]", "{1:2}", "\"\\x\"", "[-]", "1x"})
+    void malformed(String json) {
+        assertThrows(JsonException.class, () -> {
+            final JsonReader reader = new JsonReader(json);
+            reader.skipValue();
+            reader.peek();
+        });
+    }
+
+    @Test
+    void unexpectedToken() throws IOException {
+        final JsonReader reader = new JsonReader("[\"foo\"]");
+        reader.beginArray();
+
+        final JsonException exception = assertThrows(JsonException.class, reader::nextLong);
+        assertEquals("Expected NUMBER but was STRING at offset 2.", exception.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package space.provided.rs.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonWriterTest {
+
+    @Test
+    void nested() throws IOException {
+        final StringBuilder out = new StringBuilder();
+        new JsonWriter(out)
+                .beginObject()
+                .name("id").value(42)
+                .name("tags").beginArray().value("a").value(true).nullValue().endArray()
+                .name("empty").beginObject().endObject()
+                .endObject();
+
+        assertEquals("{\"id\":42,\"tags\":[\"a\",true,null],\"empty\":{}}", out.toString());
+    }
+
+    @Test
+    void numbers() throws IOException {
+        final StringBuilder out = new StringBuilder();
+        new JsonWriter(out).beginArray()
+                .value(0).value(-7).value(Long.MIN_VALUE).value(Long.MAX_VALUE)
+                .value(1.5).value(2.0).value(-0.25)
+                .endArray();
+
+        assertEquals("[0,-7,-9223372036854775808,9223372036854775807,1.5,2,-0.25]", out.toString());
+        assertThrows(IllegalArgumentException.class, () -> new JsonWriter(new StringBuilder()).value(Double.NaN));
+    }
+
+    @Test
+    void escapes() throws IOException {
+        final StringBuilder out = new StringBuilder();
+        new JsonWriter(out).value("\"quoted\" \\ \n\t\u0001 \u2028 ü");
+
+        assertEquals("\"\\\"quoted\\\" \\\\ \\n\\t\\u0001 \\u2028 ü\"", out.toString());
+    }
+
+    @Test
+    void outputStream() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginArray().value("Grüße").value("😀").value("\uD800").endArray();
+        }
+
+        assertEquals("[\"Grüße\",\"😀\",\"?\"]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void misuse() throws IOException {
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).beginObject().value(1));
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).beginArray().name("foo"));
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).beginObject().name("foo").endObject());
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).beginArray().endObject());
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).value(1).value(2));
+        assertThrows(IllegalStateException.class, () -> new JsonWriter(new StringBuilder()).beginArray().close());
+    }
+}
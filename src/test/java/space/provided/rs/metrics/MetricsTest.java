@@ -0,0 +1,156 @@
+package space.provided.rs.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.ops.ArgInvokable;
+import space.provided.rs.option.Option;
+import space.provided.rs.option.OptionInt;
+import space.provided.rs.option.OptionPipeline;
+import space.provided.rs.result.Result;
+import space.provided.rs.result.ResultLong;
+import space.provided.rs.result.ResultPipeline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs twice, once in the regular test run with metrics off and once in a separate run with {@code -Drs4j.metrics=true}.
+ */
+class MetricsTest {
+
+    @BeforeEach
+    void reset() {
+        Metrics.reset();
+    }
+
+    @AfterEach
+    void removeInstrumentation() {
+        Metrics.setInstrumentation(null);
+    }
+
+    @Test
+    void disabledDoesNotCount() {
+        assumeFalse(Metrics.ENABLED);
+        Result.ok("Foo");
+        Option.none();
+        assertEquals(0, Metrics.snapshot().oks());
+        assertEquals(0, Metrics.snapshot().nones());
+    }
+
+    @Test
+    void countsCreation() {
+        assumeTrue(Metrics.ENABLED);
+        Result.ok("Foo");
+        ResultLong.ok(1);
+        Result.error("Bar");
+        Option.some("Foo");
+        OptionInt.some(1);
+        Option.none();
+
+        final MetricsSnapshot snapshot = Metrics.snapshot();
+        assertEquals(2, snapshot.oks());
+        assertEquals(1, snapshot.errors());
+        assertEquals(2, snapshot.somes());
+        assertEquals(1, snapshot.nones());
+    }
+
+    @Test
+    void passingOnNoneDoesNotCount() {
+        assumeTrue(Metrics.ENABLED);
+        final Option<String> none = Option.none();
+        final OptionInt noneInt = OptionInt.none();
+        Metrics.reset();
+
+        none.map(String::length).andThen(Option::some).and(Option.some(1)).filter(value -> value > 0);
+        noneInt.mapToLong(value -> value).mapToObj(value -> value);
+        noneInt.filter(value -> value > 0).boxed();
+        assertEquals(0, Metrics.snapshot().nones());
+
+        Option.some("Foo").filter(String::isEmpty);
+        OptionInt.some(1).filter(value -> value > 1);
+        assertEquals(2, Metrics.snapshot().nones());
+    }
+
+    @Test
+    void pipelinesCountOnlyTheReturnedResult() {
+        assumeTrue(Metrics.ENABLED);
+        final ArgInvokable<String, Result<Integer, String>> parse = ResultPipeline.<String, String>start()
+                .map(String::trim)
+                .andThen(value -> value.isEmpty() ? Result.<Integer, String>error("Empty") : Result.ok(value.length()))
+                .build();
+        final ArgInvokable<String, Option<Integer>> length = OptionPipeline.<String>start()
+                .andThen(value -> value.isEmpty() ? Option.<Integer>none() : Option.some(value.length()))
+                .build();
+
+        parse.invoke(" ");
+        length.invoke("");
+        assertEquals(1, Metrics.snapshot().errors());
+        assertEquals(1, Metrics.snapshot().nones());
+
+        parse.invoke("Foo");
+        length.invoke("Foo");
+        assertEquals(1, Metrics.snapshot().oks());
+        assertEquals(1, Metrics.snapshot().somes());
+    }
+
+    @Test
+    void passingOnErrorDoesNotCount() {
+        assumeTrue(Metrics.ENABLED);
+        final ResultLong<String> error = ResultLong.error("Foo");
+        Metrics.reset();
+
+        error.mapToInt(value -> (int) value).mapToDouble(value -> value).mapToObj(value -> value);
+        error.boxed();
+        final MetricsSnapshot snapshot = Metrics.snapshot();
+        assertEquals(0, snapshot.errors());
+        assertTrue(snapshot.errorsByClass().isEmpty());
+    }
+
+    @Test
+    void countsErrorsByClass() {
+        assumeTrue(Metrics.ENABLED);
+        Result.error("Foo");
+        Result.error("Bar");
+        Result.error(1);
+        Result.error();
+
+        final MetricsSnapshot snapshot = Metrics.snapshot();
+        assertEquals(2L, snapshot.errorsByClass().get(String.class.getName()));
+        assertEquals(1L, snapshot.errorsByClass().get(Integer.class.getName()));
+        assertEquals(1L, snapshot.errorsByClass().get(Void.class.getName()));
+    }
+
+    @Test
+    void countsFailedUnwraps() {
+        assumeTrue(Metrics.ENABLED);
+        final Result<String, String> ok = Result.ok("Foo");
+        assertThrows(ValueAccessError.class, ok::unwrapError);
+        assertThrows(ValueAccessError.class, () -> Option.none().unwrap());
+        assertThrows(ValueAccessError.class, () -> OptionInt.none().unwrap());
+
+        final MetricsSnapshot snapshot = Metrics.snapshot();
+        assertEquals(2, snapshot.failedUnwraps());
+        assertEquals(1, snapshot.failedUnwrapErrors());
+    }
+
+    @Test
+    void forwardsToInstrumentation() {
+        assumeTrue(Metrics.ENABLED);
+        final AtomicInteger errors = new AtomicInteger();
+        Metrics.setInstrumentation(new Instrumentation() {
+            @Override
+            public void errorCreated(Object error) {
+                errors.incrementAndGet();
+            }
+        });
+
+        Result.error("Foo");
+        Result.ok("Bar");
+        assertEquals(1, errors.get());
+    }
+}
@@ -0,0 +1,73 @@
+package space.provided.rs.ops;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class InvokableTest {
+
+    @Test
+    void invokablesConvertToFunctionalTypes() {
+        final PlainInvokable<String> plain = () -> "Foo";
+        final ArgInvokable<String, Integer> arg = String::length;
+        final BiArgInvokable<String, String, String> biArg = String::concat;
+        final List<String> consumed = new ArrayList<>();
+        final ArgVoidInvokable<String> argVoid = consumed::add;
+        final AtomicBoolean ran = new AtomicBoolean();
+        final Invokable invokable = () -> ran.set(true);
+
+        assertEquals("Foo", plain.get());
+        assertEquals(3, arg.toFunction().apply("Foo"));
+        assertEquals("FooBar", biArg.toBiFunction().apply("Foo", "Bar"));
+        argVoid.toConsumer().accept("Foo");
+        assertEquals("Foo", consumed.get(0));
+        invokable.run();
+        assertTrue(ran.get());
+    }
+
+    @Test
+    void ofReturnsInvokablesAsIs() {
+        final PlainInvokable<String> plain = () -> "Foo";
+        final Invokable invokable = () -> {};
+
+        assertSame(plain, PlainInvokable.of(plain));
+        assertSame(invokable, Invokable.of(invokable));
+        assertNoAllocation(() -> PlainInvokable.of(plain));
+    }
+
+    @Test
+    void argInvokablesHaveNoFunctionDefaults() {
+        assertThrows(NoSuchMethodException.class, () -> ArgInvokable.class.getMethod("andThen", Function.class));
+        assertThrows(NoSuchMethodException.class, () -> ArgInvokable.class.getMethod("compose", Function.class));
+        assertThrows(NoSuchMethodException.class, () -> ArgVoidInvokable.class.getMethod("andThen", Consumer.class));
+        assertThrows(NoSuchMethodException.class, () -> BiArgInvokable.class.getMethod("andThen", Function.class));
+    }
+
+    @Test
+    void ofWrapsFunctionalTypes() {
+        final Supplier<String> supplier = () -> "Foo";
+        final Function<String, Integer> function = String::length;
+        final BiFunction<String, String, String> biFunction = String::concat;
+        final List<String> consumed = new ArrayList<>();
+        final Consumer<String> consumer = consumed::add;
+        final AtomicBoolean ran = new AtomicBoolean();
+        final Runnable runnable = () -> ran.set(true);
+
+        assertEquals("Foo", PlainInvokable.of(supplier).invoke());
+        assertEquals(3, ArgInvokable.of(function).invoke("Foo"));
+        assertEquals("FooBar", BiArgInvokable.of(biFunction).invoke("Foo", "Bar"));
+        ArgVoidInvokable.of(consumer).invoke("Foo");
+        assertEquals("Foo", consumed.get(0));
+        Invokable.of(runnable).invoke();
+        assertTrue(ran.get());
+    }
+}
@@ -0,0 +1,130 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncOptionTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "async-option-test"));
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void supplyRunsOnExecutor() {
+        final AsyncOption<String> option = AsyncOption.supply(() -> Option.some(Thread.currentThread().getName()), executor);
+        assertEquals("async-option-test", option.join().unwrap());
+    }
+
+    @Test
+    void combinatorsDoNotBlock() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AsyncOption<String> option = AsyncOption.supply(() -> {
+            await(latch);
+            return Option.some("Foo");
+        }, executor).map(String::toUpperCase);
+
+        assertFalse(option.isDone());
+        latch.countDown();
+        assertEquals("FOO", option.join().unwrap());
+    }
+
+    @Test
+    void mapWithNone() {
+        assertTrue(AsyncOption.<String>none().map(String::toUpperCase).join().isNone());
+    }
+
+    @Test
+    void andThenWithSome() {
+        assertEquals("FOO", AsyncOption.some("Foo").andThen(s -> Option.some(s.toUpperCase())).join().unwrap());
+    }
+
+    @Test
+    void andThenAsyncWithSome() {
+        final AsyncOption<String> option = AsyncOption.some("Foo").andThenAsync(s -> AsyncOption.supply(() -> Option.some(s + "Bar"), executor));
+        assertEquals("FooBar", option.join().unwrap());
+    }
+
+    @Test
+    void andThenAsyncWithNone() {
+        final AtomicBoolean invoked = new AtomicBoolean(false);
+        final AsyncOption<String> option = AsyncOption.<String>none().andThenAsync(s -> {
+            invoked.set(true);
+            return AsyncOption.some(s);
+        });
+
+        assertTrue(option.join().isNone());
+        assertFalse(invoked.get());
+    }
+
+    @Test
+    void filterNonMatch() {
+        assertTrue(AsyncOption.some("Foo").filter(s -> s.equals("Bar")).join().isNone());
+    }
+
+    @Test
+    void andWithSome() {
+        assertEquals("Bar", AsyncOption.some("Foo").and(AsyncOption.some("Bar")).join().unwrap());
+    }
+
+    @Test
+    void orWithNone() {
+        assertEquals("Bar", AsyncOption.<String>none().or(AsyncOption.some("Bar")).join().unwrap());
+    }
+
+    @Test
+    void orElseWithNone() {
+        assertEquals("Bar", AsyncOption.<String>none().orElse(() -> Option.some("Bar")).join().unwrap());
+    }
+
+    @Test
+    void orElseAsyncWithNone() {
+        assertEquals("Bar", AsyncOption.<String>none().orElseAsync(() -> AsyncOption.some("Bar")).join().unwrap());
+    }
+
+    @Test
+    void orElseContinueWithNone() {
+        final AtomicBoolean invoked = new AtomicBoolean(false);
+        AsyncOption.none().orElseContinue(() -> invoked.set(true)).join();
+        assertTrue(invoked.get());
+    }
+
+    @Test
+    void fromFuture() {
+        assertEquals("Foo", AsyncOption.fromFuture(CompletableFuture.completedFuture("Foo")).join().unwrap());
+        assertTrue(AsyncOption.fromFuture(CompletableFuture.completedFuture(null), executor).join().isNone());
+
+        final CompletableFuture<String> failing = new CompletableFuture<>();
+        failing.completeExceptionally(new IllegalStateException("Bar"));
+        final CompletionException exception = assertThrows(CompletionException.class, AsyncOption.fromFuture(failing, executor)::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void toFuture() {
+        assertEquals("Foo", AsyncOption.some("Foo").toFuture(IllegalStateException::new).join());
+
+        final CompletableFuture<String> future = AsyncOption.<String>none().toFuture(IllegalStateException::new);
+        final CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
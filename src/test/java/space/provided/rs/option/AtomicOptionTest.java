@@ -0,0 +1,147 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class AtomicOptionTest {
+
+    @Test
+    void takeAndReplace() {
+        final AtomicOption<String> atomic = new AtomicOption<>("Foo");
+
+        assertEquals("Foo", atomic.replace("Bar").unwrap());
+        assertEquals("Bar", atomic.take().unwrap());
+        assertTrue(atomic.isNone());
+        assertTrue(atomic.take().isNone());
+        assertTrue(atomic.replace("Baz").isNone());
+        assertEquals("Baz", atomic.get().unwrap());
+    }
+
+    @Test
+    void trySetAndCompareAndSet() {
+        final AtomicOption<String> atomic = AtomicOption.of(Option.none());
+        final String foo = "Foo";
+
+        assertTrue(atomic.trySet(foo));
+        assertFalse(atomic.trySet("Bar"));
+        assertFalse(atomic.compareAndSet(null, "Bar"));
+        assertTrue(atomic.compareAndSet(foo, "Bar"));
+        assertTrue(atomic.compareAndSet("Bar", null));
+        assertTrue(atomic.isNone());
+        assertThrows(NullPointerException.class, () -> atomic.set(null));
+    }
+
+    @Test
+    void getOrInit() {
+        final AtomicOption<String> atomic = new AtomicOption<>();
+
+        assertEquals("Foo", atomic.getOrInit(() -> "Foo"));
+        assertEquals("Foo", atomic.getOrInit(() -> "Bar"));
+        atomic.clear();
+        assertEquals("Bar", atomic.getOrInit(() -> "Bar"));
+    }
+
+    @Test
+    void updateAndGet() {
+        final AtomicOption<Integer> atomic = new AtomicOption<>();
+
+        assertEquals(1, atomic.updateAndGet(option -> Option.some(option.unwrapOr(0) + 1)).unwrap());
+        assertEquals(2, atomic.updateAndGet(option -> option.map(value -> value + 1)).unwrap());
+        assertTrue(atomic.updateAndGet(option -> option.filter(value -> value > 2)).isNone());
+        assertTrue(atomic.isNone());
+    }
+
+    @Test
+    void handOffUnderContention() throws Exception {
+        final AtomicOption<Integer> slot = new AtomicOption<>();
+        final int values = 10_000;
+        final AtomicInteger taken = new AtomicInteger();
+        final AtomicInteger sum = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> {
+                for (int i = 1; i <= values; i++) {
+                    while (!slot.trySet(i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+            for (int consumer = 0; consumer < 3; consumer++) {
+                futures.add(executor.submit(() -> {
+                    while (taken.get() < values) {
+                        final Option<Integer> option = slot.take();
+                        if (option.isSome()) {
+                            sum.addAndGet(option.unwrap());
+                            taken.incrementAndGet();
+                        } else {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(values, taken.get());
+        assertEquals(values * (values + 1) / 2, sum.get());
+    }
+
+    @Test
+    void initializesOnce() throws Exception {
+        final AtomicOption<Object> atomic = new AtomicOption<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return atomic.getOrInit(() -> {
+                        calls.incrementAndGet();
+                        return new Object();
+                    });
+                }));
+            }
+            start.countDown();
+            final Object first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                assertSame(first, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void fastPathsDontAllocate() {
+        final AtomicOption<String> atomic = new AtomicOption<>("Foo");
+        final String foo = "Foo";
+        final String bar = "Bar";
+
+        assertNoAllocation(() -> {
+            atomic.compareAndSet(foo, bar);
+            atomic.compareAndSet(bar, foo);
+            atomic.getOrInit(() -> bar);
+            atomic.trySet(bar);
+            atomic.compareAndSet(foo, null);
+            atomic.trySet(foo);
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyOptionTest {
+
+    @Test
+    void evaluatesOnFirstAccessOnly() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyOption<String> option = LazyOption.some(() -> {
+            calls.incrementAndGet();
+            return "Foo";
+        });
+
+        assertFalse(option.isEvaluated());
+        assertEquals(0, calls.get());
+        assertEquals("Foo", option.unwrap());
+        assertEquals("Foo", option.unwrap());
+        assertTrue(option.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void combinatorsAreDeferred() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyOption<Integer> option = LazyOption.some(() -> {
+            calls.incrementAndGet();
+            return "Foo";
+        }).map(String::length).filter(length -> length > 2).andThen(length -> Option.some(length * 2));
+
+        assertEquals(0, calls.get());
+        assertEquals(6, option.unwrap());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void noneShortCircuits() {
+        final LazyOption<String> option = LazyOption.<String>of(Option.none()).map(String::toUpperCase);
+        assertTrue(option.isNone());
+        assertEquals("Bar", option.unwrapOr("Bar"));
+        assertEquals("Bar", option.orElse(() -> Option.some("Bar")).unwrap());
+        assertEquals("Bar", option.or(LazyOption.of(Option.some("Bar"))).unwrap());
+    }
+
+    @Test
+    void andSkipsTheOtherOptionForNone() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyOption<String> other = LazyOption.some(() -> {
+            calls.incrementAndGet();
+            return "Bar";
+        });
+
+        assertTrue(LazyOption.<String>of(Option.none()).and(other).isNone());
+        assertEquals(0, calls.get());
+        assertEquals("Bar", LazyOption.of(Option.some("Foo")).and(other).unwrap());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void okOr() {
+        assertEquals("Foo", LazyOption.of(Option.some("Foo")).okOr(1).unwrap());
+        assertEquals(1, LazyOption.<String>of(Option.none()).okOr(1).unwrapError());
+    }
+
+    @Test
+    void retriesAfterFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyOption<String> option = LazyOption.some(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "Foo";
+        });
+
+        assertThrows(IllegalStateException.class, option::unwrap);
+        assertFalse(option.isEvaluated());
+        assertEquals("Foo", option.unwrap());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void concurrentAccessEvaluatesOnce() throws Exception {
+        final int threads = 8;
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final LazyOption<Integer> option = LazyOption.some(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            return calls.incrementAndGet();
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return option.unwrap();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertEquals(1, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+}
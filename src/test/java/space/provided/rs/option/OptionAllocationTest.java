@@ -0,0 +1,116 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class OptionAllocationTest {
+
+    @Test
+    void noneIsShared() {
+        assertSame(Option.none(), Option.none());
+        assertNoAllocation(Option::none);
+    }
+
+    @Test
+    void mapWithNone() {
+        final Option<String> option = Option.none();
+        assertSame(option, option.map(String::length));
+        assertNoAllocation(() -> option.map(String::length));
+    }
+
+    @Test
+    void andThenWithNone() {
+        final Option<String> option = Option.none();
+        assertSame(option, option.andThen(Option::some));
+        assertNoAllocation(() -> option.andThen(Option::some));
+    }
+
+    @Test
+    void andThenContinueWithSome() {
+        final Option<String> option = Option.some("Foo");
+        assertSame(option, option.andThenContinue(s -> {}));
+        assertNoAllocation(() -> option.andThenContinue(s -> {}));
+    }
+
+    @Test
+    void andThenContinueWithNone() {
+        final Option<String> option = Option.none();
+        assertSame(option, option.andThenContinue(s -> {}));
+        assertNoAllocation(() -> option.andThenContinue(s -> {}));
+    }
+
+    @Test
+    void andWithNone() {
+        final Option<String> option = Option.none();
+        final Option<String> comparingOption = Option.some("Foo");
+
+        assertSame(option, option.and(comparingOption));
+        assertNoAllocation(() -> option.and(comparingOption));
+    }
+
+    @Test
+    void filterMatching() {
+        final Option<String> option = Option.some("Foo");
+        assertSame(option, option.filter(s -> s.equals("Foo")));
+        assertNoAllocation(() -> option.filter(s -> s.equals("Foo")));
+    }
+
+    @Test
+    void filterNonMatch() {
+        final Option<String> option = Option.some("Foo");
+        assertSame(Option.none(), option.filter(s -> s.equals("Bar")));
+        assertNoAllocation(() -> option.filter(s -> s.equals("Bar")));
+    }
+
+    @Test
+    void orWithSome() {
+        final Option<String> option = Option.some("Foo");
+        final Option<String> comparingOption = Option.some("Bar");
+
+        assertSame(option, option.or(comparingOption));
+        assertNoAllocation(() -> option.or(comparingOption));
+    }
+
+    @Test
+    void orElseWithSome() {
+        final Option<String> option = Option.some("Foo");
+        assertSame(option, option.orElse(Option::none));
+        assertNoAllocation(() -> option.orElse(Option::none));
+    }
+
+    @Test
+    void orElseContinueWithSome() {
+        final Option<String> option = Option.some("Foo");
+        assertSame(option, option.orElseContinue(() -> {}));
+        assertNoAllocation(() -> option.orElseContinue(() -> {}));
+    }
+
+    @Test
+    void orElseContinueWithNone() {
+        final Option<String> option = Option.none();
+        assertSame(option, option.orElseContinue(() -> {}));
+        assertNoAllocation(() -> option.orElseContinue(() -> {}));
+    }
+
+    @Test
+    void nullableConversions() {
+        final Option<String> option = Option.some("Foo");
+        assertNoAllocation(() -> Option.ofNullable(null));
+        assertNoAllocation(() -> option.toNullable());
+    }
+
+    @Test
+    void optionalConversionsWithNone() {
+        final Option<String> option = Option.none();
+        final Optional<String> optional = Optional.empty();
+        assertNoAllocation(() -> option.toOptional());
+        assertNoAllocation(() -> Option.fromOptional(optional));
+        assertNoAllocation(() -> OptionInt.none().toOptional());
+        assertNoAllocation(() -> OptionInt.fromOptional(OptionalInt.empty()));
+    }
+}
@@ -0,0 +1,100 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionArrayTest {
+
+    @Test
+    void startsAsNone() {
+        final OptionArray<String> array = new OptionArray<>(3);
+        assertEquals(3, array.length());
+        assertEquals(0, array.count());
+        assertTrue(array.get(1).isNone());
+        assertEquals(0, array.firstNone().unwrap());
+    }
+
+    @Test
+    void setAndClear() {
+        final OptionArray<String> array = new OptionArray<String>(2).set(0, "Foo").set(1, "Bar").clear(0);
+        assertTrue(array.isNone(0));
+        assertEquals("Bar", array.get(1).unwrap());
+        assertEquals(1, array.count());
+    }
+
+    @Test
+    void indexOutOfBounds() {
+        final OptionArray<String> array = new OptionArray<>(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> array.isSome(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.set(3, "Foo"));
+    }
+
+    @Test
+    void roundTrip() {
+        final List<Option<String>> options = Arrays.asList(Option.some("Foo"), Option.none(), Option.some(null), Option.some("Bar"));
+        final List<Option<String>> converted = OptionArray.of(options).toList();
+
+        assertEquals(options.size(), converted.size());
+        for (int i = 0; i < options.size(); i++) {
+            assertEquals(options.get(i).isSome(), converted.get(i).isSome());
+            assertEquals(options.get(i).unwrapOr("None"), converted.get(i).unwrapOr("None"));
+        }
+    }
+
+    @Test
+    void firstNoneAcrossWords() {
+        final OptionArray<Integer> array = filled(200);
+        assertTrue(array.firstNone().isNone());
+        array.clear(130);
+        assertEquals(130, array.firstNone().unwrap());
+    }
+
+    @Test
+    void forEachSomeVisitsPresentInOrder() {
+        final OptionArray<Integer> array = filled(150).clear(3).clear(64).clear(149);
+        final List<Integer> visited = new ArrayList<>();
+        array.forEachSome(visited::add);
+
+        assertEquals(147, visited.size());
+        assertEquals(147, array.count());
+        assertFalse(visited.contains(3) || visited.contains(64) || visited.contains(149));
+        for (int i = 1; i < visited.size(); i++) {
+            assertTrue(visited.get(i - 1) < visited.get(i));
+        }
+    }
+
+    @Test
+    void mapKeepsPresence() {
+        final OptionArray<Integer> array = filled(100).clear(10);
+        final OptionArray<String> mapped = array.map(String::valueOf);
+
+        assertTrue(mapped.isNone(10));
+        assertEquals("99", mapped.get(99).unwrap());
+        assertEquals(99, mapped.count());
+    }
+
+    @Test
+    void filter() {
+        final OptionArray<Integer> array = filled(130);
+        final OptionArray<Integer> even = array.filter(value -> value % 2 == 0);
+
+        assertEquals(65, even.count());
+        assertTrue(even.isNone(1));
+        assertEquals(128, even.get(128).unwrap());
+        assertEquals(130, array.count());
+    }
+
+    private static OptionArray<Integer> filled(int length) {
+        final OptionArray<Integer> array = new OptionArray<>(length);
+        for (int i = 0; i < length; i++) {
+            array.set(i, i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,61 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionDoubleArrayTest {
+
+    @Test
+    void setAndGet() {
+        final OptionDoubleArray array = new OptionDoubleArray(3).set(0, 1.0).set(2, 2.0);
+        assertEquals(1.0, array.get(0).unwrap());
+        assertTrue(array.get(1).isNone());
+        assertEquals(2, array.count());
+        assertEquals(1, array.firstNone().unwrap());
+        assertTrue(array.clear(0).isNone(0));
+    }
+
+    @Test
+    void indexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new OptionDoubleArray(3).isSome(3));
+    }
+
+    @Test
+    void roundTrip() {
+        final OptionDouble[] options = new OptionDouble[]{OptionDouble.some(1.0), OptionDouble.none(), OptionDouble.some(2.0)};
+        final OptionDouble[] converted = OptionDoubleArray.of(options).toArray();
+
+        assertEquals(1.0, converted[0].unwrap());
+        assertTrue(converted[1].isNone());
+        assertEquals(2.0, converted[2].unwrap());
+    }
+
+    @Test
+    void bulkOperations() {
+        final OptionDoubleArray array = new OptionDoubleArray(130);
+        for (int i = 0; i < 130; i++) {
+            array.set(i, i);
+        }
+        array.clear(70);
+
+        final double[] sum = new double[1];
+        array.forEachSome(value -> sum[0] += value);
+        assertEquals(129 * 130 / 2 - 70, sum[0]);
+
+        final OptionDoubleArray doubled = array.map(value -> value * 2);
+        assertEquals(258, doubled.get(129).unwrap());
+        assertTrue(doubled.isNone(70));
+
+        final OptionDoubleArray small = array.filter(value -> value < 10);
+        assertEquals(10, small.count());
+        assertEquals(10, small.firstNone().unwrap());
+    }
+
+    @Test
+    void boxed() {
+        final OptionArray<Double> boxed = new OptionDoubleArray(2).set(1, 1.0).boxed();
+        assertTrue(boxed.isNone(0));
+        assertEquals(1.0, boxed.get(1).unwrap());
+    }
+}
@@ -0,0 +1,264 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionDoubleTest {
+
+    @Test
+    void isSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertTrue(option.isSome());
+    }
+
+    @Test
+    void isNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.isNone());
+    }
+
+    @Test
+    void isSomeAndWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertTrue(option.isSomeAnd(value -> value == 4.2));
+    }
+
+    @Test
+    void isSomeAndWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertFalse(option.isSomeAnd(value -> true));
+    }
+
+    @Test
+    void unwrapWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2, option.unwrap());
+    }
+
+    @Test
+    void unwrapWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertThrowsExactly(ValueAccessError.class, option::unwrap);
+    }
+
+    @Test
+    void unwrapOrWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2, option.unwrapOr(0.7));
+    }
+
+    @Test
+    void unwrapOrWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals(0.7, option.unwrapOr(0.7));
+    }
+
+    @Test
+    void mapWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2 * 2.0, option.map(value -> value * 2.0).unwrap());
+    }
+
+    @Test
+    void mapWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.map(value -> value * 2.0).isNone());
+    }
+
+    @Test
+    void mapToLongWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4L, option.mapToLong(value -> (long) value).unwrap());
+    }
+
+    @Test
+    void mapToLongWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.mapToLong(value -> (long) value).isNone());
+    }
+
+    @Test
+    void mapToObjWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(String.valueOf(4.2), option.mapToObj(String::valueOf).unwrap());
+    }
+
+    @Test
+    void mapToObjWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.mapToObj(String::valueOf).isNone());
+    }
+
+    @Test
+    void mapOrWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(String.valueOf(4.2), option.mapOr("Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals("Foo", option.mapOr("Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(String.valueOf(4.2), option.mapOrElse(() -> "Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals("Foo", option.mapOrElse(() -> "Foo", String::valueOf));
+    }
+
+    @Test
+    void okOrWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2, option.okOr("Foo").unwrap());
+    }
+
+    @Test
+    void okOrWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals("Foo", option.okOr("Foo").unwrapError());
+    }
+
+    @Test
+    void okOrElseWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2, option.okOrElse(() -> "Foo").unwrap());
+    }
+
+    @Test
+    void okOrElseWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals("Foo", option.okOrElse(() -> "Foo").unwrapError());
+    }
+
+    @Test
+    void andThenWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(0.7, option.andThen(value -> OptionDouble.some(0.7)).unwrap());
+    }
+
+    @Test
+    void andThenWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.andThen(value -> OptionDouble.some(0.7)).isNone());
+    }
+
+    @Test
+    void andThenContinueWithSome() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionDouble option = OptionDouble.some(4.2);
+
+        option.andThenContinue(value -> reference.set(value == 4.2));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void andThenContinueWithNone() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionDouble option = OptionDouble.none();
+
+        option.andThenContinue(value -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void andWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(0.7, option.and(OptionDouble.some(0.7)).unwrap());
+    }
+
+    @Test
+    void andWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.and(OptionDouble.some(0.7)).isNone());
+    }
+
+    @Test
+    void filterMatching() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertTrue(option.filter(value -> value == 4.2).isSome());
+    }
+
+    @Test
+    void filterNonMatch() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertTrue(option.filter(value -> value == 0.7).isNone());
+    }
+
+    @Test
+    void orWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2, option.or(OptionDouble.some(0.7)).unwrap());
+    }
+
+    @Test
+    void orWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals(0.7, option.or(OptionDouble.some(0.7)).unwrap());
+    }
+
+    @Test
+    void orElseWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(4.2, option.orElse(() -> OptionDouble.some(0.7)).unwrap());
+    }
+
+    @Test
+    void orElseWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertEquals(0.7, option.orElse(() -> OptionDouble.some(0.7)).unwrap());
+    }
+
+    @Test
+    void orElseContinueWithSome() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionDouble option = OptionDouble.some(4.2);
+
+        option.orElseContinue(() -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orElseContinueWithNone() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionDouble option = OptionDouble.none();
+
+        option.orElseContinue(() -> reference.set(true));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void boxedWithSome() {
+        final OptionDouble option = OptionDouble.some(4.2);
+        assertEquals(Double.valueOf(4.2), option.boxed().unwrap());
+    }
+
+    @Test
+    void boxedWithNone() {
+        final OptionDouble option = OptionDouble.none();
+        assertTrue(option.boxed().isNone());
+    }
+
+    @Test
+    void optionalConversions() {
+        assertEquals(OptionalDouble.of(4.2), OptionDouble.some(4.2).toOptional());
+        assertFalse(OptionDouble.none().toOptional().isPresent());
+        assertEquals(4.2, OptionDouble.fromOptional(OptionalDouble.of(4.2)).unwrap());
+        assertSame(OptionDouble.none(), OptionDouble.fromOptional(OptionalDouble.empty()));
+    }
+}
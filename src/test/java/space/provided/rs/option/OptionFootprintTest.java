@@ -0,0 +1,33 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import static space.provided.rs.Footprint.assertInstanceSize;
+
+class OptionFootprintTest {
+
+    @Test
+    void some() {
+        assertInstanceSize(16, 24, Option.some("Foo").getClass());
+    }
+
+    @Test
+    void none() {
+        assertInstanceSize(16, 16, Option.none().getClass());
+    }
+
+    @Test
+    void optionInt() {
+        assertInstanceSize(16, 24, OptionInt.class);
+    }
+
+    @Test
+    void optionLong() {
+        assertInstanceSize(24, 24, OptionLong.class);
+    }
+
+    @Test
+    void optionDouble() {
+        assertInstanceSize(24, 24, OptionDouble.class);
+    }
+}
@@ -0,0 +1,61 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionIntArrayTest {
+
+    @Test
+    void setAndGet() {
+        final OptionIntArray array = new OptionIntArray(3).set(0, 1).set(2, 2);
+        assertEquals(1, array.get(0).unwrap());
+        assertTrue(array.get(1).isNone());
+        assertEquals(2, array.count());
+        assertEquals(1, array.firstNone().unwrap());
+        assertTrue(array.clear(0).isNone(0));
+    }
+
+    @Test
+    void indexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new OptionIntArray(3).isSome(3));
+    }
+
+    @Test
+    void roundTrip() {
+        final OptionInt[] options = new OptionInt[]{OptionInt.some(1), OptionInt.none(), OptionInt.some(2)};
+        final OptionInt[] converted = OptionIntArray.of(options).toArray();
+
+        assertEquals(1, converted[0].unwrap());
+        assertTrue(converted[1].isNone());
+        assertEquals(2, converted[2].unwrap());
+    }
+
+    @Test
+    void bulkOperations() {
+        final OptionIntArray array = new OptionIntArray(130);
+        for (int i = 0; i < 130; i++) {
+            array.set(i, i);
+        }
+        array.clear(70);
+
+        final int[] sum = new int[1];
+        array.forEachSome(value -> sum[0] += value);
+        assertEquals(129 * 130 / 2 - 70, sum[0]);
+
+        final OptionIntArray doubled = array.map(value -> value * 2);
+        assertEquals(258, doubled.get(129).unwrap());
+        assertTrue(doubled.isNone(70));
+
+        final OptionIntArray small = array.filter(value -> value < 10);
+        assertEquals(10, small.count());
+        assertEquals(10, small.firstNone().unwrap());
+    }
+
+    @Test
+    void boxed() {
+        final OptionArray<Integer> boxed = new OptionIntArray(2).set(1, 1).boxed();
+        assertTrue(boxed.isNone(0));
+        assertEquals(1, boxed.get(1).unwrap());
+    }
+}
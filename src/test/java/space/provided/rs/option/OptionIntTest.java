@@ -0,0 +1,264 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionIntTest {
+
+    @Test
+    void isSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertTrue(option.isSome());
+    }
+
+    @Test
+    void isNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.isNone());
+    }
+
+    @Test
+    void isSomeAndWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertTrue(option.isSomeAnd(value -> value == 42));
+    }
+
+    @Test
+    void isSomeAndWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertFalse(option.isSomeAnd(value -> true));
+    }
+
+    @Test
+    void unwrapWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42, option.unwrap());
+    }
+
+    @Test
+    void unwrapWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertThrowsExactly(ValueAccessError.class, option::unwrap);
+    }
+
+    @Test
+    void unwrapOrWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42, option.unwrapOr(7));
+    }
+
+    @Test
+    void unwrapOrWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals(7, option.unwrapOr(7));
+    }
+
+    @Test
+    void mapWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42 * 2, option.map(value -> value * 2).unwrap());
+    }
+
+    @Test
+    void mapWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.map(value -> value * 2).isNone());
+    }
+
+    @Test
+    void mapToLongWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42L, option.mapToLong(value -> (long) value).unwrap());
+    }
+
+    @Test
+    void mapToLongWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.mapToLong(value -> (long) value).isNone());
+    }
+
+    @Test
+    void mapToObjWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(String.valueOf(42), option.mapToObj(String::valueOf).unwrap());
+    }
+
+    @Test
+    void mapToObjWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.mapToObj(String::valueOf).isNone());
+    }
+
+    @Test
+    void mapOrWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(String.valueOf(42), option.mapOr("Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals("Foo", option.mapOr("Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(String.valueOf(42), option.mapOrElse(() -> "Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals("Foo", option.mapOrElse(() -> "Foo", String::valueOf));
+    }
+
+    @Test
+    void okOrWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42, option.okOr("Foo").unwrap());
+    }
+
+    @Test
+    void okOrWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals("Foo", option.okOr("Foo").unwrapError());
+    }
+
+    @Test
+    void okOrElseWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42, option.okOrElse(() -> "Foo").unwrap());
+    }
+
+    @Test
+    void okOrElseWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals("Foo", option.okOrElse(() -> "Foo").unwrapError());
+    }
+
+    @Test
+    void andThenWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(7, option.andThen(value -> OptionInt.some(7)).unwrap());
+    }
+
+    @Test
+    void andThenWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.andThen(value -> OptionInt.some(7)).isNone());
+    }
+
+    @Test
+    void andThenContinueWithSome() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionInt option = OptionInt.some(42);
+
+        option.andThenContinue(value -> reference.set(value == 42));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void andThenContinueWithNone() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionInt option = OptionInt.none();
+
+        option.andThenContinue(value -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void andWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(7, option.and(OptionInt.some(7)).unwrap());
+    }
+
+    @Test
+    void andWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.and(OptionInt.some(7)).isNone());
+    }
+
+    @Test
+    void filterMatching() {
+        final OptionInt option = OptionInt.some(42);
+        assertTrue(option.filter(value -> value == 42).isSome());
+    }
+
+    @Test
+    void filterNonMatch() {
+        final OptionInt option = OptionInt.some(42);
+        assertTrue(option.filter(value -> value == 7).isNone());
+    }
+
+    @Test
+    void orWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42, option.or(OptionInt.some(7)).unwrap());
+    }
+
+    @Test
+    void orWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals(7, option.or(OptionInt.some(7)).unwrap());
+    }
+
+    @Test
+    void orElseWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(42, option.orElse(() -> OptionInt.some(7)).unwrap());
+    }
+
+    @Test
+    void orElseWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertEquals(7, option.orElse(() -> OptionInt.some(7)).unwrap());
+    }
+
+    @Test
+    void orElseContinueWithSome() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionInt option = OptionInt.some(42);
+
+        option.orElseContinue(() -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orElseContinueWithNone() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionInt option = OptionInt.none();
+
+        option.orElseContinue(() -> reference.set(true));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void boxedWithSome() {
+        final OptionInt option = OptionInt.some(42);
+        assertEquals(Integer.valueOf(42), option.boxed().unwrap());
+    }
+
+    @Test
+    void boxedWithNone() {
+        final OptionInt option = OptionInt.none();
+        assertTrue(option.boxed().isNone());
+    }
+
+    @Test
+    void optionalConversions() {
+        assertEquals(OptionalInt.of(42), OptionInt.some(42).toOptional());
+        assertFalse(OptionInt.none().toOptional().isPresent());
+        assertEquals(42, OptionInt.fromOptional(OptionalInt.of(42)).unwrap());
+        assertSame(OptionInt.none(), OptionInt.fromOptional(OptionalInt.empty()));
+    }
+}
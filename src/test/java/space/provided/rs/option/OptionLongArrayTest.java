@@ -0,0 +1,61 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionLongArrayTest {
+
+    @Test
+    void setAndGet() {
+        final OptionLongArray array = new OptionLongArray(3).set(0, 1L).set(2, 2L);
+        assertEquals(1L, array.get(0).unwrap());
+        assertTrue(array.get(1).isNone());
+        assertEquals(2, array.count());
+        assertEquals(1, array.firstNone().unwrap());
+        assertTrue(array.clear(0).isNone(0));
+    }
+
+    @Test
+    void indexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new OptionLongArray(3).isSome(3));
+    }
+
+    @Test
+    void roundTrip() {
+        final OptionLong[] options = new OptionLong[]{OptionLong.some(1L), OptionLong.none(), OptionLong.some(2L)};
+        final OptionLong[] converted = OptionLongArray.of(options).toArray();
+
+        assertEquals(1L, converted[0].unwrap());
+        assertTrue(converted[1].isNone());
+        assertEquals(2L, converted[2].unwrap());
+    }
+
+    @Test
+    void bulkOperations() {
+        final OptionLongArray array = new OptionLongArray(130);
+        for (int i = 0; i < 130; i++) {
+            array.set(i, i);
+        }
+        array.clear(70);
+
+        final long[] sum = new long[1];
+        array.forEachSome(value -> sum[0] += value);
+        assertEquals(129 * 130 / 2 - 70, sum[0]);
+
+        final OptionLongArray doubled = array.map(value -> value * 2);
+        assertEquals(258, doubled.get(129).unwrap());
+        assertTrue(doubled.isNone(70));
+
+        final OptionLongArray small = array.filter(value -> value < 10);
+        assertEquals(10, small.count());
+        assertEquals(10, small.firstNone().unwrap());
+    }
+
+    @Test
+    void boxed() {
+        final OptionArray<Long> boxed = new OptionLongArray(2).set(1, 1L).boxed();
+        assertTrue(boxed.isNone(0));
+        assertEquals(1L, boxed.get(1).unwrap());
+    }
+}
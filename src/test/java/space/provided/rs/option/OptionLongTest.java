@@ -0,0 +1,264 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionLongTest {
+
+    @Test
+    void isSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertTrue(option.isSome());
+    }
+
+    @Test
+    void isNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.isNone());
+    }
+
+    @Test
+    void isSomeAndWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertTrue(option.isSomeAnd(value -> value == 42L));
+    }
+
+    @Test
+    void isSomeAndWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertFalse(option.isSomeAnd(value -> true));
+    }
+
+    @Test
+    void unwrapWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L, option.unwrap());
+    }
+
+    @Test
+    void unwrapWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertThrowsExactly(ValueAccessError.class, option::unwrap);
+    }
+
+    @Test
+    void unwrapOrWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L, option.unwrapOr(7L));
+    }
+
+    @Test
+    void unwrapOrWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals(7L, option.unwrapOr(7L));
+    }
+
+    @Test
+    void mapWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L * 2L, option.map(value -> value * 2L).unwrap());
+    }
+
+    @Test
+    void mapWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.map(value -> value * 2L).isNone());
+    }
+
+    @Test
+    void mapToIntWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42, option.mapToInt(value -> (int) value).unwrap());
+    }
+
+    @Test
+    void mapToIntWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.mapToInt(value -> (int) value).isNone());
+    }
+
+    @Test
+    void mapToObjWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(String.valueOf(42L), option.mapToObj(String::valueOf).unwrap());
+    }
+
+    @Test
+    void mapToObjWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.mapToObj(String::valueOf).isNone());
+    }
+
+    @Test
+    void mapOrWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(String.valueOf(42L), option.mapOr("Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals("Foo", option.mapOr("Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(String.valueOf(42L), option.mapOrElse(() -> "Foo", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals("Foo", option.mapOrElse(() -> "Foo", String::valueOf));
+    }
+
+    @Test
+    void okOrWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L, option.okOr("Foo").unwrap());
+    }
+
+    @Test
+    void okOrWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals("Foo", option.okOr("Foo").unwrapError());
+    }
+
+    @Test
+    void okOrElseWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L, option.okOrElse(() -> "Foo").unwrap());
+    }
+
+    @Test
+    void okOrElseWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals("Foo", option.okOrElse(() -> "Foo").unwrapError());
+    }
+
+    @Test
+    void andThenWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(7L, option.andThen(value -> OptionLong.some(7L)).unwrap());
+    }
+
+    @Test
+    void andThenWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.andThen(value -> OptionLong.some(7L)).isNone());
+    }
+
+    @Test
+    void andThenContinueWithSome() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionLong option = OptionLong.some(42L);
+
+        option.andThenContinue(value -> reference.set(value == 42L));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void andThenContinueWithNone() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionLong option = OptionLong.none();
+
+        option.andThenContinue(value -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void andWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(7L, option.and(OptionLong.some(7L)).unwrap());
+    }
+
+    @Test
+    void andWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.and(OptionLong.some(7L)).isNone());
+    }
+
+    @Test
+    void filterMatching() {
+        final OptionLong option = OptionLong.some(42L);
+        assertTrue(option.filter(value -> value == 42L).isSome());
+    }
+
+    @Test
+    void filterNonMatch() {
+        final OptionLong option = OptionLong.some(42L);
+        assertTrue(option.filter(value -> value == 7L).isNone());
+    }
+
+    @Test
+    void orWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L, option.or(OptionLong.some(7L)).unwrap());
+    }
+
+    @Test
+    void orWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals(7L, option.or(OptionLong.some(7L)).unwrap());
+    }
+
+    @Test
+    void orElseWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(42L, option.orElse(() -> OptionLong.some(7L)).unwrap());
+    }
+
+    @Test
+    void orElseWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertEquals(7L, option.orElse(() -> OptionLong.some(7L)).unwrap());
+    }
+
+    @Test
+    void orElseContinueWithSome() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionLong option = OptionLong.some(42L);
+
+        option.orElseContinue(() -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orElseContinueWithNone() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final OptionLong option = OptionLong.none();
+
+        option.orElseContinue(() -> reference.set(true));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void boxedWithSome() {
+        final OptionLong option = OptionLong.some(42L);
+        assertEquals(Long.valueOf(42L), option.boxed().unwrap());
+    }
+
+    @Test
+    void boxedWithNone() {
+        final OptionLong option = OptionLong.none();
+        assertTrue(option.boxed().isNone());
+    }
+
+    @Test
+    void optionalConversions() {
+        assertEquals(OptionalLong.of(42L), OptionLong.some(42L).toOptional());
+        assertFalse(OptionLong.none().toOptional().isPresent());
+        assertEquals(42L, OptionLong.fromOptional(OptionalLong.of(42L)).unwrap());
+        assertSame(OptionLong.none(), OptionLong.fromOptional(OptionalLong.empty()));
+    }
+}
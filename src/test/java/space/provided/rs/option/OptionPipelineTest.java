@@ -0,0 +1,57 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.ops.ArgInvokable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionPipelineTest {
+
+    @Test
+    void somePath() {
+        final ArgInvokable<String, Option<Integer>> pipeline = OptionPipeline.<String>start()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(String::length)
+                .andThen(value -> value > 1 ? Option.some(value) : Option.none())
+                .build();
+
+        assertEquals(3, pipeline.invoke(" Foo ").unwrap());
+        assertTrue(pipeline.invoke("  ").isNone());
+        assertTrue(pipeline.invoke("F").isNone());
+    }
+
+    @Test
+    void noneSkipsToRecovery() {
+        final AtomicInteger skipped = new AtomicInteger();
+        final ArgInvokable<Integer, Option<Integer>> pipeline = OptionPipeline.<Integer>start()
+                .filter(value -> value > 0)
+                .map(value -> skipped.incrementAndGet())
+                .orElse(() -> Option.some(0))
+                .map(value -> value + 1)
+                .build();
+
+        assertEquals(1, pipeline.invoke(-1).unwrap());
+        assertEquals(0, skipped.get());
+        assertEquals(2, pipeline.invoke(5).unwrap());
+    }
+
+    @Test
+    void failedRecovery() {
+        final ArgInvokable<Integer, Option<Integer>> pipeline = OptionPipeline.<Integer>start()
+                .andThen(value -> Option.<Integer>none())
+                .orElse(Option::none)
+                .map(value -> value + 1)
+                .build();
+
+        assertTrue(pipeline.invoke(1).isNone());
+    }
+
+    @Test
+    void recoveryIsSkippedOnSome() {
+        final ArgInvokable<Integer, Option<Integer>> pipeline = OptionPipeline.<Integer>start().orElse(() -> Option.some(-1)).build();
+        assertEquals(1, pipeline.invoke(1).unwrap());
+    }
+}
@@ -3,7 +3,12 @@ package space.provided.rs.option;
 import org.junit.jupiter.api.Test;
 import space.provided.rs.error.ValueAccessError;
 
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -224,4 +229,46 @@ class OptionTest {
 
         assertTrue(reference.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamWithSome() {
+        final Option<String> option = Option.some("Foo");
+        assertEquals(Collections.singletonList("Foo"), option.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void streamWithNone() {
+        final Option<String> option = Option.none();
+        assertEquals(0, option.stream().count());
+    }
+
+    @Test
+    void ofNullable() {
+        assertEquals("Foo", Option.ofNullable("Foo").unwrap());
+        assertSame(Option.none(), Option.ofNullable(null));
+    }
+
+    @Test
+    void toNullable() {
+        assertEquals("Foo", Option.some("Foo").toNullable());
+        assertNull(Option.none().toNullable());
+    }
+
+    @Test
+    void optionalConversions() {
+        assertEquals(Optional.of("Foo"), Option.some("Foo").toOptional());
+        assertSame(Optional.empty(), Option.none().toOptional());
+        assertEquals("Foo", Option.fromOptional(Optional.of("Foo")).unwrap());
+        assertSame(Option.none(), Option.fromOptional(Optional.empty()));
+    }
+
+    @Test
+    void toFuture() throws Exception {
+        assertEquals("Foo", Option.some("Foo").toFuture(IllegalStateException::new).get());
+
+        final CompletableFuture<String> failed = Option.<String>none().toFuture(() -> new IllegalStateException("Bar"));
+        final ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Bar", exception.getCause().getMessage());
+    }
+}
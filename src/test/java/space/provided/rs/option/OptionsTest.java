@@ -0,0 +1,66 @@
+package space.provided.rs.option;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptionsTest {
+
+    @Test
+    void sequenceWithSomes() {
+        final List<Option<String>> options = Arrays.asList(Option.some("Foo"), Option.some("Bar"));
+        assertEquals(Arrays.asList("Foo", "Bar"), Options.sequence(options).unwrap());
+    }
+
+    @Test
+    void sequenceWithNone() {
+        final List<Option<String>> options = new LinkedList<>(Arrays.asList(Option.some("Foo"), Option.none()));
+        assertTrue(Options.sequence(options).isNone());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void sequenceWithArray() {
+        final Option<String>[] options = new Option[]{Option.some("Foo"), Option.none()};
+        assertTrue(Options.sequence(options).isNone());
+    }
+
+    @Test
+    void traverseWithSomes() {
+        final List<String> values = Arrays.asList("Foo", "Bar");
+        assertEquals(Arrays.asList(3, 3), Options.traverse(values, s -> Option.some(s.length())).unwrap());
+    }
+
+    @Test
+    void traverseStopsAtFirstNone() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final String[] values = {"Foo", "", "Bar"};
+
+        final Option<List<Integer>> option = Options.traverse(values, s -> {
+            invocations.incrementAndGet();
+            return s.isEmpty() ? Option.none() : Option.some(s.length());
+        });
+
+        assertTrue(option.isNone());
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void flatten() {
+        final List<Option<String>> options = Arrays.asList(Option.some("Foo"), Option.none(), Option.some("Bar"));
+        assertEquals(Arrays.asList("Foo", "Bar"), Options.flatten(options));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void flattenWithArray() {
+        final Option<String>[] options = new Option[]{Option.none(), Option.none()};
+        assertEquals(Collections.emptyList(), Options.flatten(options));
+    }
+}
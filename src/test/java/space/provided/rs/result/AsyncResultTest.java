@@ -0,0 +1,164 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncResultTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "async-result-test"));
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void supplyRunsOnExecutor() {
+        final AsyncResult<String, String> result = AsyncResult.supply(() -> Result.ok(Thread.currentThread().getName()), executor);
+        assertEquals("async-result-test", result.join().unwrap());
+    }
+
+    @Test
+    void combinatorsDoNotBlock() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AsyncResult<String, String> result = AsyncResult.<String, String>supply(() -> {
+            await(latch);
+            return Result.ok("Foo");
+        }, executor).map(String::toUpperCase);
+
+        assertFalse(result.isDone());
+        latch.countDown();
+        assertEquals("FOO", result.join().unwrap());
+    }
+
+    @Test
+    void mapWithOk() {
+        assertEquals("FOO", AsyncResult.<String, String>ok("Foo").withExecutor(executor).map(String::toUpperCase).join().unwrap());
+    }
+
+    @Test
+    void mapWithError() {
+        assertEquals("Foo", AsyncResult.<String, String>error("Foo").map(String::toUpperCase).join().unwrapError());
+    }
+
+    @Test
+    void andWithOk() {
+        assertEquals("Bar", AsyncResult.<String, String>ok("Foo").and(AsyncResult.ok("Bar")).join().unwrap());
+    }
+
+    @Test
+    void andThenWithOk() {
+        assertEquals("FOO", AsyncResult.<String, String>ok("Foo").andThen(s -> Result.ok(s.toUpperCase())).join().unwrap());
+    }
+
+    @Test
+    void andThenWithError() {
+        assertEquals("Foo", AsyncResult.<String, String>error("Foo").andThen(s -> Result.ok(s.toUpperCase())).join().unwrapError());
+    }
+
+    @Test
+    void andThenAsyncWithOk() {
+        final AsyncResult<String, String> result = AsyncResult.<String, String>ok("Foo")
+                .withExecutor(executor)
+                .andThenAsync(s -> AsyncResult.supply(() -> Result.ok(s + "Bar"), executor));
+
+        assertEquals("FooBar", result.join().unwrap());
+    }
+
+    @Test
+    void andThenAsyncWithError() {
+        final AtomicBoolean invoked = new AtomicBoolean(false);
+        final AsyncResult<String, String> result = AsyncResult.<String, String>error("Foo").andThenAsync(s -> {
+            invoked.set(true);
+            return AsyncResult.ok(s);
+        });
+
+        assertEquals("Foo", result.join().unwrapError());
+        assertFalse(invoked.get());
+    }
+
+    @Test
+    void andThenContinueWithOk() {
+        final AtomicReference<String> reference = new AtomicReference<>();
+        AsyncResult.<String, String>ok("Foo").andThenContinue(reference::set).join();
+        assertEquals("Foo", reference.get());
+    }
+
+    @Test
+    void orWithError() {
+        assertEquals("Bar", AsyncResult.<String, String>error("Foo").or(AsyncResult.ok("Bar")).join().unwrap());
+    }
+
+    @Test
+    void orElseWithError() {
+        assertEquals("Foo!", AsyncResult.<String, String>error("Foo").orElse(e -> Result.ok(e + "!")).join().unwrap());
+    }
+
+    @Test
+    void orElseAsyncWithError() {
+        final AsyncResult<String, String> result = AsyncResult.<String, String>error("Foo")
+                .orElseAsync(e -> AsyncResult.supply(() -> Result.ok(e + "!"), executor));
+
+        assertEquals("Foo!", result.join().unwrap());
+    }
+
+    @Test
+    void orElseContinueWithError() {
+        final AtomicReference<String> reference = new AtomicReference<>();
+        AsyncResult.<String, String>error("Foo").orElseContinue(reference::set).join();
+        assertEquals("Foo", reference.get());
+    }
+
+    @Test
+    void exceptionCompletesExceptionally() {
+        final AsyncResult<String, String> result = AsyncResult.<String, String>ok("Foo").map(s -> {
+            throw new IllegalStateException(s);
+        });
+        assertThrows(CompletionException.class, result::join);
+    }
+
+    @Test
+    void toCompletableFuture() {
+        final CompletableFuture<Result<String, String>> future = CompletableFuture.completedFuture(Result.ok("Foo"));
+        assertSame(future, AsyncResult.of(future).toCompletableFuture());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void fromFuture() {
+        assertEquals("Foo", AsyncResult.fromFuture(CompletableFuture.completedFuture("Foo")).join().unwrap());
+
+        final CompletableFuture<String> failing = CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException("Bar");
+        }, executor);
+        final Throwable error = AsyncResult.fromFuture(failing, executor).join().unwrapError();
+        assertInstanceOf(IllegalStateException.class, error);
+        assertEquals("Bar", error.getMessage());
+    }
+
+    @Test
+    void toFuture() {
+        assertEquals("Foo", AsyncResult.<String, String>ok("Foo").toFuture(IllegalStateException::new).join());
+
+        final CompletableFuture<String> future = AsyncResult.<String, String>error("Bar").toFuture(IllegalStateException::new);
+        final CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+}
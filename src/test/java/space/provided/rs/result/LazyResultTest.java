@@ -0,0 +1,57 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyResultTest {
+
+    @Test
+    void evaluatesOnFirstAccessOnly() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyResult<Integer, String> result = LazyResult.of(() -> Result.ok(calls.incrementAndGet()));
+
+        assertFalse(result.isEvaluated());
+        assertTrue(result.isOk());
+        assertEquals(1, result.unwrap());
+        assertEquals(1, result.unwrap());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void combinatorsAreDeferred() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyResult<Integer, String> result = LazyResult.<String, String>of(() -> {
+            calls.incrementAndGet();
+            return Result.ok("Foo");
+        }).map(String::length).andThen(length -> Result.ok(length * 2));
+
+        assertEquals(0, calls.get());
+        assertEquals(6, result.unwrap());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void errorPath() {
+        final LazyResult<Integer, String> result = LazyResult.<Integer, String>of(Result.error("Foo")).map(value -> value + 1);
+
+        assertTrue(result.isError());
+        assertEquals("Foo", result.unwrapError());
+        assertEquals(3, result.unwrapOrElse(String::length));
+        assertEquals(3, result.orElse(error -> Result.ok(error.length())).unwrap());
+        assertEquals(1, result.or(LazyResult.of(Result.ok(1))).unwrap());
+        assertEquals("Foo", result.and(LazyResult.of(Result.ok(1))).unwrapError());
+    }
+
+    @Test
+    void andOnlyEvaluatesOtherWhenOk() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyResult<Integer, String> other = LazyResult.of(() -> Result.ok(calls.incrementAndGet()));
+
+        assertTrue(LazyResult.<Integer, String>of(Result.error("Foo")).and(other).isError());
+        assertEquals(0, calls.get());
+        assertEquals(1, LazyResult.<Integer, String>of(Result.ok(0)).and(other).unwrap());
+    }
+}
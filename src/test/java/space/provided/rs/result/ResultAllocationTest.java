@@ -0,0 +1,76 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class ResultAllocationTest {
+
+    @Test
+    void mapWithError() {
+        final Result<String, String> result = Result.error("Foo");
+        assertSame(result, result.map(String::length));
+        assertNoAllocation(() -> result.map(String::length));
+    }
+
+    @Test
+    void andWithError() {
+        final Result<String, String> result = Result.error("Foo");
+        final Result<String, String> comparingResult = Result.ok("Bar");
+
+        assertSame(result, result.and(comparingResult));
+        assertNoAllocation(() -> result.and(comparingResult));
+    }
+
+    @Test
+    void andThenWithError() {
+        final Result<String, String> result = Result.error("Foo");
+        assertSame(result, result.andThen(Result::ok));
+        assertNoAllocation(() -> result.andThen(Result::ok));
+    }
+
+    @Test
+    void andThenContinueWithOk() {
+        final Result<String, String> result = Result.ok("Foo");
+        assertSame(result, result.andThenContinue(s -> {}));
+        assertNoAllocation(() -> result.andThenContinue(s -> {}));
+    }
+
+    @Test
+    void andThenContinueWithError() {
+        final Result<String, String> result = Result.error("Foo");
+        assertSame(result, result.andThenContinue(s -> {}));
+        assertNoAllocation(() -> result.andThenContinue(s -> {}));
+    }
+
+    @Test
+    void orWithOk() {
+        final Result<String, String> result = Result.ok("Foo");
+        final Result<String, String> comparingResult = Result.ok("Bar");
+
+        assertSame(result, result.or(comparingResult));
+        assertNoAllocation(() -> result.or(comparingResult));
+    }
+
+    @Test
+    void orElseWithOk() {
+        final Result<String, String> result = Result.ok("Foo");
+        assertSame(result, result.orElse(Result::error));
+        assertNoAllocation(() -> result.orElse(Result::error));
+    }
+
+    @Test
+    void orElseContinueWithOk() {
+        final Result<String, String> result = Result.ok("Foo");
+        assertSame(result, result.orElseContinue(e -> {}));
+        assertNoAllocation(() -> result.orElseContinue(e -> {}));
+    }
+
+    @Test
+    void orElseContinueWithError() {
+        final Result<String, String> result = Result.error("Foo");
+        assertSame(result, result.orElseContinue(e -> {}));
+        assertNoAllocation(() -> result.orElseContinue(e -> {}));
+    }
+}
@@ -0,0 +1,100 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.option.OptionArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultBatchTest {
+
+    @Test
+    void startsAsErrors() {
+        final ResultBatch<String, String> batch = new ResultBatch<>(2);
+        assertTrue(batch.isError(0));
+        assertNull(batch.get(1).unwrapError());
+        assertEquals(2, batch.countError());
+    }
+
+    @Test
+    void bounds() {
+        final ResultBatch<String, String> batch = new ResultBatch<>(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isOk(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.setOk(3, "Foo"));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.setError(-1, "Foo"));
+    }
+
+    @Test
+    void setOkAndError() {
+        final ResultBatch<String, String> batch = new ResultBatch<String, String>(2).setOk(0, "Foo").setError(1, "Bar");
+        assertEquals("Foo", batch.get(0).unwrap());
+        assertEquals("Bar", batch.get(1).unwrapError());
+        assertEquals(1, batch.firstError().unwrap());
+
+        batch.setOk(1, "Baz");
+        assertTrue(batch.firstError().isNone());
+        assertEquals(2, batch.countOk());
+    }
+
+    @Test
+    void roundTrip() {
+        final List<Result<Integer, String>> results = Arrays.asList(Result.ok(1), Result.error("Foo"), Result.ok(3));
+        final List<Result<Integer, String>> converted = ResultBatch.of(results).toList();
+
+        assertEquals(1, converted.get(0).unwrap());
+        assertEquals("Foo", converted.get(1).unwrapError());
+        assertEquals(3, converted.get(2).unwrap());
+    }
+
+    @Test
+    void forEachVisitsColumns() {
+        final ResultBatch<Integer, String> batch = batch(130);
+        final List<Integer> oks = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        batch.forEachOk(oks::add);
+        batch.forEachError(errors::add);
+
+        assertEquals(86, oks.size());
+        assertEquals(Arrays.asList("0", "3", "6"), errors.subList(0, 3));
+        assertEquals(44, errors.size());
+        assertEquals(batch.countError(), errors.size());
+    }
+
+    @Test
+    void mapAndFilter() {
+        final ResultBatch<Integer, String> batch = batch(130);
+        final ResultBatch<Integer, String> mapped = batch.map(value -> value * 2);
+        assertEquals(2, mapped.get(1).unwrap());
+        assertEquals("3", mapped.get(3).unwrapError());
+
+        final ResultBatch<Integer, String> filtered = batch.filter(value -> value < 100, "Too large");
+        assertEquals("Too large", filtered.get(100).unwrapError());
+        assertEquals("99", filtered.get(99).unwrapError());
+        assertEquals(98, filtered.get(98).unwrap());
+        assertEquals(86, batch.countOk());
+    }
+
+    @Test
+    void oks() {
+        final OptionArray<Integer> oks = batch(10).oks();
+        assertTrue(oks.isNone(0));
+        assertEquals(1, oks.get(1).unwrap());
+        assertEquals(6, oks.count());
+    }
+
+    private static ResultBatch<Integer, String> batch(int length) {
+        final ResultBatch<Integer, String> batch = new ResultBatch<>(length);
+        for (int i = 0; i < length; i++) {
+            if (i % 3 == 0) {
+                batch.setError(i, String.valueOf(i));
+            } else {
+                batch.setOk(i, i);
+            }
+        }
+        return batch;
+    }
+}
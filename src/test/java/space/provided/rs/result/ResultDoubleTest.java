@@ -0,0 +1,231 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultDoubleTest {
+
+    @Test
+    void unwrapWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4.2, result.unwrap());
+    }
+
+    @Test
+    void unwrapWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertThrowsExactly(ValueAccessError.class, result::unwrap);
+    }
+
+    @Test
+    void unwrapErrorWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertThrowsExactly(ValueAccessError.class, result::unwrapError);
+    }
+
+    @Test
+    void unwrapErrorWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Foo", result.unwrapError());
+    }
+
+    @Test
+    void isOkAndWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertTrue(result.isOkAnd(value -> value == 4.2));
+    }
+
+    @Test
+    void isOkAndWithError() {
+        final ResultDouble<String> result = ResultDouble.error();
+        assertFalse(result.isOkAnd(value -> true));
+    }
+
+    @Test
+    void isErrorAndWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertFalse(result.isErrorAnd(e -> true));
+    }
+
+    @Test
+    void isErrorAndWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertTrue(result.isErrorAnd(e -> e.equals("Foo")));
+    }
+
+    @Test
+    void mapWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4.2 * 2.0, result.map(value -> value * 2.0).unwrap());
+    }
+
+    @Test
+    void mapWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Foo", result.map(value -> value * 2.0).unwrapError());
+    }
+
+    @Test
+    void mapToLongWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4L, result.mapToLong(value -> (long) value).unwrap());
+    }
+
+    @Test
+    void mapToLongWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Foo", result.mapToLong(value -> (long) value).unwrapError());
+    }
+
+    @Test
+    void mapToObjWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(String.valueOf(4.2), result.mapToObj(String::valueOf).unwrap());
+    }
+
+    @Test
+    void mapToObjWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Foo", result.mapToObj(String::valueOf).unwrapError());
+    }
+
+    @Test
+    void mapOrWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(String.valueOf(4.2), result.mapOr("Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Bar", result.mapOr("Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(String.valueOf(4.2), result.mapOrElse(e -> "Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Foo", result.mapOrElse(e -> e, String::valueOf));
+    }
+
+    @Test
+    void andWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(0.7, result.and(ResultDouble.ok(0.7)).unwrap());
+    }
+
+    @Test
+    void andWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertTrue(result.and(ResultDouble.ok(0.7)).isError());
+    }
+
+    @Test
+    void andThenWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4.2 * 2.0, result.andThen(value -> ResultDouble.ok(value * 2.0)).unwrap());
+    }
+
+    @Test
+    void andThenWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertTrue(result.andThen(value -> ResultDouble.ok(value * 2.0)).isError());
+    }
+
+    @Test
+    void andThenContinueWithOk() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+
+        result.andThenContinue(value -> reference.set(value == 4.2));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void andThenContinueWithError() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+
+        result.andThenContinue(value -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4.2, result.or(ResultDouble.ok(0.7)).unwrap());
+    }
+
+    @Test
+    void orWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals(0.7, result.or(ResultDouble.ok(0.7)).unwrap());
+    }
+
+    @Test
+    void orElseWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4.2, result.orElse(e -> ResultDouble.ok(0.7)).unwrap());
+    }
+
+    @Test
+    void orElseWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals(0.7, result.orElse(e -> ResultDouble.ok(0.7)).unwrap());
+    }
+
+    @Test
+    void orElseContinueWithOk() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+
+        result.orElseContinue(e -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orElseContinueWithError() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+
+        result.orElseContinue(e -> reference.set(e.equals("Foo")));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void unwrapOrElseWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(4.2, result.unwrapOrElse(e -> 0.7));
+    }
+
+    @Test
+    void unwrapOrElseWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals(0.7, result.unwrapOrElse(e -> 0.7));
+    }
+
+    @Test
+    void boxedWithOk() {
+        final ResultDouble<String> result = ResultDouble.ok(4.2);
+        assertEquals(Double.valueOf(4.2), result.boxed().unwrap());
+    }
+
+    @Test
+    void boxedWithError() {
+        final ResultDouble<String> result = ResultDouble.error("Foo");
+        assertEquals("Foo", result.boxed().unwrapError());
+    }
+}
@@ -0,0 +1,36 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+
+import static space.provided.rs.Footprint.assertInstanceSize;
+
+class ResultFootprintTest {
+
+    @Test
+    void ok() {
+        assertInstanceSize(16, 24, Result.ok("Foo").getClass());
+    }
+
+    @Test
+    void error() {
+        assertInstanceSize(16, 24, Result.error("Foo").getClass());
+    }
+
+    @Test
+    void resultInt() {
+        assertInstanceSize(16, 24, ResultInt.ok(42).getClass());
+        assertInstanceSize(16, 24, ResultInt.error("Foo").getClass());
+    }
+
+    @Test
+    void resultLong() {
+        assertInstanceSize(24, 24, ResultLong.ok(42L).getClass());
+        assertInstanceSize(16, 24, ResultLong.error("Foo").getClass());
+    }
+
+    @Test
+    void resultDouble() {
+        assertInstanceSize(24, 24, ResultDouble.ok(4.2).getClass());
+        assertInstanceSize(16, 24, ResultDouble.error("Foo").getClass());
+    }
+}
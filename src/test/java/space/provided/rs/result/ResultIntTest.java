@@ -0,0 +1,231 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultIntTest {
+
+    @Test
+    void unwrapWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42, result.unwrap());
+    }
+
+    @Test
+    void unwrapWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertThrowsExactly(ValueAccessError.class, result::unwrap);
+    }
+
+    @Test
+    void unwrapErrorWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertThrowsExactly(ValueAccessError.class, result::unwrapError);
+    }
+
+    @Test
+    void unwrapErrorWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Foo", result.unwrapError());
+    }
+
+    @Test
+    void isOkAndWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertTrue(result.isOkAnd(value -> value == 42));
+    }
+
+    @Test
+    void isOkAndWithError() {
+        final ResultInt<String> result = ResultInt.error();
+        assertFalse(result.isOkAnd(value -> true));
+    }
+
+    @Test
+    void isErrorAndWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertFalse(result.isErrorAnd(e -> true));
+    }
+
+    @Test
+    void isErrorAndWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertTrue(result.isErrorAnd(e -> e.equals("Foo")));
+    }
+
+    @Test
+    void mapWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42 * 2, result.map(value -> value * 2).unwrap());
+    }
+
+    @Test
+    void mapWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Foo", result.map(value -> value * 2).unwrapError());
+    }
+
+    @Test
+    void mapToLongWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42L, result.mapToLong(value -> (long) value).unwrap());
+    }
+
+    @Test
+    void mapToLongWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Foo", result.mapToLong(value -> (long) value).unwrapError());
+    }
+
+    @Test
+    void mapToObjWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(String.valueOf(42), result.mapToObj(String::valueOf).unwrap());
+    }
+
+    @Test
+    void mapToObjWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Foo", result.mapToObj(String::valueOf).unwrapError());
+    }
+
+    @Test
+    void mapOrWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(String.valueOf(42), result.mapOr("Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Bar", result.mapOr("Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(String.valueOf(42), result.mapOrElse(e -> "Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Foo", result.mapOrElse(e -> e, String::valueOf));
+    }
+
+    @Test
+    void andWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(7, result.and(ResultInt.ok(7)).unwrap());
+    }
+
+    @Test
+    void andWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertTrue(result.and(ResultInt.ok(7)).isError());
+    }
+
+    @Test
+    void andThenWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42 * 2, result.andThen(value -> ResultInt.ok(value * 2)).unwrap());
+    }
+
+    @Test
+    void andThenWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertTrue(result.andThen(value -> ResultInt.ok(value * 2)).isError());
+    }
+
+    @Test
+    void andThenContinueWithOk() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultInt<String> result = ResultInt.ok(42);
+
+        result.andThenContinue(value -> reference.set(value == 42));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void andThenContinueWithError() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultInt<String> result = ResultInt.error("Foo");
+
+        result.andThenContinue(value -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42, result.or(ResultInt.ok(7)).unwrap());
+    }
+
+    @Test
+    void orWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals(7, result.or(ResultInt.ok(7)).unwrap());
+    }
+
+    @Test
+    void orElseWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42, result.orElse(e -> ResultInt.ok(7)).unwrap());
+    }
+
+    @Test
+    void orElseWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals(7, result.orElse(e -> ResultInt.ok(7)).unwrap());
+    }
+
+    @Test
+    void orElseContinueWithOk() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultInt<String> result = ResultInt.ok(42);
+
+        result.orElseContinue(e -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orElseContinueWithError() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultInt<String> result = ResultInt.error("Foo");
+
+        result.orElseContinue(e -> reference.set(e.equals("Foo")));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void unwrapOrElseWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(42, result.unwrapOrElse(e -> 7));
+    }
+
+    @Test
+    void unwrapOrElseWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals(7, result.unwrapOrElse(e -> 7));
+    }
+
+    @Test
+    void boxedWithOk() {
+        final ResultInt<String> result = ResultInt.ok(42);
+        assertEquals(Integer.valueOf(42), result.boxed().unwrap());
+    }
+
+    @Test
+    void boxedWithError() {
+        final ResultInt<String> result = ResultInt.error("Foo");
+        assertEquals("Foo", result.boxed().unwrapError());
+    }
+}
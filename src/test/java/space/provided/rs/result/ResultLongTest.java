@@ -0,0 +1,231 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultLongTest {
+
+    @Test
+    void unwrapWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42L, result.unwrap());
+    }
+
+    @Test
+    void unwrapWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertThrowsExactly(ValueAccessError.class, result::unwrap);
+    }
+
+    @Test
+    void unwrapErrorWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertThrowsExactly(ValueAccessError.class, result::unwrapError);
+    }
+
+    @Test
+    void unwrapErrorWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Foo", result.unwrapError());
+    }
+
+    @Test
+    void isOkAndWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertTrue(result.isOkAnd(value -> value == 42L));
+    }
+
+    @Test
+    void isOkAndWithError() {
+        final ResultLong<String> result = ResultLong.error();
+        assertFalse(result.isOkAnd(value -> true));
+    }
+
+    @Test
+    void isErrorAndWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertFalse(result.isErrorAnd(e -> true));
+    }
+
+    @Test
+    void isErrorAndWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertTrue(result.isErrorAnd(e -> e.equals("Foo")));
+    }
+
+    @Test
+    void mapWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42L * 2L, result.map(value -> value * 2L).unwrap());
+    }
+
+    @Test
+    void mapWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Foo", result.map(value -> value * 2L).unwrapError());
+    }
+
+    @Test
+    void mapToIntWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42, result.mapToInt(value -> (int) value).unwrap());
+    }
+
+    @Test
+    void mapToIntWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Foo", result.mapToInt(value -> (int) value).unwrapError());
+    }
+
+    @Test
+    void mapToObjWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(String.valueOf(42L), result.mapToObj(String::valueOf).unwrap());
+    }
+
+    @Test
+    void mapToObjWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Foo", result.mapToObj(String::valueOf).unwrapError());
+    }
+
+    @Test
+    void mapOrWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(String.valueOf(42L), result.mapOr("Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Bar", result.mapOr("Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(String.valueOf(42L), result.mapOrElse(e -> "Bar", String::valueOf));
+    }
+
+    @Test
+    void mapOrElseWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Foo", result.mapOrElse(e -> e, String::valueOf));
+    }
+
+    @Test
+    void andWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(7L, result.and(ResultLong.ok(7L)).unwrap());
+    }
+
+    @Test
+    void andWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertTrue(result.and(ResultLong.ok(7L)).isError());
+    }
+
+    @Test
+    void andThenWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42L * 2L, result.andThen(value -> ResultLong.ok(value * 2L)).unwrap());
+    }
+
+    @Test
+    void andThenWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertTrue(result.andThen(value -> ResultLong.ok(value * 2L)).isError());
+    }
+
+    @Test
+    void andThenContinueWithOk() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultLong<String> result = ResultLong.ok(42L);
+
+        result.andThenContinue(value -> reference.set(value == 42L));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void andThenContinueWithError() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultLong<String> result = ResultLong.error("Foo");
+
+        result.andThenContinue(value -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42L, result.or(ResultLong.ok(7L)).unwrap());
+    }
+
+    @Test
+    void orWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals(7L, result.or(ResultLong.ok(7L)).unwrap());
+    }
+
+    @Test
+    void orElseWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42L, result.orElse(e -> ResultLong.ok(7L)).unwrap());
+    }
+
+    @Test
+    void orElseWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals(7L, result.orElse(e -> ResultLong.ok(7L)).unwrap());
+    }
+
+    @Test
+    void orElseContinueWithOk() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultLong<String> result = ResultLong.ok(42L);
+
+        result.orElseContinue(e -> reference.set(true));
+
+        assertFalse(reference.get());
+    }
+
+    @Test
+    void orElseContinueWithError() {
+        final AtomicBoolean reference = new AtomicBoolean(false);
+        final ResultLong<String> result = ResultLong.error("Foo");
+
+        result.orElseContinue(e -> reference.set(e.equals("Foo")));
+
+        assertTrue(reference.get());
+    }
+
+    @Test
+    void unwrapOrElseWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(42L, result.unwrapOrElse(e -> 7L));
+    }
+
+    @Test
+    void unwrapOrElseWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals(7L, result.unwrapOrElse(e -> 7L));
+    }
+
+    @Test
+    void boxedWithOk() {
+        final ResultLong<String> result = ResultLong.ok(42L);
+        assertEquals(Long.valueOf(42L), result.boxed().unwrap());
+    }
+
+    @Test
+    void boxedWithError() {
+        final ResultLong<String> result = ResultLong.error("Foo");
+        assertEquals("Foo", result.boxed().unwrapError());
+    }
+}
@@ -0,0 +1,101 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.ops.ArgInvokable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultPipelineTest {
+
+    private final ArgInvokable<String, Result<Integer, String>> parse = ResultPipeline.<String, String>start()
+            .map(String::trim)
+            .filter(value -> !value.isEmpty(), "Empty")
+            .andThen(value -> value.chars().allMatch(Character::isDigit) ? Result.ok(Integer.parseInt(value)) : Result.error("NaN"))
+            .map(value -> value * 2)
+            .build();
+
+    @Test
+    void okPath() {
+        assertEquals(84, parse.invoke(" 42 ").unwrap());
+    }
+
+    @Test
+    void errorPath() {
+        assertEquals("Empty", parse.invoke("  ").unwrapError());
+        assertEquals("NaN", parse.invoke("Foo").unwrapError());
+    }
+
+    @Test
+    void emptyPipeline() {
+        assertEquals("Foo", ResultPipeline.<String, Integer>start().build().invoke("Foo").unwrap());
+    }
+
+    @Test
+    void errorSkipsToRecovery() {
+        final AtomicInteger skipped = new AtomicInteger();
+        final ArgInvokable<Integer, Result<Integer, String>> pipeline = ResultPipeline.<Integer, String>start()
+                .filter(value -> value > 0, value -> "Negative " + value)
+                .map(value -> skipped.incrementAndGet())
+                .orElse(error -> error.startsWith("Negative") ? Result.ok(0) : Result.error(error))
+                .map(value -> value + 1)
+                .build();
+
+        assertEquals(1, pipeline.invoke(-1).unwrap());
+        assertEquals(0, skipped.get());
+        assertEquals(2, pipeline.invoke(5).unwrap());
+        assertEquals(1, skipped.get());
+    }
+
+    @Test
+    void failedRecoveryContinuesToNextRecovery() {
+        final ArgInvokable<Integer, Result<Integer, String>> pipeline = ResultPipeline.<Integer, String>start()
+                .andThen(value -> Result.<Integer, String>error("Foo"))
+                .orElse(error -> Result.error(error + "Bar"))
+                .map(value -> value + 1)
+                .orElse(error -> Result.error(error + "Baz"))
+                .build();
+
+        assertEquals("FooBarBaz", pipeline.invoke(1).unwrapError());
+    }
+
+    @Test
+    void recoveryIsSkippedOnOk() {
+        final ArgInvokable<Integer, Result<Integer, String>> pipeline = ResultPipeline.<Integer, String>start()
+                .orElse(error -> Result.ok(-1))
+                .build();
+
+        assertEquals(1, pipeline.invoke(1).unwrap());
+    }
+
+    @Test
+    void pipelinesAreImmutable() {
+        final ResultPipeline<Integer, Integer, String> prefix = ResultPipeline.<Integer, String>start().map(value -> value + 1);
+        final ArgInvokable<Integer, Result<Integer, String>> doubled = prefix.map(value -> value * 2).build();
+        final ArgInvokable<Integer, Result<Integer, String>> negated = prefix.map(value -> -value).build();
+
+        assertEquals(4, doubled.invoke(1).unwrap());
+        assertEquals(-2, negated.invoke(1).unwrap());
+        assertEquals(2, prefix.build().invoke(1).unwrap());
+    }
+
+    @Test
+    void matchesCombinators() {
+        for (String input : new String[]{"1", "", "Foo", " 7"}) {
+            final Result<Integer, String> chained = Result.<String, String>ok(input)
+                    .map(String::trim)
+                    .andThen(value -> value.isEmpty() ? Result.error("Empty") : Result.ok(value))
+                    .andThen(value -> value.chars().allMatch(Character::isDigit) ? Result.ok(value) : Result.error("NaN"))
+                    .map(Integer::parseInt)
+                    .map(value -> value * 2);
+            final Result<Integer, String> fused = parse.invoke(input);
+            assertEquals(chained.isOk(), fused.isOk());
+            if (chained.isOk()) {
+                assertEquals(chained.unwrap(), fused.unwrap());
+            } else {
+                assertEquals(chained.unwrapError(), fused.unwrapError());
+            }
+        }
+    }
+}
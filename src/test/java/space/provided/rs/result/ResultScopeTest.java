@@ -0,0 +1,159 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultScopeTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void joinAll() throws InterruptedException {
+        try (ResultScope<String> scope = new ResultScope<>(executor)) {
+            final ResultScope.Task<String, String> foo = scope.fork(() -> Result.ok("Foo"));
+            final ResultScope.Task<Integer, String> bar = scope.fork(() -> {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                return Result.ok(42);
+            });
+
+            assertTrue(scope.join().isOk());
+            assertEquals("Foo", foo.get());
+            assertEquals(42, bar.get());
+            assertTrue(bar.isDone());
+        }
+    }
+
+    @Test
+    void failFast() throws InterruptedException {
+        final AtomicInteger invoked = new AtomicInteger();
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final List<ResultScope.Task<String, String>> tasks = new ArrayList<>();
+        try (ResultScope<String> scope = new ResultScope<>(executor, 2)) {
+            tasks.add(scope.fork(() -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException exception) {
+                    interrupted.countDown();
+                }
+                return Result.error("Interrupted");
+            }));
+            tasks.add(scope.fork(() -> {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                return Result.error("Foo");
+            }));
+            for (int i = 0; i < 10; i++) {
+                tasks.add(scope.fork(() -> {
+                    invoked.incrementAndGet();
+                    return Result.ok("Bar");
+                }));
+            }
+
+            assertEquals("Foo", scope.join().unwrapError());
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, invoked.get());
+        assertTrue(tasks.get(11).isCancelled());
+        assertThrows(IllegalStateException.class, () -> tasks.get(11).result());
+    }
+
+    @Test
+    void maxConcurrency() throws InterruptedException {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        try (ResultScope<String> scope = new ResultScope<>(executor, 3)) {
+            for (int i = 0; i < 50; i++) {
+                scope.fork(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    running.decrementAndGet();
+                    return Result.ok();
+                });
+            }
+
+            assertTrue(scope.join().isOk());
+        }
+        assertTrue(peak.get() <= 3, () -> "Peak concurrency was " + peak.get());
+    }
+
+    @Test
+    void joinNeverReturnsOkAfterFailure() throws InterruptedException {
+        for (int round = 0; round < 2_000; round++) {
+            try (ResultScope<Integer> scope = new ResultScope<>(executor)) {
+                for (int i = 0; i < 8; i++) {
+                    final int error = i;
+                    scope.fork(() -> Result.error(error));
+                }
+                assertTrue(scope.join().isError(), "Round " + round);
+            }
+        }
+    }
+
+    @Test
+    void exception() throws InterruptedException {
+        try (ResultScope<String> scope = new ResultScope<>(executor)) {
+            scope.fork(() -> {
+                throw new IllegalStateException("Foo");
+            });
+
+            final CompletionException exception = assertThrows(CompletionException.class, scope::join);
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void rejectedAfterCancellation() throws InterruptedException {
+        final AtomicReference<ResultScope<String>> holder = new AtomicReference<>();
+        final ResultScope<String> scope = new ResultScope<>(runnable -> {
+            // Cancel the task between taking it from the queue and the rejection.
+            holder.get().close();
+            throw new RejectedExecutionException();
+        });
+        holder.set(scope);
+
+        final ResultScope.Task<String, String> task = scope.fork(() -> Result.ok("Foo"));
+
+        assertTrue(task.isCancelled());
+        assertTrue(scope.join().isOk());
+    }
+
+    @Test
+    void rejected() throws InterruptedException {
+        final ExecutorService shutDown = Executors.newSingleThreadExecutor();
+        shutDown.shutdown();
+        try (ResultScope<String> scope = new ResultScope<>(shutDown)) {
+            final ResultScope.Task<String, String> task = scope.fork(() -> Result.ok("Foo"));
+
+            final CompletionException exception = assertThrows(CompletionException.class, scope::join);
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+            assertTrue(task.isDone());
+        }
+    }
+
+    @Test
+    void closed() {
+        final ResultScope<String> scope = new ResultScope<>(executor);
+        scope.close();
+
+        assertThrows(IllegalStateException.class, () -> scope.fork(() -> Result.ok("Foo")));
+        assertThrows(IllegalArgumentException.class, () -> new ResultScope<String>(executor, 0));
+    }
+}
@@ -2,8 +2,17 @@ package space.provided.rs.result;
 
 import org.junit.jupiter.api.Test;
 import space.provided.rs.error.ValueAccessError;
-
+import space.provided.rs.ops.ArgInvokable;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -224,4 +233,100 @@ class ResultTest {
         final Result<String, String> result = Result.error("Foo");
         assertEquals("Bar", result.unwrapOrElse(s -> "Bar"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamWithOk() {
+        final Result<String, String> result = Result.ok("Foo");
+        assertEquals(Collections.singletonList("Foo"), result.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void streamWithError() {
+        final Result<String, String> result = Result.error("Foo");
+        assertEquals(0, result.stream().count());
+    }
+
+    @Test
+    void catchingWithValue() {
+        final Result<Integer, Exception> result = Result.catching(() -> Integer.parseInt("42"));
+        assertEquals(42, result.unwrap());
+    }
+
+    @Test
+    void catchingWithException() {
+        final Result<Integer, Exception> result = Result.catching(() -> Integer.parseInt("Foo"));
+        assertInstanceOf(NumberFormatException.class, result.unwrapError());
+    }
+
+    @Test
+    void catchingWithType() {
+        final Result<Object, IOException> result = Result.catching(IOException.class, () -> {
+            throw new FileNotFoundException("Foo");
+        });
+        assertEquals("Foo", result.unwrapError().getMessage());
+    }
+
+    @Test
+    void catchingRethrowsOtherTypes() {
+        assertThrowsExactly(IllegalStateException.class, () -> Result.catching(IOException.class, () -> {
+            throw new IllegalStateException();
+        }));
+        final UndeclaredThrowableException exception = assertThrowsExactly(UndeclaredThrowableException.class, () -> Result.catching(IOException.class, () -> {
+            throw new TimeoutException();
+        }));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void catchingMap() {
+        final Result<Integer, Integer> result = Result.catchingMap(NumberFormatException.class, () -> Integer.parseInt("Foo"), exception -> -1);
+        assertEquals(-1, result.unwrapError());
+        assertEquals(42, Result.catchingMap(() -> Integer.parseInt("42"), exception -> -1).unwrap());
+    }
+
+    @Test
+    void catchingRun() {
+        assertTrue(Result.catchingRun(IOException.class, () -> {
+        }).isOk());
+        assertTrue(Result.catchingRun(IOException.class, () -> {
+            throw new IOException();
+        }).isError());
+    }
+
+    @Test
+    void catchingRestoresInterrupt() {
+        final Result<Object, InterruptedException> result = Result.catching(InterruptedException.class, () -> {
+            throw new InterruptedException();
+        });
+        assertTrue(result.isError());
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void lift() {
+        final ArgInvokable<String, Result<Integer, NumberFormatException>> parse = Result.lift(NumberFormatException.class, Integer::parseInt);
+        assertEquals(42, parse.invoke("42").unwrap());
+        assertTrue(parse.invoke("Foo").isError());
+
+        final ArgInvokable<String, Result<Void, IOException>> write = Result.liftRun(IOException.class, value -> {
+            throw new IOException(value);
+        });
+        assertEquals("Foo", write.invoke("Foo").unwrapError().getMessage());
+    }
+
+    @Test
+    void ofNullable() {
+        assertEquals("Foo", Result.ofNullable("Foo", "Missing").unwrap());
+        assertEquals("Missing", Result.ofNullable(null, "Missing").unwrapError());
+    }
+
+    @Test
+    void toFuture() throws Exception {
+        assertEquals("Foo", Result.<String, String>ok("Foo").toFuture(IllegalStateException::new).get());
+
+        final CompletableFuture<String> failed = Result.<String, String>error("Bar").toFuture(IllegalStateException::new);
+        final ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertEquals("Bar", exception.getCause().getMessage());
+    }
+}
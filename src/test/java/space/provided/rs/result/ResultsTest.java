@@ -0,0 +1,288 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultsTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sequenceWithOks() {
+        final List<Result<String, String>> results = Arrays.asList(Result.ok("Foo"), Result.ok("Bar"));
+        assertEquals(Arrays.asList("Foo", "Bar"), Results.sequence(results).unwrap());
+    }
+
+    @Test
+    void sequenceWithError() {
+        final Result<String, String> error = Result.error("Foo");
+        final List<Result<String, String>> results = Arrays.asList(Result.ok("Bar"), error, Result.error("Baz"));
+
+        assertSame(error, Results.sequence(results));
+    }
+
+    @Test
+    void sequenceWithLinkedList() {
+        final List<Result<String, String>> results = new LinkedList<>(Arrays.asList(Result.ok("Foo"), Result.error("Bar")));
+        assertEquals("Bar", Results.sequence(results).unwrapError());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void sequenceWithArray() {
+        final Result<String, String>[] results = new Result[]{Result.ok("Foo"), Result.ok("Bar")};
+        assertEquals(Arrays.asList("Foo", "Bar"), Results.sequence(results).unwrap());
+    }
+
+    @Test
+    void traverseWithOks() {
+        final List<String> values = Arrays.asList("Foo", "Bar");
+        assertEquals(Arrays.asList(3, 3), Results.traverse(values, s -> Result.ok(s.length())).unwrap());
+    }
+
+    @Test
+    void traverseStopsAtFirstError() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final List<String> values = new LinkedList<>(Arrays.asList("Foo", "", "Bar"));
+
+        final Result<List<Integer>, String> result = Results.traverse(values, s -> {
+            invocations.incrementAndGet();
+            return s.isEmpty() ? Result.error("Empty") : Result.ok(s.length());
+        });
+
+        assertEquals("Empty", result.unwrapError());
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void traverseWithArray() {
+        final String[] values = {"Foo", "Bar"};
+        assertEquals(Arrays.asList(3, 3), Results.traverse(values, s -> Result.ok(s.length())).unwrap());
+    }
+
+    @Test
+    void partition() {
+        final List<Result<String, Integer>> results = Arrays.asList(Result.ok("Foo"), Result.error(1), Result.ok("Bar"), Result.error(2));
+        final Partition<String, Integer> partition = Results.partition(results);
+
+        assertEquals(Arrays.asList("Foo", "Bar"), partition.oks());
+        assertEquals(Arrays.asList(1, 2), partition.errors());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void partitionWithArray() {
+        final Result<String, Integer>[] results = new Result[]{Result.error(1), Result.ok("Foo")};
+        final Partition<String, Integer> partition = Results.partition(results);
+
+        assertEquals(Arrays.asList("Foo"), partition.oks());
+        assertEquals(Arrays.asList(1), partition.errors());
+    }
+
+    @Test
+    void sequencingWithOks() {
+        final Result<List<Integer>, String> result = IntStream.range(0, 100_000).parallel()
+                .mapToObj(Result::<Integer, String>ok)
+                .collect(Results.sequencing());
+
+        assertEquals(IntStream.range(0, 100_000).boxed().collect(Collectors.toList()), result.unwrap());
+    }
+
+    @Test
+    void sequencingReportsFirstErrorInEncounterOrder() {
+        final Result<List<Integer>, Integer> result = IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> i % 10_000 == 9_999 ? Result.<Integer, Integer>error(i) : Result.<Integer, Integer>ok(i))
+                .collect(Results.sequencing());
+
+        assertEquals(9_999, result.unwrapError());
+    }
+
+    @Test
+    void partitioning() {
+        final Partition<Integer, Integer> partition = IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> i % 2 == 0 ? Result.<Integer, Integer>ok(i) : Result.<Integer, Integer>error(i))
+                .collect(Results.partitioning());
+
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList()), partition.oks());
+        assertEquals(IntStream.range(0, 100_000).filter(i -> i % 2 != 0).boxed().collect(Collectors.toList()), partition.errors());
+    }
+
+    @Test
+    void raceFirstOkWins() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> blockUntilInterrupted(started, interrupted), () -> {
+            await(started);
+            return Result.ok("Fast");
+        });
+
+        assertEquals("Fast", Results.race(attempts, executor).join().unwrap());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void raceCollectsAllErrors() {
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> Result.error("Foo"), () -> Result.error("Bar"), () -> Result.error("Baz"));
+
+        assertEquals(Arrays.asList("Foo", "Bar", "Baz"), Results.race(attempts, executor).join().unwrapError());
+    }
+
+    @Test
+    void raceSkipsErrors() {
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> Result.error("Foo"), () -> {
+            sleep(20);
+            return Result.ok("Bar");
+        });
+
+        assertEquals("Bar", Results.race(attempts, executor).join().unwrap());
+    }
+
+    @Test
+    void raceWithException() {
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> Result.error("Foo"), () -> {
+            throw new IllegalStateException("Bar");
+        });
+
+        final CompletionException exception = assertThrows(CompletionException.class, () -> Results.race(attempts, executor).join());
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertThrows(IllegalArgumentException.class, () -> Results.race(Collections.<PlainInvokable<Result<String, String>>>emptyList(), executor));
+    }
+
+    @Test
+    void hedgeWithoutBackup() {
+        final AtomicInteger backups = new AtomicInteger();
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> Result.ok("Foo"), () -> {
+            backups.incrementAndGet();
+            return Result.ok("Bar");
+        });
+
+        assertEquals("Foo", Results.hedge(Duration.ofSeconds(1), attempts, executor).join().unwrap());
+        sleep(20);
+        assertEquals(0, backups.get());
+    }
+
+    @Test
+    void hedgeAfterDelay() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> blockUntilInterrupted(started, interrupted), () -> {
+            await(started);
+            return Result.ok("Backup");
+        });
+
+        assertEquals("Backup", Results.hedge(Duration.ofMillis(10), attempts, executor).join().unwrap());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void hedgeAfterError() throws Exception {
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> Result.error("Foo"), () -> Result.ok("Bar"));
+
+        assertEquals("Bar", Results.hedge(Duration.ofHours(1), attempts, executor).toCompletableFuture().get(5, TimeUnit.SECONDS).unwrap());
+    }
+
+    @Test
+    void hedgeDelayStartsOverAfterError() throws Exception {
+        final long[] started = new long[3];
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> {
+            started[0] = System.nanoTime();
+            sleep(100);
+            return Result.error("Foo");
+        }, () -> {
+            started[1] = System.nanoTime();
+            return blockUntilInterrupted(new CountDownLatch(1), interrupted);
+        }, () -> {
+            started[2] = System.nanoTime();
+            return Result.ok("Baz");
+        });
+
+        assertEquals("Baz", Results.hedge(Duration.ofMillis(300), attempts, executor).toCompletableFuture().get(5, TimeUnit.SECONDS).unwrap());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        // The timer of the first attempt would have launched the third one 200ms after the second.
+        assertTrue(started[2] - started[1] >= TimeUnit.MILLISECONDS.toNanos(250), "Third attempt started too early.");
+    }
+
+    @Test
+    void raceWithRejectingExecutor() {
+        final ExecutorService shutDown = Executors.newSingleThreadExecutor();
+        shutDown.shutdown();
+        final List<PlainInvokable<Result<String, String>>> attempts = Arrays.asList(() -> Result.ok("Foo"), () -> Result.ok("Bar"));
+
+        final CompletionException raced = assertThrows(CompletionException.class, () -> Results.race(attempts, shutDown).join());
+        assertInstanceOf(RejectedExecutionException.class, raced.getCause());
+        final CompletionException hedged = assertThrows(CompletionException.class, () -> Results.hedge(Duration.ofMillis(1), attempts, shutDown).join());
+        assertInstanceOf(RejectedExecutionException.class, hedged.getCause());
+    }
+
+    @Test
+    void traverseParallelKeepsOrder() throws InterruptedException {
+        final List<Integer> values = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        final Result<List<Integer>, String> result = Results.traverseParallel(values, value -> {
+            sleep(value % 3);
+            return Result.ok(value * 2);
+        }, executor, 16);
+
+        assertEquals(values.stream().map(value -> value * 2).collect(Collectors.toList()), result.unwrap());
+    }
+
+    @Test
+    void traverseParallelFailsFast() throws InterruptedException {
+        final AtomicInteger invoked = new AtomicInteger();
+        final List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final Result<List<Integer>, String> result = Results.traverseParallel(values, value -> {
+            invoked.incrementAndGet();
+            return value == 5 ? Result.error("Foo " + value) : Result.ok(value);
+        }, executor, 1);
+
+        assertEquals("Foo 5", result.unwrapError());
+        assertTrue(invoked.get() < 1000);
+        assertTrue(Results.traverseParallel(Collections.<Integer>emptyList(), value -> Result.<Integer, String>ok(value), executor).unwrap().isEmpty());
+    }
+
+    private static Result<String, String> blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException exception) {
+            interrupted.countDown();
+        }
+        return Result.error("Interrupted");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,155 @@
+package space.provided.rs.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.ops.PlainInvokable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class ValidatedTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void valid() {
+        final Validated<String, String> validated = Validated.valid("Foo");
+        assertTrue(validated.isValid());
+        assertEquals("Foo", validated.unwrap());
+        assertEquals(Collections.emptyList(), validated.errors());
+        assertEquals("Foo", validated.toResult().unwrap());
+    }
+
+    @Test
+    void invalid() {
+        final Validated<String, String> validated = Validated.invalid("Foo");
+        assertTrue(validated.isInvalid());
+        assertThrowsExactly(ValueAccessError.class, validated::unwrap);
+        assertEquals(Collections.singletonList("Foo"), validated.toResult().unwrapError());
+    }
+
+    @Test
+    void fromResult() {
+        assertEquals("Foo", Validated.fromResult(Result.ok("Foo")).unwrap());
+        assertEquals(Collections.singletonList("Bar"), Validated.fromResult(Result.error("Bar")).errors());
+    }
+
+    @Test
+    void andCollectsAllErrors() {
+        final Validated<String, String> validated = Validated.<String, String>valid("Foo")
+                .and(Validated.invalid("Bar"))
+                .and(Validated.valid(1))
+                .and(Validated.invalid("Baz"));
+        assertEquals(Arrays.asList("Bar", "Baz"), validated.errors());
+    }
+
+    @Test
+    void andKeepsValue() {
+        final Validated<String, String> validated = Validated.valid("Foo");
+        assertSame(validated, validated.and(Validated.valid(1)));
+    }
+
+    @Test
+    void map() {
+        assertEquals(3, Validated.<String, String>valid("Foo").map(String::length).unwrap());
+        assertEquals(1, Validated.<String, String>invalid("Foo").map(String::length).errorCount());
+    }
+
+    @Test
+    void map2AndZip() {
+        assertEquals("Foo1", Validated.map2(Validated.<String, String>valid("Foo"), Validated.<Integer, String>valid(1), (name, count) -> name + count).unwrap());
+        assertEquals(Arrays.asList("Foo", "Bar"), Validated.<String, String>invalid("Foo").zip(Validated.<Integer, String>invalid("Bar"), (name, count) -> name + count).errors());
+    }
+
+    @Test
+    void map3() {
+        final Validated<String, String> valid = Validated.map3(Validated.valid("Foo"), Validated.valid(1), Validated.valid(true), (name, count, flag) -> name + count + flag);
+        assertEquals("Foo1true", valid.unwrap());
+
+        final Validated<String, String> invalid = Validated.map3(Validated.<String, String>invalid("Foo"), Validated.<Integer, String>valid(1), Validated.<Boolean, String>invalid("Bar"), (name, count, flag) -> name + count + flag);
+        assertEquals(Arrays.asList("Foo", "Bar"), invalid.errors());
+    }
+
+    @Test
+    void map4AndMap5() {
+        assertEquals("Foo1true2", Validated.map4(Validated.valid("Foo"), Validated.valid(1), Validated.valid(true), Validated.<Long, String>valid(2L), (name, count, flag, size) -> name + count + flag + size).unwrap());
+        final Validated<String, String> invalid = Validated.map5(Validated.<String, String>invalid("Foo"), Validated.<Integer, String>valid(1), Validated.<Boolean, String>invalid("Bar"), Validated.<Long, String>valid(2L), Validated.<Double, String>invalid("Baz"), (name, count, flag, size, ratio) -> name + count + flag + size + ratio);
+        assertEquals(Arrays.asList("Foo", "Bar", "Baz"), invalid.errors());
+    }
+
+    @Test
+    void validatorCollectsInOrder() {
+        final Validator<String> validator = new Validator<>();
+        for (int i = 0; i < 10; i++) {
+            validator.require(i % 2 == 0, "Field " + i);
+        }
+        validator.check(Result.error("Result")).check(Validated.invalid("Validated"));
+
+        final Validated<String, String> validated = validator.finish(() -> "Never");
+        assertEquals(7, validated.errorCount());
+        assertEquals("Field 1", validated.errors().get(0));
+        assertEquals("Validated", validated.errors().get(6));
+    }
+
+    @Test
+    void validatorReadsValues() {
+        final Validator<String> validator = new Validator<>();
+        final String name = validator.valueOr(Result.ok("Foo"), "");
+        final Integer age = validator.valueOr(Result.error("Age"), -1);
+
+        assertEquals("Foo", name);
+        assertEquals(-1, age);
+        assertEquals(Collections.singletonList("Age"), validator.toResult(() -> name + age).unwrapError());
+    }
+
+    @Test
+    void validatorFinishIsUnaffectedByLaterErrors() {
+        final Validator<String> validator = new Validator<String>().add("Foo");
+        final Validated<Void, String> validated = validator.finish();
+        validator.add("Bar");
+        assertEquals(Collections.singletonList("Foo"), validated.errors());
+    }
+
+    @Test
+    void validatorWithoutErrorsDoesNotAllocate() {
+        final Validator<String> validator = new Validator<>();
+        final Result<String, String> ok = Result.ok("Foo");
+        final Validated<Integer, String> valid = Validated.valid(1);
+
+        assertNoAllocation(() -> {
+            validator.require(true, "Foo").check(ok).check(valid).valueOr(ok, "");
+            validator.finish();
+        });
+    }
+
+    @Test
+    void validateAsync() {
+        final List<PlainInvokable<Validated<?, String>>> checks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int index = i;
+            checks.add(() -> index % 5 == 0 ? Validated.invalid("Field " + index) : Validated.valid(index));
+        }
+
+        final Validated<Void, String> validated = Validated.validateAsync(checks, executor).join();
+        assertEquals(Arrays.asList("Field 0", "Field 5", "Field 10", "Field 15"), validated.errors());
+    }
+
+    @Test
+    void validateAsyncWithoutErrors() {
+        final List<PlainInvokable<Validated<?, String>>> checks = Collections.nCopies(5, () -> Validated.valid(1));
+        assertTrue(Validated.validateAsync(checks, executor).join().isValid());
+    }
+}
@@ -0,0 +1,183 @@
+package space.provided.rs.sync;
+
+import org.junit.jupiter.api.Test;
+import space.provided.rs.result.Result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static space.provided.rs.Allocations.assertNoAllocation;
+
+class ChannelTest {
+
+    @Test
+    void sendAndReceive() throws InterruptedException {
+        final Channel<String> channel = Channel.bounded(4);
+
+        assertTrue(channel.sender().send("Foo").isOk());
+        assertTrue(channel.sender().trySend("Bar").isOk());
+        assertEquals(2, channel.size());
+        assertEquals("Foo", channel.receiver().recv().unwrap());
+        assertEquals("Bar", channel.receiver().tryRecv().unwrap());
+        assertTrue(channel.receiver().tryRecv().isNone());
+    }
+
+    @Test
+    void full() {
+        assertEquals(2, Channel.bounded(1).capacity());
+        final Channel<Integer> channel = Channel.bounded(3);
+        assertEquals(4, channel.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(channel.sender().trySend(i).isOk());
+        }
+
+        final SendError<Integer> error = channel.sender().trySend(4).unwrapError();
+        assertTrue(error.isFull());
+        assertEquals(4, error.value());
+    }
+
+    @Test
+    void sendersDisconnected() throws InterruptedException {
+        final Channel<String> channel = Channel.bounded(4);
+        final Sender<String> second = channel.sender().duplicate();
+        channel.sender().send("Foo");
+        channel.sender().close();
+        second.send("Bar");
+        second.close();
+
+        assertFalse(channel.receiver().isDisconnected());
+        assertEquals("Foo", channel.receiver().recv().unwrap());
+        assertEquals("Bar", channel.receiver().recv(Duration.ofSeconds(1)).unwrap());
+        assertEquals(RecvError.DISCONNECTED, channel.receiver().recv().unwrapError());
+        assertTrue(channel.receiver().isDisconnected());
+        assertThrows(IllegalStateException.class, () -> second.send("Baz"));
+    }
+
+    @Test
+    void receiversDisconnected() throws InterruptedException {
+        final Channel<String> channel = Channel.bounded(4);
+        channel.sender().send("Foo");
+        channel.receiver().close();
+
+        final SendError<String> error = channel.sender().send("Bar").unwrapError();
+        assertTrue(error.isDisconnected());
+        assertEquals("Bar", error.value());
+        assertTrue(channel.sender().isDisconnected());
+        assertEquals(0, channel.size());
+    }
+
+    @Test
+    void timeouts() throws InterruptedException {
+        final Channel<String> channel = Channel.bounded(1);
+
+        assertEquals(RecvError.TIMEOUT, channel.receiver().recv(Duration.ofMillis(5)).unwrapError());
+        channel.sender().send("Foo");
+        channel.sender().send("Bar");
+        assertTrue(channel.sender().send("Baz", Duration.ofMillis(5)).unwrapError().isFull());
+    }
+
+    @Test
+    void blockedSenderResumes() throws Exception {
+        final Channel<Integer> channel = Channel.bounded(2);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Result<Void, SendError<Integer>>> future = executor.submit(() -> {
+                for (int i = 0; i < 2; i++) {
+                    channel.sender().send(i);
+                }
+                return channel.sender().send(2);
+            });
+            assertEquals(0, channel.receiver().recv().unwrap());
+            assertTrue(future.get(5, TimeUnit.SECONDS).isOk());
+            assertEquals(1, channel.receiver().recv().unwrap());
+            assertEquals(2, channel.receiver().recv().unwrap());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void drainTo() {
+        final Channel<Integer> channel = Channel.bounded(8);
+        for (int i = 0; i < 5; i++) {
+            channel.sender().trySend(i);
+        }
+        final List<Integer> values = new ArrayList<>();
+
+        assertEquals(3, channel.receiver().drainTo(values, 3));
+        assertEquals(2, channel.receiver().drainTo(values));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), values);
+    }
+
+    @Test
+    void manyProducersAndConsumers() throws Exception {
+        final Channel<Long> channel = Channel.bounded(64);
+        final int producers = 4;
+        final int consumers = 4;
+        final long perProducer = 20_000;
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+        final ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            final List<Sender<Long>> senders = new ArrayList<>();
+            final List<Receiver<Long>> receivers = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                senders.add(i == 0 ? channel.sender() : channel.sender().duplicate());
+            }
+            for (int i = 0; i < consumers; i++) {
+                receivers.add(i == 0 ? channel.receiver() : channel.receiver().duplicate());
+            }
+            for (Sender<Long> sender : senders) {
+                futures.add(executor.submit(() -> {
+                    try (Sender<Long> owned = sender) {
+                        for (long value = 1; value <= perProducer; value++) {
+                            assertTrue(owned.send(value).isOk());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Receiver<Long> receiver : receivers) {
+                futures.add(executor.submit(() -> {
+                    Result<Long, RecvError> received;
+                    while ((received = receiver.recv()).isOk()) {
+                        sum.addAndGet(received.unwrap());
+                        count.incrementAndGet();
+                    }
+                    assertEquals(RecvError.DISCONNECTED, received.unwrapError());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(producers * perProducer, count.get());
+        assertEquals(producers * perProducer * (perProducer + 1) / 2, sum.get());
+    }
+
+    @Test
+    void steadyStateDoesntAllocate() {
+        final Channel<Integer> channel = Channel.bounded(16);
+        final List<Integer> values = new ArrayList<>(16);
+        final Integer value = 42;
+
+        assertNoAllocation(() -> {
+            channel.sender().trySend(value);
+            channel.sender().trySend(value);
+            channel.receiver().drainTo(values);
+            values.clear();
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package space.provided.rs.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import space.provided.rs.error.ValueAccessError;
+import space.provided.rs.option.Option;
+import space.provided.rs.result.Result;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventsIT {
+
+    @Test
+    void emitsErrorEvents() throws Exception {
+        final List<RecordedEvent> events = record(() -> {
+            Result.error(42);
+            assertThrows(ValueAccessError.class, () -> Option.none().unwrap());
+        });
+
+        final RecordedEvent created = single(events, "space.provided.rs.ErrorCreated");
+        assertEquals(Integer.class.getName(), created.getClass("errorClass").getName());
+        assertNotNull(created.getStackTrace());
+
+        final RecordedEvent accessed = single(events, "space.provided.rs.ValueAccessError");
+        assertEquals("Called `unwrap` on NONE Option.", accessed.getString("message"));
+    }
+
+    @Test
+    void errorEventsAreDisabledByDefault() throws Exception {
+        final Path file = Files.createTempFile("rs4j", ".jfr");
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.start();
+            Result.error(42);
+            assertThrows(ValueAccessError.class, () -> Option.none().unwrap());
+            recording.stop();
+            recording.dump(file);
+            assertTrue(RecordingFile.readAllEvents(file).stream()
+                    .noneMatch(event -> event.getEventType().getName().startsWith("space.provided.rs.")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void emitsSlowInvokableEvents() throws Exception {
+        final List<RecordedEvent> events = record(() -> {
+            Result.<String, String>ok("Foo").andThen(value -> {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(30));
+                return Result.ok(value);
+            });
+            Result.<String, String>ok("Foo").andThen(Result::ok);
+        });
+
+        final RecordedEvent slow = single(events, "space.provided.rs.SlowInvokable");
+        assertEquals("Result.andThen", slow.getString("combinator"));
+        assertTrue(slow.getDuration().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws Exception {
+        final Path file = Files.createTempFile("rs4j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("space.provided.rs.ErrorCreated");
+            recording.enable("space.provided.rs.ValueAccessError");
+            recording.enable("space.provided.rs.SlowInvokable").withThreshold(Duration.ofMillis(20));
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        final List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}